@@ -2,8 +2,10 @@ package com.app.chess;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class ChessApplication {
     public static void main(String[] args) {
         SpringApplication.run(ChessApplication.class, args);
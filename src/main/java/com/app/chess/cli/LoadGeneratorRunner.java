@@ -0,0 +1,120 @@
+package com.app.chess.cli;
+
+import com.app.chess.exception.GlobalExceptionHandler;
+import com.app.chess.service.GameService;
+import com.app.chess.service.load.HttpTarget;
+import com.app.chess.service.load.InProcessTarget;
+import com.app.chess.service.load.LoadGenerator;
+import com.app.chess.service.load.LoadTarget;
+import com.app.chess.service.load.ThinkTime;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * Load mode: with {@code chess.load.games} set, the application plays that
+ * many self-play games against each of {@code chess.load.targets}
+ * ({@code in-process}: {@link GameService} directly; {@code http}: the API of
+ * {@code chess.load.url}, by default this very server), prints throughput,
+ * latency and errors per target and exits with status 0 when no request
+ * failed and 1 otherwise.
+ */
+@Component
+@ConditionalOnProperty(name = "chess.load.games")
+public class LoadGeneratorRunner implements ApplicationRunner {
+
+    private final ConfigurableApplicationContext context;
+    private final Environment environment;
+    private final GameService service;
+    private final GlobalExceptionHandler handler;
+    private final ObjectMapper objectMapper;
+    private final LoadGenerator.Settings settings;
+    private final List<String> targets;
+    private final String url;
+
+    public LoadGeneratorRunner(ConfigurableApplicationContext context, Environment environment,
+                               GameService service, GlobalExceptionHandler handler, ObjectMapper objectMapper,
+                               @Value("${chess.load.games}") int games,
+                               @Value("${chess.load.targets:in-process,http}") String targets,
+                               @Value("${chess.load.url:}") String url,
+                               @Value("${chess.load.concurrency:16}") int concurrency,
+                               @Value("${chess.load.player:random}") String player,
+                               @Value("${chess.load.engine-nodes:5000}") long engineNodes,
+                               @Value("${chess.load.think-time:none}") String thinkTime,
+                               @Value("${chess.load.max-plies:400}") int maxPlies,
+                               @Value("${chess.load.seed:1}") long seed) {
+        this.context = context;
+        this.environment = environment;
+        this.service = service;
+        this.handler = handler;
+        this.objectMapper = objectMapper;
+        this.targets = Arrays.stream(targets.split(",")).map(String::trim).filter(s -> !s.isEmpty()).toList();
+        this.url = url;
+        LoadGenerator.Player p;
+        try {
+            p = LoadGenerator.Player.valueOf(player.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException("chess.load.player deve ser random ou engine");
+        }
+        this.settings = new LoadGenerator.Settings(games, concurrency, p, engineNodes, ThinkTime.parse(thinkTime),
+                maxPlies, seed);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        long errors = 0;
+        for (String name : targets) {
+            LoadGenerator.Report report = new LoadGenerator(settings).run(target(name));
+            print(report);
+            errors += report.errorCount();
+        }
+        long failed = errors;
+        System.exit(SpringApplication.exit(context, () -> failed == 0 ? 0 : 1));
+    }
+
+    private LoadTarget target(String name) {
+        return switch (name) {
+            case "in-process" -> new InProcessTarget(service, handler);
+            case "http" -> new HttpTarget(url.isBlank()
+                    ? "http://localhost:" + environment.getProperty("local.server.port", "8080") : url, objectMapper);
+            default -> throw new IllegalStateException("chess.load.targets: alvo desconhecido " + name);
+        };
+    }
+
+    private void print(LoadGenerator.Report report) {
+        System.out.printf("Carga %s: %d partida(s), %d lance(s), %d requisição(ões) em %d ms com %d bot(s) %s%n",
+                report.target(), report.games(), report.plies(), report.requests(), report.millis(),
+                Math.min(settings.concurrency(), settings.games()), settings.player().name().toLowerCase(Locale.ROOT));
+        System.out.printf("  %d lances/s, %d requisições/s%n", report.movesPerSecond(), report.requestsPerSecond());
+        System.out.printf("  %-8s %8s %9s %9s %9s %9s %9s  (µs)%n", "operação", "qtd", "p50", "p90", "p99", "p99.9",
+                "máx");
+        report.latency().forEach((op, s) -> System.out.printf("  %-8s %8d %9d %9d %9d %9d %9d%n",
+                op, s.count(), s.p50(), s.p90(), s.p99(), s.p999(), s.max()));
+        report.latency().forEach((op, s) -> {
+            StringJoiner line = new StringJoiner(" ");
+            for (long[] bucket : s.buckets()) line.add("≤" + bucket[0] + "µs:" + bucket[1]);
+            System.out.printf("  %-8s %s%n", op, line);
+        });
+        System.out.println("  Resultados: " + join(report.outcomes()));
+        System.out.println("  Erros: " + (report.errors().isEmpty() ? "nenhum" : ""));
+        report.errors().forEach((type, n) -> System.out.println("    " + n + " × " + type));
+    }
+
+    private static String join(Map<String, Long> counts) {
+        StringJoiner out = new StringJoiner(", ");
+        counts.forEach((k, v) -> out.add(k + "=" + v));
+        return out.toString();
+    }
+}
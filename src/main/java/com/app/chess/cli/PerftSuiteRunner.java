@@ -0,0 +1,62 @@
+package com.app.chess.cli;
+
+import com.app.chess.service.rules.PerftSuite;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Batch mode: with {@code chess.perft-suite.file} set, the application runs
+ * that {@link PerftSuite}, prints the report and exits with status 0 when
+ * every count matched and 1 otherwise, so a release pipeline can gate on it.
+ */
+@Component
+@ConditionalOnProperty(name = "chess.perft-suite.file")
+public class PerftSuiteRunner implements ApplicationRunner {
+
+    private final ConfigurableApplicationContext context;
+    private final Path file;
+    private final int maxDepth;
+    private final int parallelism;
+
+    public PerftSuiteRunner(ConfigurableApplicationContext context,
+                            @Value("${chess.perft-suite.file}") String file,
+                            @Value("${chess.perft-suite.max-depth:6}") int maxDepth,
+                            @Value("${chess.perft-suite.parallelism:0}") int parallelism) {
+        this.context = context;
+        this.file = Path.of(file);
+        this.maxDepth = maxDepth;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        PerftSuite.Report report;
+        try (BufferedReader in = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            report = new PerftSuite(pool, maxDepth).run(in);
+        } finally {
+            pool.shutdown();
+        }
+
+        System.out.printf("Suíte %s: %d posição(ões), %d contagem(ns), %d pulada(s) (profundidade > %d)%n",
+                file, report.positions(), report.checks(), report.skipped(), maxDepth);
+        System.out.printf("%d nós em %d ms com %d thread(s): %d posições/s, %d nós/s%n",
+                report.nodes(), report.millis(), parallelism, report.positionsPerSecond(), report.nodesPerSecond());
+        report.messages().forEach(m -> System.out.println("  " + m));
+        System.out.println(report.passed() ? "OK" : "FALHOU: " + report.failures() + " divergência(s)");
+
+        int status = report.passed() ? 0 : 1;
+        System.exit(SpringApplication.exit(context, () -> status));
+    }
+}
@@ -0,0 +1,26 @@
+package com.app.chess.controller;
+
+import com.app.chess.dto.AnalysisRequest;
+import com.app.chess.dto.AnalysisResponse;
+import com.app.chess.service.AnalysisService;
+import jakarta.validation.Valid;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/analysis")
+public class AnalysisController {
+
+    private final AnalysisService service;
+
+    public AnalysisController(AnalysisService service) {
+        this.service = service;
+    }
+
+    @PostMapping
+    public AnalysisResponse analyze(@Valid @RequestBody AnalysisRequest req) {
+        return service.analyze(req);
+    }
+}
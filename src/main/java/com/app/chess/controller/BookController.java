@@ -0,0 +1,41 @@
+package com.app.chess.controller;
+
+import com.app.chess.dto.BookBuildResponse;
+import com.app.chess.dto.BookResponse;
+import com.app.chess.service.BookService;
+import com.app.chess.service.fen.FenCodec;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.InputStream;
+
+@RestController
+@RequestMapping("/api/book")
+public class BookController {
+
+    private final BookService service;
+
+    public BookController(BookService service) {
+        this.service = service;
+    }
+
+    @GetMapping
+    public BookResponse lookup(@RequestParam(defaultValue = FenCodec.INITIAL_FEN) String fen) {
+        return service.lookup(fen);
+    }
+
+    @PostMapping("/build")
+    public BookBuildResponse buildFromGames() {
+        return service.buildFromGames();
+    }
+
+    @PostMapping(value = "/import", consumes = {"application/x-chess-pgn", MediaType.TEXT_PLAIN_VALUE,
+            MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public BookBuildResponse buildFromPgn(InputStream body) {
+        return service.buildFromPgn(body);
+    }
+}
@@ -0,0 +1,112 @@
+package com.app.chess.controller;
+
+import com.app.chess.exception.ApiError;
+import com.app.chess.service.cluster.ClusterRouter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.net.http.HttpResponse;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Cluster mode: a request under {@code /api/games/{id}} for a game owned by
+ * another node is sent on to that node and its response relayed as is
+ * (status, body, ETag). Event streams are redirected (307) instead, so a
+ * long-lived stream does not hold a thread on the forwarding node. Only a
+ * request carrying the cluster secret in {@link ClusterRouter#FORWARDED} is
+ * served here regardless of the owner.
+ */
+@Component
+public class ClusterRoutingFilter extends OncePerRequestFilter {
+
+    private static final Pattern GAME_PATH = Pattern.compile("^/api/games/(\\d+)(/.*)?$");
+    private static final List<String> REQUEST_HEADERS = List.of(
+            HttpHeaders.CONTENT_TYPE, HttpHeaders.ACCEPT, HttpHeaders.IF_NONE_MATCH);
+    private static final List<String> RESPONSE_HEADERS = List.of(
+            HttpHeaders.CONTENT_TYPE, HttpHeaders.ETAG, HttpHeaders.CACHE_CONTROL, HttpHeaders.VARY);
+
+    private final ClusterRouter router;
+    private final ObjectMapper objectMapper;
+
+    public ClusterRoutingFilter(ClusterRouter router, ObjectMapper objectMapper) {
+        this.router = router;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !router.isEnabled() || router.isForwarded(request.getHeader(ClusterRouter.FORWARDED));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Matcher m = GAME_PATH.matcher(request.getRequestURI());
+        long gameId;
+        try {
+            gameId = m.matches() ? Long.parseLong(m.group(1)) : -1;
+        } catch (NumberFormatException e) {
+            gameId = -1;
+        }
+        if (gameId < 0 || router.isLocal(gameId)) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        String owner = router.owner(gameId);
+        String pathAndQuery = request.getRequestURI()
+                + (request.getQueryString() == null ? "" : "?" + request.getQueryString());
+        if ("/events".equals(m.group(2))) {
+            response.setStatus(HttpStatus.TEMPORARY_REDIRECT.value());
+            response.setHeader(HttpHeaders.LOCATION, owner + pathAndQuery);
+            return;
+        }
+
+        Map<String, String> headers = new LinkedHashMap<>();
+        for (String name : REQUEST_HEADERS) {
+            String value = request.getHeader(name);
+            if (value != null) headers.put(name, value);
+        }
+        HttpResponse<byte[]> relayed;
+        try {
+            relayed = router.forward(owner, request.getMethod(), pathAndQuery, headers,
+                    request.getInputStream().readAllBytes());
+        } catch (IOException e) {
+            error(response, "Nó dono da partida indisponível: " + owner);
+            return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            error(response, "Interrompido ao encaminhar para " + owner);
+            return;
+        }
+
+        response.setStatus(relayed.statusCode());
+        for (String name : RESPONSE_HEADERS) {
+            relayed.headers().firstValue(name).ifPresent(v -> response.setHeader(name, v));
+        }
+        byte[] body = relayed.body();
+        if (body.length > 0) {
+            response.setContentLength(body.length);
+            response.getOutputStream().write(body);
+        }
+    }
+
+    private void error(HttpServletResponse response, String message) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getOutputStream().write(objectMapper.writeValueAsBytes(new ApiError(message)));
+    }
+}
@@ -1,52 +1,157 @@
 package com.app.chess.controller;
 
-import com.app.chess.dto.BoardResponse;
+import com.app.chess.dto.BatchMoveRequest;
+import com.app.chess.dto.BatchMoveResponse;
+import com.app.chess.dto.ClockResponse;
+import com.app.chess.dto.CreateGameRequest;
 import com.app.chess.dto.CreateGameResponse;
-import com.app.chess.dto.GameDetailsResponse;
+import com.app.chess.dto.GamePageResponse;
+import com.app.chess.dto.LegalMovesResponse;
 import com.app.chess.dto.MakeMoveRequest;
+import com.app.chess.dto.MultiGameMovesRequest;
+import com.app.chess.dto.PgnImportResponse;
 import com.app.chess.model.Game;
+import com.app.chess.model.GameStatus;
+import com.app.chess.repository.GameFilter;
 import com.app.chess.service.GameService;
+import com.app.chess.service.PgnImportService;
+import com.app.chess.service.cache.RenderedView;
+import com.app.chess.service.clock.Clock;
+import com.app.chess.service.cluster.ClusterRouter;
+import com.app.chess.service.wire.BinaryWire;
+import com.app.chess.service.wire.WireFormat;
 import jakarta.validation.Valid;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
 @RequestMapping("/api/games")
 public class GameController {
 
+    private static final String PGN = "application/x-chess-pgn";
+
     private final GameService service;
+    private final PgnImportService pgnImport;
+    private final ClusterRouter router;
 
-    public GameController(GameService service) {
+    public GameController(GameService service, PgnImportService pgnImport, ClusterRouter router) {
         this.service = service;
+        this.pgnImport = pgnImport;
+        this.router = router;
     }
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
-    public CreateGameResponse createGame() {
-        Game g = service.createGame();
-        return new CreateGameResponse(g.getId(), g.getStatus().name(), g.getTurn(), g.getWinner(), g.getBoardState());
+    public CreateGameResponse createGame(@Valid @RequestBody(required = false) CreateGameRequest req) {
+        Game g = req == null || req.initialSeconds() == null && req.incrementSeconds() == null
+                ? service.createGame()
+                : service.createGame(seconds(req.initialSeconds()), seconds(req.incrementSeconds()));
+        return new CreateGameResponse(g.getId(), g.getStatus().name(), g.getTurn(), g.getWinner(), g.getBoardState(),
+                ClockResponse.of(Clock.of(g)));
+    }
+
+    private static long seconds(Integer seconds) {
+        return seconds == null ? 0 : seconds * 1000L;
     }
 
+    /**
+     * Served from the body cached for the game's current version; a matching
+     * {@code If-None-Match} gets 304 with no body. JSON unless {@code Accept}
+     * prefers {@link BinaryWire#MEDIA_TYPE}.
+     */
     @GetMapping("/{id}")
-    public GameDetailsResponse getGame(@PathVariable Long id) {
-        return service.getGame(id);
+    public ResponseEntity<byte[]> getGame(@PathVariable Long id,
+                                          @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                                          WebRequest request) {
+        WireFormat format = WireFormat.of(accept);
+        return cached(service.getGameView(id, format), format, request);
     }
 
     @GetMapping("/{id}/board")
-    public BoardResponse getBoard(@PathVariable Long id) {
-        return service.getBoard(id);
+    public ResponseEntity<byte[]> getBoard(@PathVariable Long id,
+                                           @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                                           WebRequest request) {
+        WireFormat format = WireFormat.of(accept);
+        return cached(service.getBoardView(id, format), format, request);
+    }
+
+    private static ResponseEntity<byte[]> cached(RenderedView view, WireFormat format, WebRequest request) {
+        if (request.checkNotModified(view.etag())) return null;
+        return ResponseEntity.ok()
+                .eTag(view.etag())
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT)
+                .contentType(format.mediaType())
+                .body(view.body());
+    }
+
+    @GetMapping("/{id}/legal-moves")
+    public LegalMovesResponse getLegalMoves(@PathVariable Long id) {
+        return service.getLegalMoves(id);
+    }
+
+    @GetMapping(value = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter events(@PathVariable Long id) {
+        return service.subscribe(id);
     }
 
     @GetMapping
-    public List<Game> listGames() {
-        return service.listGames();
+    public GamePageResponse listGames(@RequestParam(required = false) GameStatus status,
+                                      @RequestParam(required = false) String turn,
+                                      @RequestParam(required = false) String winner,
+                                      @RequestParam(required = false) String cursor,
+                                      @RequestParam(defaultValue = "50") int limit) {
+        return service.listGames(new GameFilter(status, turn, winner), cursor, limit);
+    }
+
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    public StreamingResponseBody exportGames(@RequestParam(required = false) GameStatus status,
+                                             @RequestParam(required = false) String turn,
+                                             @RequestParam(required = false) String winner) {
+        GameFilter filter = new GameFilter(status, turn, winner);
+        return out -> service.exportGames(filter, out);
     }
 
     @PostMapping("/{id}/moves")
     @ResponseStatus(HttpStatus.CREATED)
     public void makeMove(@PathVariable Long id, @Valid @RequestBody MakeMoveRequest req) {
-        service.makeMove(id, req.fromSquare(), req.toSquare(), req.playerColor());
+        service.makeMove(id, req.fromSquare(), req.toSquare(), req.playerColor(), req.promotion());
+    }
+
+    @PostMapping("/{id}/moves/batch")
+    public BatchMoveResponse makeMoves(@PathVariable Long id, @Valid @RequestBody BatchMoveRequest req) {
+        return service.makeMoves(id, req.moves(), req.isAtomic());
+    }
+
+    /**
+     * In cluster mode each game's batch runs on the node owning the game.
+     */
+    @PostMapping("/moves/batch")
+    public List<BatchMoveResponse> makeMoves(@Valid @RequestBody MultiGameMovesRequest req,
+                                             @RequestHeader(value = ClusterRouter.FORWARDED, required = false) String forwarded) {
+        return router.makeMoves(req.games(), req.isAtomic(), router.isForwarded(forwarded), service::makeMoves);
+    }
+
+    @GetMapping(value = "/{id}/pgn", produces = PGN)
+    public String exportPgn(@PathVariable Long id) {
+        return service.exportPgn(id);
+    }
+
+    /**
+     * Body is the raw PGN file, read as a stream (any size).
+     */
+    @PostMapping(value = "/import", consumes = {PGN, MediaType.TEXT_PLAIN_VALUE, MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public PgnImportResponse importPgn(InputStream body) {
+        return pgnImport.importPgn(body);
     }
 }
@@ -0,0 +1,27 @@
+package com.app.chess.controller;
+
+import com.app.chess.dto.PerftResponse;
+import com.app.chess.service.PerftService;
+import com.app.chess.service.fen.FenCodec;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/perft")
+public class PerftController {
+
+    private final PerftService service;
+
+    public PerftController(PerftService service) {
+        this.service = service;
+    }
+
+    @GetMapping
+    public PerftResponse perft(@RequestParam(defaultValue = FenCodec.INITIAL_FEN) String fen,
+                               @RequestParam(defaultValue = "4") int depth,
+                               @RequestParam(defaultValue = "false") boolean divide) {
+        return service.perft(fen, depth, divide);
+    }
+}
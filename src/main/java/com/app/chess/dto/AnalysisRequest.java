@@ -0,0 +1,26 @@
+package com.app.chess.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * Position to analyse and the search budget. Any combination of limits may be
+ * given and the first one reached stops the search; with none, the default
+ * time applies. Time is always capped by {@code chess.analysis.max-millis}.
+ */
+public record AnalysisRequest(
+        @NotBlank(message = "fen é obrigatório")
+        String fen,
+
+        @Min(value = 1, message = "depth deve estar entre 1 e 64")
+        @Max(value = 64, message = "depth deve estar entre 1 e 64")
+        Integer depth,
+
+        @Min(value = 1, message = "millis deve ser positivo")
+        Long millis,
+
+        @Min(value = 1, message = "nodes deve ser positivo")
+        Long nodes
+) {
+}
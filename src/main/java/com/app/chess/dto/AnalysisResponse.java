@@ -0,0 +1,22 @@
+package com.app.chess.dto;
+
+import java.util.List;
+
+/**
+ * Search result in UCI notation. {@code score} is in centipawns for the side
+ * to move; when a mate was found it is null and {@code mate} holds the moves
+ * to mate (negative when the side to move is the one mated).
+ * {@code bestMove} is null when the position has no legal move.
+ */
+public record AnalysisResponse(
+        String fen,
+        String bestMove,
+        Integer score,
+        Integer mate,
+        int depth,
+        long nodes,
+        long millis,
+        long nodesPerSecond,
+        List<String> pv
+) {
+}
@@ -0,0 +1,25 @@
+package com.app.chess.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Moves applied in order to one game.
+ *
+ * @param atomic true (default): any failure discards the whole batch;
+ *               false: moves before the first failure are kept
+ */
+public record BatchMoveRequest(
+        @NotEmpty(message = "moves não pode ser vazio")
+        @Size(max = 1000, message = "no máximo 1000 lances por lote")
+        List<@Valid MakeMoveRequest> moves,
+
+        Boolean atomic
+) {
+    public boolean isAtomic() {
+        return atomic == null || atomic;
+    }
+}
@@ -0,0 +1,12 @@
+package com.app.chess.dto;
+
+/**
+ * Outcome of a batch on one game.
+ *
+ * @param applied     moves kept (0 when an atomic batch failed)
+ * @param failedIndex index of the first rejected move, or null when all were applied
+ * @param error       why that move was rejected
+ */
+public record BatchMoveResponse(Long gameId, int applied, Integer failedIndex, String error,
+                                String fen, String turn, String status) {
+}
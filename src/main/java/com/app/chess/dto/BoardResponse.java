@@ -7,6 +7,7 @@ import java.util.List;
  * - ranks: list of 8 rows (rank 8 -> 1)
  * - files: ["a","b","c","d","e","f","g","h"]
  * - grid: 8x8 where each entry is a single-character string ("P","p","R","." etc.)
+ * - clock: null for an untimed game
  */
 public record BoardResponse(
         List<String> files,
@@ -15,6 +16,7 @@ public record BoardResponse(
         String fen,
         String turn,
         String winner,
-        String status
+        String status,
+        ClockResponse clock
 ) {
 }
@@ -0,0 +1,7 @@
+package com.app.chess.dto;
+
+/**
+ * Result of a book build: games counted and skipped, records written, file size and elapsed time.
+ */
+public record BookBuildResponse(long games, long skipped, int entries, long bytes, long millis) {
+}
@@ -0,0 +1,7 @@
+package com.app.chess.dto;
+
+/**
+ * A book move (UCI) with the results of the games that played it.
+ */
+public record BookMove(String move, int games, int whiteWins, int draws, int blackWins) {
+}
@@ -0,0 +1,9 @@
+package com.app.chess.dto;
+
+import java.util.List;
+
+/**
+ * Book moves of a position, most played first. Empty when the position is not in the book.
+ */
+public record BookResponse(String fen, int games, List<BookMove> moves) {
+}
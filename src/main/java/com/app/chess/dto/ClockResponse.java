@@ -0,0 +1,23 @@
+package com.app.chess.dto;
+
+import com.app.chess.service.clock.Clock;
+
+import java.time.Instant;
+
+/**
+ * Clock of a timed game. The times left are as of {@code turnStartedAt}: the
+ * side to move's clock has been running since then, so a client shows
+ * {@code whiteMillis} or {@code blackMillis} minus the time elapsed.
+ */
+public record ClockResponse(long initialMillis, long incrementMillis, long whiteMillis, long blackMillis,
+                            String turnStartedAt) {
+
+    /**
+     * @return null for an untimed game
+     */
+    public static ClockResponse of(Clock clock) {
+        if (!clock.timed()) return null;
+        return new ClockResponse(clock.baseMs(), clock.incrementMs(), clock.whiteMs(), clock.blackMs(),
+                Instant.ofEpochMilli(clock.turnStartedAt()).toString());
+    }
+}
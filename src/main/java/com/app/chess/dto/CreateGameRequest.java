@@ -0,0 +1,22 @@
+package com.app.chess.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+
+/**
+ * Optional body of POST /api/games. Without {@code initialSeconds} the game
+ * has no clock (only the abandonment timeout applies).
+ *
+ * @param initialSeconds time per side, e.g. 300 for 5+3
+ * @param incrementSeconds added after each move, e.g. 3 for 5+3
+ */
+public record CreateGameRequest(
+        @Min(value = 1, message = "initialSeconds deve ser positivo")
+        @Max(value = 86400, message = "initialSeconds deve ser no máximo 86400")
+        Integer initialSeconds,
+
+        @Min(value = 0, message = "incrementSeconds não pode ser negativo")
+        @Max(value = 3600, message = "incrementSeconds deve ser no máximo 3600")
+        Integer incrementSeconds
+) {
+}
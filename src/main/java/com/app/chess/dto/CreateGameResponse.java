@@ -1,4 +1,4 @@
 package com.app.chess.dto;
 
-public record CreateGameResponse(Long gameId, String status, String turn, String winner, String fen) {
+public record CreateGameResponse(Long gameId, String status, String turn, String winner, String fen, ClockResponse clock) {
 }
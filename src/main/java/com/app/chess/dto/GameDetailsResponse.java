@@ -8,9 +8,13 @@ public record GameDetailsResponse(
         String turn,
         String winner,
         String fen,
+        ClockResponse clock,
         List<String> board8x8,
         List<MoveItem> moves
 ) {
-    public record MoveItem(String from, String to, String color, String at) {
+    /**
+     * @param promotion "q", "r", "b", "n", or null when the move is not a promotion
+     */
+    public record MoveItem(String from, String to, String promotion, String color, String at) {
     }
 }
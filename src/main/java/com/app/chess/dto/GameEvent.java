@@ -0,0 +1,11 @@
+package com.app.chess.dto;
+
+/**
+ * Pushed to subscribers of a game. {@code move} is the ply just played in UCI
+ * (null in the initial snapshot and when the game ends on time); {@code ply}
+ * counts the moves so far and {@code version} lets a client drop events it
+ * has already seen.
+ */
+public record GameEvent(Long gameId, long version, int ply, String move, String color,
+                        String fen, String turn, String status, String winner, ClockResponse clock) {
+}
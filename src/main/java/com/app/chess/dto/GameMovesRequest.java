@@ -0,0 +1,18 @@
+package com.app.chess.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record GameMovesRequest(
+        @NotNull(message = "gameId é obrigatório")
+        Long gameId,
+
+        @NotEmpty(message = "moves não pode ser vazio")
+        @Size(max = 1000, message = "no máximo 1000 lances por lote")
+        List<@Valid MakeMoveRequest> moves
+) {
+}
@@ -0,0 +1,10 @@
+package com.app.chess.dto;
+
+import java.util.List;
+
+/**
+ * One page of games ordered by creation. Pass {@code nextCursor} back as
+ * {@code cursor} to get the next page; it is null on the last page.
+ */
+public record GamePageResponse(List<GameSummary> items, String nextCursor) {
+}
@@ -0,0 +1,18 @@
+package com.app.chess.dto;
+
+import com.app.chess.model.GameStatus;
+
+import java.time.Instant;
+
+/**
+ * Game row for listings: no board, so it is cheap to read in bulk.
+ */
+public record GameSummary(Long id, String status, String turn, String winner, Instant createdAt) {
+
+    /**
+     * Used by the JPQL constructor expression in the repository.
+     */
+    public GameSummary(Long id, GameStatus status, String turn, String winner, Instant createdAt) {
+        this(id, status.name(), turn, winner, createdAt);
+    }
+}
@@ -0,0 +1,10 @@
+package com.app.chess.dto;
+
+import java.util.List;
+
+/**
+ * Legal moves of the side to move, in UCI notation (e2e4, e7e8n).
+ * Empty when the game is not in progress.
+ */
+public record LegalMovesResponse(Long gameId, String fen, String turn, List<String> moves) {
+}
@@ -14,6 +14,9 @@ public record MakeMoveRequest(
 
         @NotBlank
         @Pattern(regexp = "^(WHITE|BLACK)$", message = "playerColor deve ser WHITE ou BLACK")
-        String playerColor
+        String playerColor,
+
+        @Pattern(regexp = "^[qrbnQRBN]$", message = "promotion deve ser q, r, b ou n")
+        String promotion
 ) {
 }
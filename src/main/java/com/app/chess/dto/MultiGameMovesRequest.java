@@ -0,0 +1,24 @@
+package com.app.chess.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Batches for several games; each game's batch succeeds or fails on its own.
+ *
+ * @param atomic same meaning as in {@link BatchMoveRequest}, applied per game
+ */
+public record MultiGameMovesRequest(
+        @NotEmpty(message = "games não pode ser vazio")
+        @Size(max = 100, message = "no máximo 100 partidas por lote")
+        List<@Valid GameMovesRequest> games,
+
+        Boolean atomic
+) {
+    public boolean isAtomic() {
+        return atomic == null || atomic;
+    }
+}
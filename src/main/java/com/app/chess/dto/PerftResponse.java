@@ -0,0 +1,17 @@
+package com.app.chess.dto;
+
+import java.util.Map;
+
+/**
+ * Perft result: leaf node count at {@code depth}, elapsed time and node rate.
+ * {@code divide} holds the count below each root move when requested.
+ */
+public record PerftResponse(
+        String fen,
+        int depth,
+        long nodes,
+        long millis,
+        long nodesPerSecond,
+        Map<String, Long> divide
+) {
+}
@@ -0,0 +1,12 @@
+package com.app.chess.dto;
+
+import java.util.List;
+
+/**
+ * @param skipped invalid games: illegal moves, a [FEN] tag
+ * @param failed  games lost to any other error, such as a failed write
+ * @param errors  the first few rejected games, as "Partida N: motivo"
+ */
+public record PgnImportResponse(long imported, long skipped, long failed, List<String> errors, long millis,
+                                long gamesPerSecond) {
+}
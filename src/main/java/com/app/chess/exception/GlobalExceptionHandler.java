@@ -1,22 +1,33 @@
 package com.app.chess.exception;
 
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+/**
+ * Errors are always JSON, also for a request that accepts only the binary
+ * views ({@code application/x-chess-binary}).
+ */
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<ApiError> handleNotFound(IllegalArgumentException ex) {
-        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new ApiError(ex.getMessage()));
+        return error(HttpStatus.NOT_FOUND, new ApiError(ex.getMessage()));
     }
 
     @ExceptionHandler(IllegalStateException.class)
     public ResponseEntity<ApiError> handleBusiness(IllegalStateException ex) {
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new ApiError(ex.getMessage()));
+        return error(HttpStatus.BAD_REQUEST, new ApiError(ex.getMessage()));
+    }
+
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ApiError> handleConflict(ObjectOptimisticLockingFailureException ex) {
+        return error(HttpStatus.CONFLICT, new ApiError("Partida alterada por outra requisição, tente novamente"));
     }
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
@@ -25,6 +36,10 @@ public class GlobalExceptionHandler {
                 .findFirst()
                 .map(e -> e.getDefaultMessage())
                 .orElse("Dados inválidos");
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new ApiError(msg));
+        return error(HttpStatus.BAD_REQUEST, new ApiError(msg));
+    }
+
+    private static ResponseEntity<ApiError> error(HttpStatus status, ApiError body) {
+        return ResponseEntity.status(status).contentType(MediaType.APPLICATION_JSON).body(body);
     }
 }
@@ -5,7 +5,12 @@ import jakarta.persistence.*;
 import java.time.Instant;
 
 @Entity
-@Table(name = "games")
+@Table(name = "games", indexes = {
+        @Index(name = "idx_games_position_hash", columnList = "positionHash"),
+        @Index(name = "idx_games_status_created_at", columnList = "status, createdAt"),
+        @Index(name = "idx_games_created_at", columnList = "createdAt"),
+        @Index(name = "idx_games_status_deadline", columnList = "status, deadline")
+})
 public class Game {
 
     @Id
@@ -35,18 +40,75 @@ public class Game {
      */
     private String winner;
 
+    /**
+     * Zobrist hash da posição atual (identidade da posição).
+     */
+    private Long positionHash;
+
+    /**
+     * Histórico de lances compactado (2 bytes por lance + delta de tempo),
+     * lido e gravado inteiro junto com a partida.
+     */
+    @Lob
+    private byte[] moveLog;
+
     @Column(nullable = false, updatable = false)
     private Instant createdAt = Instant.now();
 
+    /**
+     * Controle de tempo: tempo inicial e incremento por lance, em ms.
+     * Nulos em partidas sem relógio.
+     */
+    @Column(updatable = false)
+    private Long clockBaseMs;
+
+    @Column(updatable = false)
+    private Long clockIncrementMs;
+
+    /**
+     * Tempo restante de cada lado (ms) no instante {@code turnStartedAt}, o
+     * último lance ou a criação da partida.
+     */
+    private Long whiteTimeMs;
+
+    private Long blackTimeMs;
+
+    private Instant turnStartedAt;
+
+    /**
+     * Próximo instante em que a partida pode terminar por tempo ou abandono;
+     * nulo quando não há prazo. Só serve para reagendar as partidas ao subir.
+     */
+    private Instant deadline;
+
+    /**
+     * Optimistic lock: bumped on every state change, so a writer working from a
+     * stale copy fails instead of overwriting a newer board.
+     */
+    @Version
+    private Long version;
+
     public Game() {
     }
 
-    public Game(String fen) {
+    public Game(String fen, long positionHash) {
         this.boardState = fen;
+        this.positionHash = positionHash;
         this.turn = "WHITE";
         this.status = GameStatus.EM_EXECUCAO;
     }
 
+    /**
+     * Rebuilds a stored game outside JPA (event-log store), keeping its
+     * identity, creation time and version.
+     */
+    public Game(Long id, Instant createdAt, Long version, String fen, long positionHash) {
+        this(fen, positionHash);
+        this.id = id;
+        this.createdAt = createdAt;
+        this.version = version;
+    }
+
     public Long getId() {
         return id;
     }
@@ -67,6 +129,22 @@ public class Game {
         this.boardState = boardState;
     }
 
+    public Long getPositionHash() {
+        return positionHash;
+    }
+
+    public void setPositionHash(Long positionHash) {
+        this.positionHash = positionHash;
+    }
+
+    public byte[] getMoveLog() {
+        return moveLog;
+    }
+
+    public void setMoveLog(byte[] moveLog) {
+        this.moveLog = moveLog;
+    }
+
     public String getTurn() {
         return turn;
     }
@@ -79,6 +157,58 @@ public class Game {
         return createdAt;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public Long getClockBaseMs() {
+        return clockBaseMs;
+    }
+
+    public void setClockBaseMs(Long clockBaseMs) {
+        this.clockBaseMs = clockBaseMs;
+    }
+
+    public Long getClockIncrementMs() {
+        return clockIncrementMs;
+    }
+
+    public void setClockIncrementMs(Long clockIncrementMs) {
+        this.clockIncrementMs = clockIncrementMs;
+    }
+
+    public Long getWhiteTimeMs() {
+        return whiteTimeMs;
+    }
+
+    public void setWhiteTimeMs(Long whiteTimeMs) {
+        this.whiteTimeMs = whiteTimeMs;
+    }
+
+    public Long getBlackTimeMs() {
+        return blackTimeMs;
+    }
+
+    public void setBlackTimeMs(Long blackTimeMs) {
+        this.blackTimeMs = blackTimeMs;
+    }
+
+    public Instant getTurnStartedAt() {
+        return turnStartedAt;
+    }
+
+    public void setTurnStartedAt(Instant turnStartedAt) {
+        this.turnStartedAt = turnStartedAt;
+    }
+
+    public Instant getDeadline() {
+        return deadline;
+    }
+
+    public void setDeadline(Instant deadline) {
+        this.deadline = deadline;
+    }
+
     public String getWinner() {
         return winner;
     }
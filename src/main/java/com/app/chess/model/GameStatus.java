@@ -1,7 +1,44 @@
 package com.app.chess.model;
 
+/**
+ * A posição de cada valor é o código do status no formato binário
+ * ({@code BinaryWire}): valores novos entram sempre no fim.
+ */
 public enum GameStatus {
     AGUARDANDO_JOGADORES,
     EM_EXECUCAO,
-    FINALIZADO
+    FINALIZADO,
+    /**
+     * Xeque-mate: {@code winner} é quem deu o mate.
+     */
+    XEQUE_MATE,
+    /**
+     * Empate: o lado a jogar não tem lance legal e não está em xeque.
+     */
+    AFOGAMENTO,
+    /**
+     * Empate: a mesma posição ocorreu três vezes (ou cinco, sem reivindicação automática).
+     */
+    EMPATE_REPETICAO,
+    /**
+     * Empate: 50 lances de cada lado sem captura nem movimento de peão.
+     */
+    EMPATE_50_LANCES,
+    /**
+     * Empate automático: 75 lances de cada lado sem captura nem movimento de peão.
+     */
+    EMPATE_75_LANCES,
+    /**
+     * Empate: nenhum dos lados tem material para dar mate.
+     */
+    EMPATE_MATERIAL_INSUFICIENTE,
+    /**
+     * O tempo do lado a jogar acabou: {@code winner} é o adversário, ou empate
+     * se o adversário não tem material para dar mate.
+     */
+    TEMPO_ESGOTADO,
+    /**
+     * Nenhum lance dentro do prazo de abandono: {@code winner} é o lado que não estava a jogar.
+     */
+    ABANDONADA
 }
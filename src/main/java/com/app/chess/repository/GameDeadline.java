@@ -0,0 +1,11 @@
+package com.app.chess.repository;
+
+import java.time.Instant;
+
+/**
+ * Timeout deadline of a game in progress, without the rest of the entity.
+ * {@code deadline} is null for games stored without one; {@code turnStartedAt}
+ * falls back to the creation time, as in {@link com.app.chess.service.clock.Clock#of}.
+ */
+public record GameDeadline(Long id, Instant deadline, Instant turnStartedAt) {
+}
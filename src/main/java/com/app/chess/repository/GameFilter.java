@@ -0,0 +1,9 @@
+package com.app.chess.repository;
+
+import com.app.chess.model.GameStatus;
+
+/**
+ * Optional listing filters; null means "any".
+ */
+public record GameFilter(GameStatus status, String turn, String winner) {
+}
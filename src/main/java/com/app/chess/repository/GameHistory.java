@@ -0,0 +1,9 @@
+package com.app.chess.repository;
+
+import com.app.chess.model.GameStatus;
+
+/**
+ * Outcome and move log of a game, without the rest of the entity.
+ */
+public record GameHistory(GameStatus status, String winner, byte[] moveLog) {
+}
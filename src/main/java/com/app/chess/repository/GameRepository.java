@@ -1,7 +1,27 @@
 package com.app.chess.repository;
 
 import com.app.chess.model.Game;
+import com.app.chess.model.GameStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
-public interface GameRepository extends JpaRepository<Game, Long> {
+import java.time.Instant;
+
+public interface GameRepository extends JpaRepository<Game, Long>, GameRepositoryCustom {
+
+    /**
+     * Writes the mutable state of a game without loading the entity first.
+     * Only applies when the stored version is still {@code expectedVersion};
+     * returns 0 otherwise.
+     */
+    @Modifying
+    @Query("update Game g set g.boardState = :fen, g.positionHash = :positionHash, g.turn = :turn, "
+            + "g.status = :status, g.winner = :winner, g.moveLog = :moveLog, g.whiteTimeMs = :whiteTimeMs, "
+            + "g.blackTimeMs = :blackTimeMs, g.turnStartedAt = :turnStartedAt, g.deadline = :deadline, "
+            + "g.version = :newVersion "
+            + "where g.id = :id and g.version = :expectedVersion")
+    int updateState(Long id, String fen, Long positionHash, String turn, GameStatus status, String winner,
+                    byte[] moveLog, Long whiteTimeMs, Long blackTimeMs, Instant turnStartedAt, Instant deadline,
+                    Long expectedVersion, Long newVersion);
 }
@@ -0,0 +1,35 @@
+package com.app.chess.repository;
+
+import com.app.chess.dto.GameSummary;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface GameRepositoryCustom {
+
+    /**
+     * Keyset page: games created after ({@code afterCreatedAt}, {@code afterId}),
+     * ordered by creation time then id.
+     */
+    List<GameSummary> findPage(GameFilter filter, Instant afterCreatedAt, Long afterId, int limit);
+
+    /**
+     * All matching games, read with a bounded JDBC fetch size. Must be consumed
+     * and closed inside a transaction.
+     */
+    Stream<GameSummary> streamAll(GameFilter filter, int fetchSize);
+
+    /**
+     * Outcome and move log of every finished game, read like {@link #streamAll}.
+     * Must be consumed and closed inside a transaction.
+     */
+    Stream<GameHistory> streamFinishedHistories(int fetchSize);
+
+    /**
+     * Deadline (null if none stored) and turn start of every game in
+     * progress, read like {@link #streamAll}.
+     * Must be consumed and closed inside a transaction.
+     */
+    Stream<GameDeadline> streamDeadlines(int fetchSize);
+}
@@ -0,0 +1,82 @@
+package com.app.chess.repository;
+
+import com.app.chess.dto.GameSummary;
+import com.app.chess.model.GameStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.AvailableHints;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Listing queries built with only the filters actually given, so the
+ * database can use the (status, created_at) index instead of evaluating
+ * "param is null or ..." for every row.
+ */
+class GameRepositoryCustomImpl implements GameRepositoryCustom {
+
+    private static final String SELECT =
+            "select new com.app.chess.dto.GameSummary(g.id, g.status, g.turn, g.winner, g.createdAt) from Game g where 1 = 1";
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public List<GameSummary> findPage(GameFilter filter, Instant afterCreatedAt, Long afterId, int limit) {
+        String jpql = SELECT + filters(filter)
+                + " and (g.createdAt > :afterCreatedAt or (g.createdAt = :afterCreatedAt and g.id > :afterId))"
+                + " order by g.createdAt, g.id";
+        TypedQuery<GameSummary> query = bind(em.createQuery(jpql, GameSummary.class), filter)
+                .setParameter("afterCreatedAt", afterCreatedAt)
+                .setParameter("afterId", afterId)
+                .setMaxResults(limit);
+        return query.getResultList();
+    }
+
+    @Override
+    public Stream<GameSummary> streamAll(GameFilter filter, int fetchSize) {
+        String jpql = SELECT + filters(filter) + " order by g.createdAt, g.id";
+        return bind(em.createQuery(jpql, GameSummary.class), filter)
+                .setHint(AvailableHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(AvailableHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    @Override
+    public Stream<GameHistory> streamFinishedHistories(int fetchSize) {
+        return em.createQuery("select new com.app.chess.repository.GameHistory(g.status, g.winner, g.moveLog) "
+                        + "from Game g where g.status <> :running order by g.id", GameHistory.class)
+                .setParameter("running", GameStatus.EM_EXECUCAO)
+                .setHint(AvailableHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(AvailableHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    @Override
+    public Stream<GameDeadline> streamDeadlines(int fetchSize) {
+        return em.createQuery("select new com.app.chess.repository.GameDeadline(g.id, g.deadline, "
+                        + "coalesce(g.turnStartedAt, g.createdAt)) from Game g where g.status = :running", GameDeadline.class)
+                .setParameter("running", GameStatus.EM_EXECUCAO)
+                .setHint(AvailableHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(AvailableHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    private static String filters(GameFilter filter) {
+        StringBuilder sb = new StringBuilder();
+        if (filter.status() != null) sb.append(" and g.status = :status");
+        if (filter.turn() != null) sb.append(" and g.turn = :turn");
+        if (filter.winner() != null) sb.append(" and g.winner = :winner");
+        return sb.toString();
+    }
+
+    private static TypedQuery<GameSummary> bind(TypedQuery<GameSummary> query, GameFilter filter) {
+        if (filter.status() != null) query.setParameter("status", filter.status());
+        if (filter.turn() != null) query.setParameter("turn", filter.turn());
+        if (filter.winner() != null) query.setParameter("winner", filter.winner());
+        return query;
+    }
+}
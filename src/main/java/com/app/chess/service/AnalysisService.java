@@ -0,0 +1,124 @@
+package com.app.chess.service;
+
+import com.app.chess.dto.AnalysisRequest;
+import com.app.chess.dto.AnalysisResponse;
+import com.app.chess.service.board.Attacks;
+import com.app.chess.service.board.Moves;
+import com.app.chess.service.board.Position;
+import com.app.chess.service.fen.FenCodec;
+import com.app.chess.service.search.Search;
+import com.app.chess.service.search.SearchResult;
+import com.app.chess.service.search.TranspositionTable;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Engine analysis on its own bounded pool. At most
+ * {@code chess.analysis.max-concurrent} searches run at once, each with
+ * {@code chess.analysis.threads} Lazy SMP threads and its own transposition
+ * table; further requests are refused instead of queued. By default all
+ * analysis threads together take at most half the cores, so busy engines
+ * leave the rest to the move endpoints: thread priorities are not relied
+ * on, since Linux ignores them.
+ */
+@Service
+public class AnalysisService {
+
+    private static final long DEFAULT_MILLIS = 1000;
+
+    private final ThreadPoolExecutor executor;
+    /**
+     * One table per concurrent search, so searches never age each other's
+     * entries; taking one is the admission check.
+     */
+    private final BlockingQueue<TranspositionTable> tables;
+    private final int threadsPerSearch;
+    private final long maxMillis;
+
+    public AnalysisService(@Value("${chess.analysis.max-concurrent:2}") int maxConcurrent,
+                           @Value("${chess.analysis.threads:0}") int threads,
+                           @Value("${chess.analysis.hash-mb:32}") int hashMb,
+                           @Value("${chess.analysis.max-millis:10000}") long maxMillis) {
+        int concurrent = Math.max(1, maxConcurrent);
+        this.threadsPerSearch = threads > 0 ? threads
+                : Math.max(1, Runtime.getRuntime().availableProcessors() / (2 * concurrent));
+        this.maxMillis = maxMillis;
+        this.tables = new ArrayBlockingQueue<>(concurrent);
+        for (int i = 0; i < concurrent; i++) tables.add(new TranspositionTable(hashMb));
+
+        int poolSize = concurrent * threadsPerSearch;
+        AtomicInteger count = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(poolSize), r -> {
+            Thread t = new Thread(r, "analysis-" + count.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    public AnalysisResponse analyze(AnalysisRequest req) {
+        Position pos;
+        try {
+            pos = FenCodec.parse(req.fen());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException(e.getMessage());
+        }
+
+        int depth = req.depth() != null ? req.depth() : Search.MAX_DEPTH;
+        long millis = req.millis() != null ? Math.min(req.millis(), maxMillis)
+                : req.depth() != null || req.nodes() != null ? maxMillis : DEFAULT_MILLIS;
+        long nodes = req.nodes() != null ? req.nodes() : Long.MAX_VALUE;
+
+        TranspositionTable table = tables.poll();
+        if (table == null) throw new IllegalStateException("Limite de análises simultâneas atingido, tente novamente");
+        long start = System.nanoTime();
+        SearchResult result;
+        try {
+            Search search = new Search(pos, table, depth, millis, nodes);
+            Future<SearchResult> f = executor.submit(() -> search.run(threadsPerSearch, executor));
+            result = f.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Análise interrompida");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            tables.add(table);
+        }
+        long nanos = Math.max(1, System.nanoTime() - start);
+
+        List<String> pv = new ArrayList<>(result.pv().length);
+        for (int move : result.pv()) pv.add(Moves.toUci(move));
+        int mate = result.mateIn();
+        boolean noMoves = result.bestMove() == Moves.NONE;
+        boolean mated = noMoves && Attacks.inCheck(pos, pos.sideToMove());
+        return new AnalysisResponse(
+                FenCodec.toFen(pos),
+                noMoves ? null : Moves.toUci(result.bestMove()),
+                mate != 0 || mated ? null : result.score(),
+                mated ? Integer.valueOf(0) : mate != 0 ? Integer.valueOf(mate) : null,
+                result.depth(),
+                result.nodes(),
+                nanos / 1_000_000,
+                result.nodes() * 1_000_000_000L / nanos,
+                pv);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
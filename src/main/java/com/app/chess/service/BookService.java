@@ -0,0 +1,144 @@
+package com.app.chess.service;
+
+import com.app.chess.dto.BookBuildResponse;
+import com.app.chess.dto.BookMove;
+import com.app.chess.dto.BookResponse;
+import com.app.chess.service.board.Moves;
+import com.app.chess.service.board.Position;
+import com.app.chess.service.book.BookBuilder;
+import com.app.chess.service.book.BookEntry;
+import com.app.chess.service.book.OpeningBook;
+import com.app.chess.service.fen.FenCodec;
+import com.app.chess.service.history.MoveLog;
+import com.app.chess.service.pgn.PgnGame;
+import com.app.chess.service.pgn.PgnReader;
+import com.app.chess.service.persistence.GameStore;
+import com.app.chess.service.pgn.San;
+import com.app.chess.service.rules.MoveGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Serves the opening book from {@code chess.book.path} and rebuilds it from
+ * the stored games or from a PGN upload. A rebuild writes a new file and
+ * swaps the mapping; lookups in flight keep reading the old one.
+ */
+@Service
+public class BookService {
+
+    private final GameStore store;
+    private final Path path;
+    private final int maxPlies;
+    private volatile OpeningBook book = OpeningBook.empty();
+
+    public BookService(GameStore store,
+                       @Value("${chess.book.path:data/opening-book.bin}") String path,
+                       @Value("${chess.book.max-plies:20}") int maxPlies) {
+        this.store = store;
+        this.path = Path.of(path);
+        this.maxPlies = maxPlies;
+        if (Files.isRegularFile(this.path)) {
+            try {
+                book = OpeningBook.open(this.path);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    public BookResponse lookup(String fen) {
+        Position pos;
+        try {
+            pos = FenCodec.parse(fen);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException(e.getMessage());
+        }
+        List<BookEntry> entries = book.lookup(pos.hash());
+        List<BookMove> moves = new ArrayList<>(entries.size());
+        int games = 0;
+        for (BookEntry e : entries) {
+            moves.add(new BookMove(Moves.toUci(e.move()), e.games(), e.whiteWins(), e.draws(), e.blackWins()));
+            games += e.games();
+        }
+        return new BookResponse(FenCodec.toFen(pos), games, moves);
+    }
+
+    /**
+     * Rebuilds the book from every finished game in the store. In
+     * write-behind mode the last moves of recently finished games may not be
+     * stored yet.
+     */
+    public synchronized BookBuildResponse buildFromGames() {
+        long start = System.nanoTime();
+        BookBuilder builder = new BookBuilder(maxPlies);
+        int[] moves = new int[maxPlies];
+        store.forEachFinishedHistory(g -> {
+            MoveLog log = MoveLog.decode(g.moveLog(), 0);
+            int n = Math.min(log.size(), maxPlies);
+            for (int i = 0; i < n; i++) moves[i] = log.move(i);
+            int result = "WHITE".equals(g.winner()) ? BookBuilder.WHITE_WINS
+                    : "BLACK".equals(g.winner()) ? BookBuilder.BLACK_WINS : BookBuilder.DRAW;
+            builder.add(moves, n, result);
+        });
+        return install(builder, 0, start);
+    }
+
+    /**
+     * Rebuilds the book from a PGN stream. Unfinished games ("*"), games from
+     * a custom position and games with illegal moves are skipped.
+     */
+    public synchronized BookBuildResponse buildFromPgn(InputStream in) {
+        long start = System.nanoTime();
+        BookBuilder builder = new BookBuilder(maxPlies);
+        PgnReader reader = new PgnReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        Position pos = new Position();
+        int[] legal = new int[MoveGenerator.MAX_MOVES];
+        int[] moves = new int[maxPlies];
+        long skipped = 0;
+        for (PgnGame g = reader.next(); g != null; g = reader.next()) {
+            int result = switch (g.result()) {
+                case "1-0" -> BookBuilder.WHITE_WINS;
+                case "0-1" -> BookBuilder.BLACK_WINS;
+                case "1/2-1/2" -> BookBuilder.DRAW;
+                default -> -1;
+            };
+            if (result < 0 || g.error() != null || g.tags().containsKey("FEN")) {
+                skipped++;
+                continue;
+            }
+            try {
+                FenCodec.parse(FenCodec.INITIAL_FEN, pos);
+                int n = Math.min(g.moves().size(), maxPlies);
+                for (int i = 0; i < n; i++) {
+                    moves[i] = San.parse(pos, g.moves().get(i), legal);
+                    pos.makeMove(moves[i]);
+                }
+                builder.add(moves, n, result);
+            } catch (IllegalStateException e) {
+                skipped++;
+            }
+        }
+        return install(builder, skipped, start);
+    }
+
+    private BookBuildResponse install(BookBuilder builder, long skipped, long start) {
+        try {
+            long bytes = builder.write(path);
+            book = OpeningBook.open(path);
+            return new BookBuildResponse(builder.games(), skipped, builder.entries(), bytes,
+                    (System.nanoTime() - start) / 1_000_000);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -1,58 +1,302 @@
 package com.app.chess.service;
 
+import com.app.chess.dto.BatchMoveResponse;
 import com.app.chess.dto.BoardResponse;
+import com.app.chess.dto.ClockResponse;
 import com.app.chess.dto.GameDetailsResponse;
+import com.app.chess.dto.GameEvent;
+import com.app.chess.dto.GameMovesRequest;
+import com.app.chess.dto.GamePageResponse;
+import com.app.chess.dto.GameSummary;
+import com.app.chess.dto.LegalMovesResponse;
+import com.app.chess.dto.MakeMoveRequest;
 import com.app.chess.model.Game;
 import com.app.chess.model.GameStatus;
-import com.app.chess.model.Move;
-import com.app.chess.repository.GameRepository;
-import com.app.chess.repository.MoveRepository;
+import com.app.chess.repository.GameFilter;
+import com.app.chess.service.board.Moves;
+import com.app.chess.service.board.Position;
+import com.app.chess.service.board.Squares;
+import com.app.chess.service.cache.GameCache;
+import com.app.chess.service.cache.GameState;
+import com.app.chess.service.cache.PositionCache;
+import com.app.chess.service.cache.PositionInfo;
+import com.app.chess.service.cache.RenderedView;
+import com.app.chess.service.clock.Clock;
+import com.app.chess.service.clock.GameTimers;
+import com.app.chess.service.cluster.ClusterRouter;
+import com.app.chess.service.events.GameEvents;
 import com.app.chess.service.fen.FenCodec;
+import com.app.chess.service.history.MoveLog;
+import com.app.chess.service.lock.GameLocks;
+import com.app.chess.service.metrics.MoveMetrics;
+import com.app.chess.service.metrics.MoveMetrics.Stage;
+import com.app.chess.service.pgn.PgnWriter;
+import com.app.chess.service.persistence.GamePersistence;
+import com.app.chess.service.persistence.GameStore;
+import com.app.chess.service.rules.GameEnd;
 import com.app.chess.service.rules.MoveRules;
+import com.app.chess.service.wire.BinaryWire;
+import com.app.chess.service.wire.WireFormat;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
 import java.util.List;
-
+import java.util.Map;
+
+/**
+ * Game operations served from {@link GameCache}: reads and move validation
+ * never touch the database once a game is hot, and moves are handed to
+ * {@link GamePersistence} for synchronous or write-behind storage.
+ * All access to a game happens under its stripe in {@link GameLocks}, so
+ * concurrent moves on one game are serialized and cannot overwrite each other.
+ * <p>
+ * Games in progress have a timeout in {@link GameTimers}: the flag fall of a
+ * timed game or {@code chess.clock.abandon-after-ms} without a move. Each move
+ * reschedules it and {@link #expireGames()} finishes the games whose time ran out.
+ */
 @Service
 public class GameService {
 
-    private static final String INITIAL_FEN =
-            "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1";
-
-    private final GameRepository gameRepo;
-    private final MoveRepository moveRepo;
-
-    public GameService(GameRepository gameRepo, MoveRepository moveRepo) {
-        this.gameRepo = gameRepo;
-        this.moveRepo = moveRepo;
+    public static final int MAX_PAGE_SIZE = 500;
+    private static final List<String> BOARD_FILES = List.of("a", "b", "c", "d", "e", "f", "g", "h");
+    private static final List<Integer> BOARD_RANKS = List.of(8, 7, 6, 5, 4, 3, 2, 1);
+    private static final long TIMEOUT_RETRY_MS = 1000;
+    private static final Logger log = LoggerFactory.getLogger(GameService.class);
+    private static final DateTimeFormatter PGN_DATE = DateTimeFormatter.ofPattern("yyyy.MM.dd").withZone(ZoneOffset.UTC);
+
+    private final GameStore store;
+    private final GameCache cache;
+    private final GamePersistence persistence;
+    private final GameLocks locks;
+    private final GameEvents events;
+    private final ObjectMapper objectMapper;
+    private final boolean autoClaimDraws;
+    private final MoveMetrics metrics;
+    private final PositionCache positions;
+    private final GameTimers timers;
+    private final ClusterRouter router;
+    private final long abandonAfterMs;
+    private final int timeoutBatch;
+
+    public GameService(GameStore store, GameCache cache, GamePersistence persistence, GameLocks locks,
+                       GameEvents events, ObjectMapper objectMapper,
+                       MoveMetrics metrics, PositionCache positions, GameTimers timers, ClusterRouter router,
+                       @Value("${chess.rules.auto-claim-draws:true}") boolean autoClaimDraws,
+                       @Value("${chess.clock.abandon-after-ms:86400000}") long abandonAfterMs,
+                       @Value("${chess.clock.batch-size:1000}") int timeoutBatch) {
+        this.store = store;
+        this.cache = cache;
+        this.persistence = persistence;
+        this.locks = locks;
+        this.events = events;
+        this.objectMapper = objectMapper;
+        this.autoClaimDraws = autoClaimDraws;
+        this.metrics = metrics;
+        this.positions = positions;
+        this.timers = timers;
+        this.router = router;
+        this.abandonAfterMs = abandonAfterMs;
+        this.timeoutBatch = Math.max(1, timeoutBatch);
     }
 
-    private static void applyPromotionIfNeeded(char[][] board, int tr, int tc, char moving) {
-         if (Character.toLowerCase(moving) != 'p') return;
-        if (moving == 'P' && tr == 0) {
-            board[tr][tc] = 'Q';
-        } else if (moving == 'p' && tr == 7) {
-            board[tr][tc] = 'q';
-        }
+    private GameState load(Long gameId) {
+        return cache.get(gameId, this::loadAndSchedule);
     }
 
-    private static boolean isKing(char p) {
-        return p == 'K' || p == 'k';
+    /**
+     * Loads a game missing from the cache and schedules its timeout, which
+     * may not be in {@link GameTimers} yet (a game created on another node)
+     * or may have been stored before the current abandonment setting.
+     */
+    private GameState loadAndSchedule(Long gameId) {
+        GameState game = persistence.load(gameId);
+        if (game.getStatus() == GameStatus.EM_EXECUCAO) reschedule(game);
+        return game;
     }
 
     public Game createGame() {
-        Game g = new Game(INITIAL_FEN);
+        return createGame(0, 0);
+    }
+
+    /**
+     * @param baseMs      time per side, 0 for a game without clock
+     * @param incrementMs added to the mover's clock after each move
+     */
+    public Game createGame(long baseMs, long incrementMs) {
+        if (baseMs == 0 && incrementMs > 0) {
+            throw new IllegalStateException("incrementSeconds exige initialSeconds");
+        }
+        Game g = new Game(FenCodec.INITIAL_FEN, FenCodec.parse(FenCodec.INITIAL_FEN).hash());
         g.setStatus(GameStatus.EM_EXECUCAO);
         g.setTurn("WHITE");
-        return gameRepo.save(g);
+        Clock clock = Clock.of(baseMs, incrementMs, g.getCreatedAt().toEpochMilli());
+        long deadline = clock.deadline(Position.WHITE, abandonAfterMs);
+        clock.writeTo(g, deadline);
+        Game saved = persistence.createGame(g);
+        // A game owned by another node is played there; a copy here would only go stale
+        if (router.isLocal(saved.getId())) {
+            cache.put(new GameState(saved));
+            timers.schedule(saved.getId(), deadline);
+        }
+        return saved;
+    }
+
+    public void makeMove(Long gameId, String from, String to, String color, String promotion) {
+        long start = System.nanoTime();
+        try {
+            locks.withLock(gameId, () -> {
+                long t = metrics.lap(Stage.LOCK, start);
+                GameState game = load(gameId);
+                metrics.lap(Stage.LOAD, t);
+                long before = game.getVersion();
+                GameEvent event = apply(game, from, to, color, promotion);
+                t = System.nanoTime();
+                persist(game, before);
+                t = metrics.lap(Stage.PERSIST, t);
+                events.publish(gameId, event);
+                metrics.lap(Stage.PUBLISH, t);
+            });
+        } finally {
+            metrics.move(start);
+        }
+    }
+
+    /**
+     * Validates and applies {@code moves} in order under the game's lock, then
+     * persists them as one write. When a move is rejected, an atomic batch is
+     * discarded entirely; otherwise the moves before it are kept.
+     */
+    public BatchMoveResponse makeMoves(Long gameId, List<MakeMoveRequest> moves, boolean atomic) {
+        long start = System.nanoTime();
+        return locks.withLock(gameId, () -> {
+            long t = metrics.lap(Stage.LOCK, start);
+            GameState game = load(gameId);
+            metrics.lap(Stage.LOAD, t);
+            long before = game.getVersion();
+            List<GameEvent> applied = new ArrayList<>(moves.size());
+            Integer failedIndex = null;
+            String error = null;
+            for (int i = 0; i < moves.size(); i++) {
+                MakeMoveRequest m = moves.get(i);
+                try {
+                    applied.add(apply(game, m.fromSquare(), m.toSquare(), m.playerColor(), m.promotion()));
+                } catch (IllegalStateException | IllegalArgumentException e) {
+                    failedIndex = i;
+                    error = e.getMessage();
+                    break;
+                }
+            }
+
+            if (failedIndex != null && atomic && !applied.isEmpty()) {
+                // Nothing was persisted yet: reloading gives back the state before the batch
+                cache.evict(gameId);
+                applied.clear();
+                game = load(gameId);
+            }
+            t = System.nanoTime();
+            if (!applied.isEmpty()) persist(game, before);
+            t = metrics.lap(Stage.PERSIST, t);
+            applied.forEach(e -> events.publish(gameId, e));
+            metrics.lap(Stage.PUBLISH, t);
+
+            return new BatchMoveResponse(gameId, applied.size(), failedIndex, error,
+                    game.getFen(), game.getTurn(), game.getStatus().name());
+        });
+    }
+
+    /**
+     * {@link #makeMoves} for several games, one after the other; each game is its
+     * own unit, so a failure in one never undoes another.
+     */
+    public List<BatchMoveResponse> makeMoves(List<GameMovesRequest> games, boolean atomic) {
+        List<BatchMoveResponse> out = new ArrayList<>(games.size());
+        for (GameMovesRequest g : games) {
+            try {
+                out.add(makeMoves(g.gameId(), g.moves(), atomic));
+            } catch (IllegalArgumentException e) {
+                out.add(new BatchMoveResponse(g.gameId(), 0, 0, e.getMessage(), null, null, null));
+            } catch (RuntimeException e) {
+                // A failed write, say: persist already dropped the unsaved copy
+                log.warn("Falha ao aplicar os lances da partida {}", g.gameId(), e);
+                out.add(new BatchMoveResponse(g.gameId(), 0, 0,
+                        "Falha ao aplicar os lances, tente novamente", null, null, null));
+            }
+        }
+        return out;
     }
 
-    @Transactional
-    public void makeMove(Long gameId, String from, String to, String color) {
-        Game game = gameRepo.findById(gameId)
-                .orElseThrow(() -> new IllegalArgumentException("Jogo não encontrado"));
+    /**
+     * Checks and applies one move to the cached state. Throws before touching
+     * the state when the move is rejected.
+     */
+    private GameEvent apply(GameState game, String from, String to, String color, String promotion) {
+        long t = System.nanoTime();
+        long now = System.currentTimeMillis();
+        Position pos = game.getPosition();
+        int move;
+        try {
+            move = validate(game, pos, from, to, color, promotion, now);
+        } catch (IllegalStateException | IllegalArgumentException e) {
+            metrics.rejected(e.getMessage());
+            throw e;
+        }
+        t = metrics.lap(Stage.VALIDATE, t);
+
+        // Apply move (promotion defaults to queen)
+        pos.makeMove(move);
+
+        game.recordPosition(pos.hash());
+
+        // Mate, stalemate and draws by material, repetition or move count. The
+        // lookup also leaves the legal moves of the new position in the cache,
+        // ready for the next move's validation.
+        PositionInfo next = positions.get(pos);
+        switch (GameEnd.evaluate(pos, next.hasLegalMove(), next.inCheck(), game.repetitions(), autoClaimDraws)) {
+            case CHECKMATE -> {
+                game.setStatus(GameStatus.XEQUE_MATE);
+                game.setWinner("WHITE".equals(color) ? "WHITE" : "BLACK");
+            }
+            case STALEMATE -> game.setStatus(GameStatus.AFOGAMENTO);
+            case INSUFFICIENT_MATERIAL -> game.setStatus(GameStatus.EMPATE_MATERIAL_INSUFICIENTE);
+            case FIVEFOLD_REPETITION, THREEFOLD_REPETITION -> game.setStatus(GameStatus.EMPATE_REPETICAO);
+            case SEVENTY_FIVE_MOVES -> game.setStatus(GameStatus.EMPATE_75_LANCES);
+            case FIFTY_MOVES -> game.setStatus(GameStatus.EMPATE_50_LANCES);
+            case NONE -> {
+            }
+        }
+        game.setClock(game.getClock().afterMove(pos.sideToMove() ^ 1, now));
+        reschedule(game);
+        t = metrics.lap(Stage.APPLY, t);
+
+        game.setFen(FenCodec.toFen(pos));
+        game.setTurn(pos.sideToMove() == Position.WHITE ? "WHITE" : "BLACK");
+        game.setVersion(game.getVersion() + 1);
+        game.getMoves().append(move, now);
+        GameEvent event = toEvent(game, Moves.toUci(move));
+        metrics.lap(Stage.ENCODE, t);
+        return event;
+    }
 
+    private int validate(GameState game, Position pos, String from, String to, String color, String promotion,
+                         long now) {
         if (!game.getStatus().equals(GameStatus.EM_EXECUCAO)) {
             throw new IllegalStateException("Não há Partida em está em andamento");
         }
@@ -65,99 +309,383 @@ public class GameService {
         if (whiteReq && !"WHITE".equals(game.getTurn())) throw new IllegalStateException("Não é a vez de WHITE");
         if (!whiteReq && !"BLACK".equals(game.getTurn())) throw new IllegalStateException("Não é a vez de BLACK");
 
-        // Parse FEN
-        var pos = FenCodec.parse(game.getBoardState());
-        char[][] board = pos.board();
+        // The flag fell before the sweeper got to the game: the move is too late
+        if (now >= game.getClock().flagAt(pos.sideToMove())) {
+            timers.schedule(game.getId(), now);
+            throw new IllegalStateException("Tempo esgotado");
+        }
 
-        // Validate progressive rules (pawns & rooks)
-        MoveRules.validatePawnOrRookMove(board, from, to, pos.turn());
+        // Validate full rules (all pieces, castling, en passant, check)
+        int[] legal = positions.get(pos).legalMoves();
+        return MoveRules.validateMove(pos, from, to, promotion, legal, legal.length);
+    }
 
-        // Apply move
-        int[] a = FenCodec.squareToRC(from);
-        int[] b = FenCodec.squareToRC(to);
+    /**
+     * Stores the game's next timeout in its state and in {@link GameTimers};
+     * a finished game has none.
+     */
+    private void reschedule(GameState game) {
+        long deadline = game.getStatus() == GameStatus.EM_EXECUCAO
+                ? game.getClock().deadline(game.getPosition().sideToMove(), abandonAfterMs) : 0;
+        game.setDeadline(deadline);
+        timers.schedule(game.getId(), deadline);
+    }
 
-        char moving = board[a[0]][a[1]];
-        char captured = board[b[0]][b[1]];
+    /**
+     * Schedules the timeouts of the games in progress found in the store, so
+     * they are enforced after a restart even if nobody opens them. A game
+     * stored without a deadline (from before clocks, or imported unfinished)
+     * is untimed, so it gets its abandonment deadline. In cluster mode each
+     * node takes only the games it owns.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void scheduleStoredTimeouts() {
+        store.forEachDeadline((gameId, deadline, turnStartedAt) -> {
+            if (!router.isLocal(gameId)) return;
+            if (deadline == 0 && abandonAfterMs > 0) deadline = turnStartedAt + abandonAfterMs;
+            timers.schedule(gameId, deadline);
+        });
+    }
 
-        board[a[0]][a[1]] = '.';
-        board[b[0]][b[1]] = moving;
+    /**
+     * Finishes the games whose time ran out, {@code chess.clock.batch-size}
+     * at a time.
+     */
+    @Scheduled(fixedDelayString = "${chess.clock.tick-ms:100}")
+    public void expireGames() {
+        long[] due;
+        while ((due = timers.pollDue(System.currentTimeMillis(), timeoutBatch)).length > 0) expire(due);
+    }
 
-        // Phase 2: pawn promotion (auto to queen)
-        applyPromotionIfNeeded(board, b[0], b[1], moving);
+    /**
+     * Checks one batch of due games under all their locks, finishes those
+     * still past their deadline (a move may have come in since they were
+     * polled) and stores them as one write. Only the games the write
+     * committed are counted and announced; the others are checked again
+     * after reloading.
+     */
+    private void expire(long[] gameIds) {
+        locks.withLocks(gameIds, () -> {
+            long now = System.currentTimeMillis();
+            List<GameState> expired = new ArrayList<>();
+            long[] before = new long[gameIds.length];
+            for (long gameId : gameIds) {
+                GameState game;
+                try {
+                    game = load(gameId);
+                } catch (IllegalArgumentException e) {
+                    continue;
+                }
+                if (game.getStatus() != GameStatus.EM_EXECUCAO) continue;
+                long deadline = game.getClock().deadline(game.getPosition().sideToMove(), abandonAfterMs);
+                if (deadline == 0) continue;
+                if (now < deadline) {
+                    timers.schedule(gameId, deadline);
+                    continue;
+                }
+                before[expired.size()] = game.getVersion();
+                timeOut(game, now);
+                expired.add(game);
+            }
+            boolean[] committed;
+            try {
+                committed = persistence.recordAll(expired, Arrays.copyOf(before, expired.size()));
+            } catch (RuntimeException e) {
+                log.warn("Falha ao gravar {} partida(s) encerrada(s) por tempo; nova tentativa em {} ms",
+                        expired.size(), TIMEOUT_RETRY_MS, e);
+                for (GameState game : expired) {
+                    cache.evict(game.getId());
+                    timers.schedule(game.getId(), now + TIMEOUT_RETRY_MS);
+                }
+                return null;
+            }
+            for (int i = 0; i < expired.size(); i++) {
+                GameState game = expired.get(i);
+                if (committed[i]) {
+                    timers.timedOut(game.getStatus());
+                    events.publish(game.getId(), toEvent(game, null));
+                } else {
+                    // Stale copy, already evicted: check again against the stored game
+                    timers.schedule(game.getId(), now + TIMEOUT_RETRY_MS);
+                }
+            }
+            return null;
+        });
+    }
 
-        // Optional: finish game if a king is captured (simple end condition)
-        if (isKing(captured)) {
-            game.setStatus(GameStatus.FINALIZADO);
-            game.setWinner("WHITE".equals(color) ? "WHITE" : "BLACK");
+    /**
+     * Ends the game on time: the side to move lost on the flag if its clock
+     * ran out, otherwise it abandoned the game.
+     */
+    private void timeOut(GameState game, long now) {
+        Position pos = game.getPosition();
+        int side = pos.sideToMove();
+        String opponent = side == Position.WHITE ? "BLACK" : "WHITE";
+        Clock clock = game.getClock();
+        if (now >= clock.flagAt(side)) {
+            game.setClock(clock.flagged(side, now));
+            game.setStatus(GameStatus.TEMPO_ESGOTADO);
+            game.setWinner(GameEnd.winsOnTime(pos, side ^ 1) ? opponent : null);
+        } else {
+            game.setStatus(GameStatus.ABANDONADA);
+            game.setWinner(opponent);
         }
+        game.setVersion(game.getVersion() + 1);
+        reschedule(game);
+    }
 
-        boolean isPawnMove = Character.toLowerCase(moving) == 'p';
-        boolean isCapture = captured != '.';
+    private void persist(GameState game, long previousVersion) {
+        try {
+            persistence.recordMoves(game, previousVersion);
+        } catch (RuntimeException e) {
+            // The in-memory copy is now ahead of the database: drop it so the next read reloads
+            cache.evict(game.getId());
+            throw e;
+        }
+    }
 
-        int halfmove = (isPawnMove || isCapture) ? 0 : (pos.halfmove() + 1);
-        int fullmove = pos.fullmove();
-        char nextTurn = (pos.turn() == 'w') ? 'b' : 'w';
-        if (pos.turn() == 'b') fullmove = fullmove + 1; // after black plays
+    /**
+     * Subscribes to the game's moves over Server-Sent Events. The first event is
+     * a snapshot of the current state; each accepted move then pushes a delta.
+     */
+    public SseEmitter subscribe(Long gameId) {
+        return locks.withLock(gameId, () -> events.subscribe(gameId, toEvent(load(gameId), null)));
+    }
 
-        String newFen = FenCodec.toFen(new FenCodec.FenPosition(board, nextTurn, halfmove, fullmove));
+    private static GameEvent toEvent(GameState game, String move) {
+        int ply = game.getMoves().size();
+        return new GameEvent(game.getId(), game.getVersion(), ply, move,
+                move == null ? null : (ply % 2 == 1 ? "WHITE" : "BLACK"),
+                game.getFen(), game.getTurn(), game.getStatus().name(), game.getWinner(),
+                ClockResponse.of(game.getClock()));
+    }
 
-        game.setBoardState(newFen);
-        game.setTurn(nextTurn == 'w' ? "WHITE" : "BLACK");
+    public GameDetailsResponse getGame(Long gameId) {
+        long start = System.nanoTime();
+        try {
+            return locks.withLock(gameId, () -> details(load(gameId)));
+        } finally {
+            metrics.getGame(start);
+        }
+    }
 
-        moveRepo.save(new Move(gameId, from, to, color));
-        gameRepo.save(game);
+    /**
+     * {@link #getGame} serialized to JSON, rendered at most once per version of
+     * the game; a poll with nothing new costs a cache lookup.
+     */
+    public RenderedView getGameView(Long gameId) {
+        return getGameView(gameId, WireFormat.JSON);
     }
 
-    public GameDetailsResponse getGame(Long gameId) {
-        Game game = gameRepo.findById(gameId)
-                .orElseThrow(() -> new IllegalArgumentException("Partida não encontrada"));
-
-        var pos = FenCodec.parse(game.getBoardState());
-        List<String> board8x8 = FenCodec.boardTo8x8(pos.board());
-
-        List<GameDetailsResponse.MoveItem> moves = moveRepo.findByGameIdOrderByCreatedAtAsc(gameId)
-                .stream()
-                .map(m -> new GameDetailsResponse.MoveItem(
-                        m.getFromSquare(),
-                        m.getToSquare(),
-                        m.getPlayerColor(),
-                        m.getCreatedAt().toString()
-                ))
-                .toList();
+    /**
+     * {@link #getGame} in {@code format}, rendered at most once per version.
+     */
+    public RenderedView getGameView(Long gameId, WireFormat format) {
+        long start = System.nanoTime();
+        try {
+            return locks.withLock(gameId, () -> {
+                GameState game = load(gameId);
+                RenderedView view = game.getDetailsView(format);
+                if (view == null) {
+                    view = render(game, format, format == WireFormat.BINARY
+                            ? BinaryWire.details(game.getId(), game.getCreatedAt().toEpochMilli(), game.getPosition(),
+                            game.getFen(), game.getStatus(), game.getTurn(), game.getWinner(), game.getClock(),
+                            game.getMoves())
+                            : json(details(game)));
+                    game.setDetailsView(format, view);
+                }
+                return view;
+            });
+        } finally {
+            metrics.getGame(start);
+        }
+    }
+
+    private GameDetailsResponse details(GameState game) {
+        List<String> board8x8 = positions.get(game.getPosition()).board8x8();
+
+        MoveLog log = game.getMoves();
+        List<GameDetailsResponse.MoveItem> moves = new ArrayList<>(log.size());
+        for (int i = 0; i < log.size(); i++) {
+            int m = log.move(i);
+            moves.add(new GameDetailsResponse.MoveItem(
+                    Squares.name(Moves.from(m)),
+                    Squares.name(Moves.to(m)),
+                    Moves.promotionName(m),
+                    i % 2 == 0 ? "WHITE" : "BLACK",
+                    Instant.ofEpochMilli(log.millis(i)).toString()
+            ));
+        }
 
         return new GameDetailsResponse(
                 game.getId(),
                 game.getStatus().name(),
                 game.getTurn(),
                 game.getWinner(),
-                game.getBoardState(),
+                game.getFen(),
+                ClockResponse.of(game.getClock()),
                 board8x8,
                 moves
         );
     }
 
-
     public BoardResponse getBoard(Long gameId) {
-        Game game = gameRepo.findById(gameId)
-                .orElseThrow(() -> new IllegalArgumentException("Partida não encontrada"));
+        long start = System.nanoTime();
+        try {
+            return locks.withLock(gameId, () -> board(load(gameId)));
+        } finally {
+            metrics.getBoard(start);
+        }
+    }
 
-        var pos = FenCodec.parse(game.getBoardState());
+    /**
+     * {@link #getBoard} serialized to JSON, rendered at most once per version.
+     */
+    public RenderedView getBoardView(Long gameId) {
+        return getBoardView(gameId, WireFormat.JSON);
+    }
 
-        var files = List.of("a", "b", "c", "d", "e", "f", "g", "h");
-        var ranks = List.of(8, 7, 6, 5, 4, 3, 2, 1);
+    /**
+     * {@link #getBoard} in {@code format}, rendered at most once per version.
+     */
+    public RenderedView getBoardView(Long gameId, WireFormat format) {
+        long start = System.nanoTime();
+        try {
+            return locks.withLock(gameId, () -> {
+                GameState game = load(gameId);
+                RenderedView view = game.getBoardView(format);
+                if (view == null) {
+                    view = render(game, format, format == WireFormat.BINARY
+                            ? BinaryWire.board(game.getPosition(), game.getFen(), game.getStatus(), game.getTurn(),
+                            game.getWinner(), game.getClock())
+                            : json(board(game)));
+                    game.setBoardView(format, view);
+                }
+                return view;
+            });
+        } finally {
+            metrics.getBoard(start);
+        }
+    }
 
+    private BoardResponse board(GameState game) {
         return new BoardResponse(
-                files,
-                ranks,
-                FenCodec.boardToGrid(pos.board()),
-                game.getBoardState(),
+                BOARD_FILES,
+                BOARD_RANKS,
+                positions.get(game.getPosition()).grid(),
+                game.getFen(),
                 game.getTurn(),
                 game.getWinner(),
-                game.getStatus().name()
+                game.getStatus().name(),
+                ClockResponse.of(game.getClock())
         );
     }
 
-    public List<Game> listGames() {
-        return gameRepo.findAll();
+    /**
+     * The ETag joins creation time and version, so it also changes when an id
+     * is reused by a new database (H2 in memory restarts from 1), and the
+     * binary form gets its own.
+     */
+    private RenderedView render(GameState game, WireFormat format, byte[] body) {
+        String etag = "\"" + Long.toString(game.getCreatedAt().toEpochMilli(), 36) + "-" + game.getVersion()
+                + (format == WireFormat.BINARY ? "-b" : "") + "\"";
+        return new RenderedView(game.getVersion(), etag, body);
+    }
+
+    private byte[] json(Object response) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public LegalMovesResponse getLegalMoves(Long gameId) {
+        return locks.withLock(gameId, () -> {
+            GameState game = load(gameId);
+            List<String> moves = game.getStatus() == GameStatus.EM_EXECUCAO
+                    ? positions.get(game.getPosition()).uciMoves()
+                    : List.of();
+
+            return new LegalMovesResponse(game.getId(), game.getFen(), game.getTurn(), moves);
+        });
+    }
+
+    /**
+     * The game as PGN (Seven Tag Roster, SAN movetext).
+     */
+    public String exportPgn(Long gameId) {
+        return locks.withLock(gameId, () -> {
+            GameState game = load(gameId);
+            String result;
+            if ("WHITE".equals(game.getWinner())) result = "1-0";
+            else if ("BLACK".equals(game.getWinner())) result = "0-1";
+            else if (game.getStatus() == GameStatus.EM_EXECUCAO) result = "*";
+            else result = "1/2-1/2";
+
+            Map<String, String> tags = new LinkedHashMap<>();
+            tags.put("Event", "Partida " + game.getId());
+            tags.put("Site", "chess-rest-fen");
+            tags.put("Date", PGN_DATE.format(game.getCreatedAt()));
+            tags.put("Round", "-");
+            tags.put("White", "?");
+            tags.put("Black", "?");
+            tags.put("Result", result);
+
+            StringBuilder sb = new StringBuilder(256 + game.getMoves().size() * 8);
+            PgnWriter.write(tags, game.getMoves(), result, sb);
+            return sb.toString();
+        });
+    }
+
+    /**
+     * Keyset-paginated listing read from the store; in write-behind mode the
+     * state of the most recently moved games may lag by one flush interval.
+     */
+    public GamePageResponse listGames(GameFilter filter, String cursor, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalStateException("limit deve estar entre 1 e " + MAX_PAGE_SIZE);
+        }
+        Instant afterCreatedAt = Instant.EPOCH;
+        long afterId = 0;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+                afterCreatedAt = Instant.parse(parts[0]);
+                afterId = Long.parseLong(parts[1]);
+            } catch (RuntimeException e) {
+                throw new IllegalStateException("Cursor inválido");
+            }
+        }
+
+        List<GameSummary> rows = store.findPage(filter, afterCreatedAt, afterId, limit + 1);
+        if (rows.size() <= limit) return new GamePageResponse(rows, null);
+
+        List<GameSummary> page = rows.subList(0, limit);
+        GameSummary last = page.get(limit - 1);
+        String next = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((last.createdAt() + "|" + last.id()).getBytes(StandardCharsets.UTF_8));
+        return new GamePageResponse(List.copyOf(page), next);
+    }
+
+    /**
+     * Writes every matching game as one JSON object per line (NDJSON). Games
+     * are streamed from the store and written as they arrive, so memory stays
+     * flat regardless of the number of games.
+     */
+    public void exportGames(GameFilter filter, OutputStream out) {
+        store.forEachSummary(filter, game -> {
+            try {
+                out.write(objectMapper.writeValueAsBytes(game));
+                out.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        try {
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 }
@@ -0,0 +1,45 @@
+package com.app.chess.service;
+
+import com.app.chess.dto.PerftResponse;
+import com.app.chess.service.board.Position;
+import com.app.chess.service.fen.FenCodec;
+import com.app.chess.service.rules.Perft;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+
+@Service
+public class PerftService {
+
+    /**
+     * Depth 7 from the start position is already ~3.2 billion nodes.
+     */
+    public static final int MAX_DEPTH = 7;
+
+    public PerftResponse perft(String fen, int depth, boolean divide) {
+        if (depth < 1 || depth > MAX_DEPTH) {
+            throw new IllegalStateException("Profundidade deve estar entre 1 e " + MAX_DEPTH);
+        }
+        Position pos;
+        try {
+            pos = FenCodec.parse(fen);
+        } catch (IllegalArgumentException e) {
+            // A malformed FEN here is a bad request, not a missing resource
+            throw new IllegalStateException(e.getMessage());
+        }
+
+        long start = System.nanoTime();
+        Map<String, Long> perMove = null;
+        long nodes;
+        if (divide) {
+            perMove = Perft.divide(pos, depth);
+            nodes = perMove.values().stream().mapToLong(Long::longValue).sum();
+        } else {
+            nodes = Perft.perft(pos, depth);
+        }
+        long nanos = Math.max(1, System.nanoTime() - start);
+
+        return new PerftResponse(FenCodec.toFen(pos), depth, nodes, nanos / 1_000_000,
+                nodes * 1_000_000_000L / nanos, perMove);
+    }
+}
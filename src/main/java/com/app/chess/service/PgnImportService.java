@@ -0,0 +1,211 @@
+package com.app.chess.service;
+
+import com.app.chess.dto.PgnImportResponse;
+import com.app.chess.model.Game;
+import com.app.chess.model.GameStatus;
+import com.app.chess.service.board.Position;
+import com.app.chess.service.clock.Clock;
+import com.app.chess.service.clock.GameTimers;
+import com.app.chess.service.cluster.ClusterRouter;
+import com.app.chess.service.fen.FenCodec;
+import com.app.chess.service.history.MoveLog;
+import com.app.chess.service.persistence.GameStore;
+import com.app.chess.service.pgn.PgnGame;
+import com.app.chess.service.pgn.PgnReader;
+import com.app.chess.service.pgn.San;
+import com.app.chess.service.rules.GameEnd;
+import com.app.chess.service.rules.MoveGenerator;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bulk PGN import. One thread reads the stream and cuts it into chunks of
+ * games; a fork-join pool resolves the SAN of each chunk in parallel and
+ * saves it in one store write. At most {@code 2 x parallelism} chunks are in
+ * flight, so memory stays constant however large the file is.
+ * <p>
+ * Only games from the standard initial position are imported (no [FEN] tag),
+ * since the stored move log is replayed from it. An unfinished game ("*") is
+ * untimed and gets its abandonment deadline, scheduled like a new game's.
+ */
+@Service
+public class PgnImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(PgnImportService.class);
+
+    private static final int CHUNK_SIZE = 256;
+    private static final int MAX_ERRORS = 20;
+
+    private final GameStore store;
+    private final GameTimers timers;
+    private final ClusterRouter router;
+    private final long abandonAfterMs;
+    private final ForkJoinPool pool;
+
+    public PgnImportService(GameStore store, GameTimers timers, ClusterRouter router,
+                            @Value("${chess.clock.abandon-after-ms:86400000}") long abandonAfterMs,
+                            @Value("${chess.pgn.import-parallelism:0}") int parallelism) {
+        this.store = store;
+        this.timers = timers;
+        this.router = router;
+        this.abandonAfterMs = abandonAfterMs;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    public PgnImportResponse importPgn(InputStream in) {
+        long start = System.nanoTime();
+        PgnReader reader = new PgnReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        int maxInFlight = pool.getParallelism() * 2;
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        AtomicLong imported = new AtomicLong();
+        AtomicLong skipped = new AtomicLong();
+        AtomicLong failed = new AtomicLong();
+        List<String> errors = Collections.synchronizedList(new ArrayList<>());
+
+        try {
+            List<PgnGame> chunk = new ArrayList<>(CHUNK_SIZE);
+            for (PgnGame g = reader.next(); ; g = reader.next()) {
+                if (g != null) chunk.add(g);
+                if (chunk.size() == CHUNK_SIZE || (g == null && !chunk.isEmpty())) {
+                    List<PgnGame> work = chunk;
+                    chunk = new ArrayList<>(CHUNK_SIZE);
+                    inFlight.acquire();
+                    pool.execute(() -> {
+                        try {
+                            importChunk(work, imported, skipped, failed, errors);
+                        } finally {
+                            inFlight.release();
+                        }
+                    });
+                }
+                if (g == null) break;
+            }
+            // Wait for the last chunks
+            inFlight.acquire(maxInFlight);
+            inFlight.release(maxInFlight);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Importação interrompida");
+        }
+
+        long nanos = Math.max(1, System.nanoTime() - start);
+        return new PgnImportResponse(imported.get(), skipped.get(), failed.get(), List.copyOf(errors), nanos / 1_000_000,
+                imported.get() * 1_000_000_000L / nanos);
+    }
+
+    /**
+     * Invalid games (illegal moves, a [FEN] tag) count as skipped; any other
+     * error, converting one game or storing the chunk, counts those games as
+     * failed. Either way the rest of the file is still imported.
+     */
+    private void importChunk(List<PgnGame> chunk, AtomicLong imported, AtomicLong skipped, AtomicLong failed,
+                             List<String> errors) {
+        Position pos = new Position();
+        int[] legal = new int[MoveGenerator.MAX_MOVES];
+        int[] moves = new int[PgnReader.MAX_PLIES];
+        List<Game> games = new ArrayList<>(chunk.size());
+        for (PgnGame g : chunk) {
+            try {
+                games.add(toGame(g, pos, legal, moves));
+            } catch (IllegalStateException e) {
+                skipped.incrementAndGet();
+                if (errors.size() < MAX_ERRORS) errors.add("Partida " + g.number() + ": " + e.getMessage());
+            } catch (RuntimeException e) {
+                log.warn("Falha ao converter a partida {} do PGN", g.number(), e);
+                failed.incrementAndGet();
+                if (errors.size() < MAX_ERRORS) errors.add("Partida " + g.number() + ": falha ao converter");
+            }
+        }
+        try {
+            List<Long> ids = store.createAll(games);
+            imported.addAndGet(games.size());
+            for (int i = 0; i < ids.size(); i++) {
+                Game game = games.get(i);
+                if (game.getDeadline() != null && router.isLocal(ids.get(i))) {
+                    timers.schedule(ids.get(i), game.getDeadline().toEpochMilli());
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Falha ao gravar {} partida(s) importada(s)", games.size(), e);
+            failed.addAndGet(games.size());
+            if (errors.size() < MAX_ERRORS) {
+                errors.add("Partidas " + chunk.get(0).number() + "-" + chunk.get(chunk.size() - 1).number()
+                        + ": falha ao gravar");
+            }
+        }
+    }
+
+    private Game toGame(PgnGame g, Position pos, int[] legal, int[] moves) {
+        if (g.error() != null) throw new IllegalStateException(g.error());
+        if (g.tags().containsKey("FEN")) throw new IllegalStateException("Posição inicial personalizada não suportada");
+
+        FenCodec.parse(FenCodec.INITIAL_FEN, pos);
+        int n = 0;
+        for (String san : g.moves()) {
+            int move = San.parse(pos, san, legal);
+            pos.makeMove(move);
+            moves[n++] = move;
+        }
+
+        Game game = new Game(FenCodec.toFen(pos), pos.hash());
+        game.setTurn(pos.sideToMove() == Position.WHITE ? "WHITE" : "BLACK");
+        // The final position decides when it is terminal; otherwise the result tag does
+        GameEnd.Outcome outcome = GameEnd.evaluate(pos, 1, false);
+        if (outcome == GameEnd.Outcome.CHECKMATE) {
+            game.setStatus(GameStatus.XEQUE_MATE);
+            game.setWinner(pos.sideToMove() == Position.WHITE ? "BLACK" : "WHITE");
+            return withLog(game, moves, n);
+        }
+        if (outcome == GameEnd.Outcome.STALEMATE || outcome == GameEnd.Outcome.INSUFFICIENT_MATERIAL
+                || outcome == GameEnd.Outcome.SEVENTY_FIVE_MOVES) {
+            game.setStatus(outcome == GameEnd.Outcome.STALEMATE ? GameStatus.AFOGAMENTO
+                    : outcome == GameEnd.Outcome.INSUFFICIENT_MATERIAL ? GameStatus.EMPATE_MATERIAL_INSUFICIENTE
+                    : GameStatus.EMPATE_75_LANCES);
+            return withLog(game, moves, n);
+        }
+        switch (g.result()) {
+            case "1-0" -> {
+                game.setStatus(GameStatus.FINALIZADO);
+                game.setWinner("WHITE");
+            }
+            case "0-1" -> {
+                game.setStatus(GameStatus.FINALIZADO);
+                game.setWinner("BLACK");
+            }
+            case "1/2-1/2" -> game.setStatus(GameStatus.FINALIZADO);
+            default -> {
+                game.setStatus(GameStatus.EM_EXECUCAO);
+                Clock clock = Clock.of(0, 0, game.getCreatedAt().toEpochMilli());
+                clock.writeTo(game, clock.deadline(pos.sideToMove(), abandonAfterMs));
+            }
+        }
+        return withLog(game, moves, n);
+    }
+
+    private static Game withLog(Game game, int[] moves, int n) {
+        // Imported moves have no timestamps of their own: all are stamped with the import time
+        long at = game.getCreatedAt().toEpochMilli();
+        MoveLog log = new MoveLog(at);
+        for (int i = 0; i < n; i++) log.append(moves[i], at);
+        game.setMoveLog(log.toByteArray());
+        return game;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+}
@@ -0,0 +1,140 @@
+package com.app.chess.service.board;
+
+/**
+ * Precomputed attack tables.
+ * Leapers (knight, king, pawn) are plain lookups; sliders use per-direction
+ * ray tables and cut the ray at the first blocker found with a bit scan.
+ */
+public final class Attacks {
+
+    private static final long[] KNIGHT = new long[64];
+    private static final long[] KING = new long[64];
+    private static final long[][] PAWN = new long[2][64];
+
+    /**
+     * Directions 0..3 grow the square index (N, E, NE, NW), 4..7 shrink it (S, W, SW, SE).
+     */
+    private static final int[][] DIRS = {
+            {0, 1}, {1, 0}, {1, 1}, {-1, 1},
+            {0, -1}, {-1, 0}, {-1, -1}, {1, -1}
+    };
+    private static final long[][] RAYS = new long[8][64];
+
+    private static final long[][] BETWEEN = new long[64][64];
+    private static final long[][] LINE = new long[64][64];
+
+    static {
+        for (int sq = 0; sq < 64; sq++) {
+            int f = Squares.file(sq), r = Squares.rank(sq);
+            KNIGHT[sq] = leaper(f, r, new int[][]{{1, 2}, {2, 1}, {2, -1}, {1, -2}, {-1, -2}, {-2, -1}, {-2, 1}, {-1, 2}});
+            KING[sq] = leaper(f, r, new int[][]{{1, 0}, {1, 1}, {0, 1}, {-1, 1}, {-1, 0}, {-1, -1}, {0, -1}, {1, -1}});
+            PAWN[Position.WHITE][sq] = leaper(f, r, new int[][]{{-1, 1}, {1, 1}});
+            PAWN[Position.BLACK][sq] = leaper(f, r, new int[][]{{-1, -1}, {1, -1}});
+            for (int d = 0; d < 8; d++) {
+                long ray = 0L;
+                for (int nf = f + DIRS[d][0], nr = r + DIRS[d][1]; onBoard(nf, nr); nf += DIRS[d][0], nr += DIRS[d][1]) {
+                    ray |= Squares.bit(Squares.of(nf, nr));
+                }
+                RAYS[d][sq] = ray;
+            }
+        }
+        for (int a = 0; a < 64; a++) {
+            for (int d = 0; d < 8; d++) {
+                long ray = RAYS[d][a];
+                for (long bits = ray; bits != 0; bits &= bits - 1) {
+                    int b = Long.numberOfTrailingZeros(bits);
+                    BETWEEN[a][b] = ray & ~RAYS[d][b] & ~Squares.bit(b);
+                    LINE[a][b] = ray | RAYS[(d + 4) & 7][a] | Squares.bit(a);
+                }
+            }
+        }
+    }
+
+    private Attacks() {
+    }
+
+    private static boolean onBoard(int f, int r) {
+        return f >= 0 && f < 8 && r >= 0 && r < 8;
+    }
+
+    private static long leaper(int f, int r, int[][] deltas) {
+        long b = 0L;
+        for (int[] d : deltas) {
+            if (onBoard(f + d[0], r + d[1])) b |= Squares.bit(Squares.of(f + d[0], r + d[1]));
+        }
+        return b;
+    }
+
+    private static long ray(int dir, int sq, long occupied) {
+        long attacks = RAYS[dir][sq];
+        long blockers = attacks & occupied;
+        if (blockers != 0) {
+            int b = dir < 4 ? Long.numberOfTrailingZeros(blockers) : 63 - Long.numberOfLeadingZeros(blockers);
+            attacks ^= RAYS[dir][b];
+        }
+        return attacks;
+    }
+
+    public static long knight(int sq) {
+        return KNIGHT[sq];
+    }
+
+    public static long king(int sq) {
+        return KING[sq];
+    }
+
+    /**
+     * Squares attacked by a pawn of {@code color} standing on {@code sq}.
+     */
+    public static long pawn(int color, int sq) {
+        return PAWN[color][sq];
+    }
+
+    public static long rook(int sq, long occupied) {
+        return ray(0, sq, occupied) | ray(1, sq, occupied) | ray(4, sq, occupied) | ray(5, sq, occupied);
+    }
+
+    public static long bishop(int sq, long occupied) {
+        return ray(2, sq, occupied) | ray(3, sq, occupied) | ray(6, sq, occupied) | ray(7, sq, occupied);
+    }
+
+    public static long queen(int sq, long occupied) {
+        return rook(sq, occupied) | bishop(sq, occupied);
+    }
+
+    /**
+     * Squares strictly between {@code a} and {@code b} when they share a rank,
+     * file or diagonal; 0 otherwise.
+     */
+    public static long between(int a, int b) {
+        return BETWEEN[a][b];
+    }
+
+    /**
+     * The full line through {@code a} and {@code b} (edge to edge); 0 if not aligned.
+     */
+    public static long line(int a, int b) {
+        return LINE[a][b];
+    }
+
+    /**
+     * Pieces of {@code color} attacking {@code sq}, given the occupancy {@code occupied}.
+     */
+    public static long attackersTo(Position pos, int sq, int color, long occupied) {
+        long queens = pos.bitboard(color, Position.QUEEN);
+        return (pawn(color ^ 1, sq) & pos.bitboard(color, Position.PAWN))
+                | (knight(sq) & pos.bitboard(color, Position.KNIGHT))
+                | (king(sq) & pos.bitboard(color, Position.KING))
+                | (rook(sq, occupied) & (pos.bitboard(color, Position.ROOK) | queens))
+                | (bishop(sq, occupied) & (pos.bitboard(color, Position.BISHOP) | queens));
+    }
+
+    public static boolean isAttacked(Position pos, int sq, int byColor) {
+        return attackersTo(pos, sq, byColor, pos.occupied()) != 0;
+    }
+
+    public static boolean inCheck(Position pos, int color) {
+        long king = pos.bitboard(color, Position.KING);
+        return king != 0 && isAttacked(pos, Long.numberOfTrailingZeros(king), color ^ 1);
+    }
+}
@@ -0,0 +1,93 @@
+package com.app.chess.service.board;
+
+/**
+ * 16-bit move encoding.
+ * <pre>
+ * bits  0-5   from square
+ * bits  6-11  to square
+ * bits 12-14  promotion piece type (0 = none, KNIGHT..QUEEN)
+ * bit  15     capture flag
+ * </pre>
+ * Castling and en passant are recognised by {@link Position#makeMove} from the
+ * squares alone, so they need no extra flag.
+ */
+public final class Moves {
+
+    public static final int NONE = 0;
+
+    private static final int CAPTURE = 1 << 15;
+    private static final String PROMOTION_CHARS = " nbrq";
+
+    private Moves() {
+    }
+
+    public static int of(int from, int to) {
+        return from | (to << 6);
+    }
+
+    public static int of(int from, int to, int promotion) {
+        return from | (to << 6) | (promotion << 12);
+    }
+
+    public static int capture(int move) {
+        return move | CAPTURE;
+    }
+
+    public static int from(int move) {
+        return move & 0x3F;
+    }
+
+    public static int to(int move) {
+        return (move >>> 6) & 0x3F;
+    }
+
+    public static int promotion(int move) {
+        return (move >>> 12) & 0x7;
+    }
+
+    public static boolean isCapture(int move) {
+        return (move & CAPTURE) != 0;
+    }
+
+    /**
+     * Identity of a move ignoring flags: two moves are the same if they have
+     * the same squares and promotion piece.
+     */
+    public static int key(int move) {
+        return move & 0x7FFF;
+    }
+
+    /**
+     * Promotion letter (q, r, b, n) to piece type, or 0 for blank/null.
+     */
+    public static int promotionOf(String s) {
+        if (s == null || s.isEmpty()) return 0;
+        int p = PROMOTION_CHARS.indexOf(Character.toLowerCase(s.charAt(0)));
+        if (p <= 0 || s.length() != 1) throw new IllegalArgumentException("Promoção inválida");
+        return p;
+    }
+
+    /**
+     * "q", "r", "b", "n", or null when the move is not a promotion.
+     */
+    public static String promotionName(int move) {
+        int promo = promotion(move);
+        return promo == 0 ? null : String.valueOf(PROMOTION_CHARS.charAt(promo));
+    }
+
+    /**
+     * e2e4, e7e8q
+     */
+    public static String toUci(int move) {
+        String s = Squares.name(from(move)) + Squares.name(to(move));
+        int promo = promotion(move);
+        return promo == 0 ? s : s + PROMOTION_CHARS.charAt(promo);
+    }
+
+    public static int parseUci(String uci) {
+        if (uci == null || (uci.length() != 4 && uci.length() != 5)) throw new IllegalArgumentException("Lance inválido");
+        int from = Squares.parse(uci.charAt(0), uci.charAt(1));
+        int to = Squares.parse(uci.charAt(2), uci.charAt(3));
+        return of(from, to, uci.length() == 5 ? promotionOf(uci.substring(4)) : 0);
+    }
+}
@@ -0,0 +1,284 @@
+package com.app.chess.service.board;
+
+import java.util.Arrays;
+
+/**
+ * Bitboard chess position.
+ * One {@code long} per piece type and color (bit n = square n, a1 = 0), plus a
+ * 64-byte mailbox for O(1) piece lookup, side to move, castling rights,
+ * en-passant square and the halfmove/fullmove clocks. The {@link Zobrist}
+ * hash is kept up to date incrementally by every mutation.
+ * <p>
+ * Instances are mutable so the hot path can reuse them instead of allocating
+ * a new board per request.
+ */
+public final class Position {
+
+    public static final int WHITE = 0;
+    public static final int BLACK = 1;
+
+    public static final int PAWN = 0;
+    public static final int KNIGHT = 1;
+    public static final int BISHOP = 2;
+    public static final int ROOK = 3;
+    public static final int QUEEN = 4;
+    public static final int KING = 5;
+
+    public static final int EMPTY = -1;
+
+    public static final int CASTLE_WK = 1;
+    public static final int CASTLE_WQ = 2;
+    public static final int CASTLE_BK = 4;
+    public static final int CASTLE_BQ = 8;
+
+    private static final String PIECE_CHARS = "PNBRQKpnbrqk";
+
+    /**
+     * Castling rights kept when a piece leaves or lands on each square.
+     */
+    private static final int[] CASTLE_MASK = new int[64];
+
+    static {
+        Arrays.fill(CASTLE_MASK, 0xF);
+        CASTLE_MASK[0] = ~CASTLE_WQ & 0xF;   // a1
+        CASTLE_MASK[7] = ~CASTLE_WK & 0xF;   // h1
+        CASTLE_MASK[4] = ~(CASTLE_WK | CASTLE_WQ) & 0xF;  // e1
+        CASTLE_MASK[56] = ~CASTLE_BQ & 0xF;  // a8
+        CASTLE_MASK[63] = ~CASTLE_BK & 0xF;  // h8
+        CASTLE_MASK[60] = ~(CASTLE_BK | CASTLE_BQ) & 0xF; // e8
+    }
+
+    private final long[] pieces = new long[12];
+    private final long[] occupancy = new long[2];
+    private final byte[] board = new byte[64];
+
+    private int sideToMove = WHITE;
+    private int castling;
+    private int epSquare = Squares.NONE;
+    private int halfmove;
+    private int fullmove = 1;
+
+    /**
+     * Zobrist hash of pieces, castling rights and side to move.
+     */
+    private long hash = Zobrist.castling(0);
+    /**
+     * En-passant part of the hash, non-zero only when the capture is possible.
+     */
+    private long epKey;
+
+    public Position() {
+        Arrays.fill(board, (byte) EMPTY);
+    }
+
+    public static int piece(int color, int type) {
+        return color * 6 + type;
+    }
+
+    public static int colorOf(int piece) {
+        return piece < 6 ? WHITE : BLACK;
+    }
+
+    public static int typeOf(int piece) {
+        return piece % 6;
+    }
+
+    /**
+     * 'P' -> white pawn, 'k' -> black king, anything else -> {@link #EMPTY}.
+     */
+    public static int pieceOf(char c) {
+        return PIECE_CHARS.indexOf(c);
+    }
+
+    public static char pieceChar(int piece) {
+        return piece == EMPTY ? '.' : PIECE_CHARS.charAt(piece);
+    }
+
+    public void clear() {
+        Arrays.fill(pieces, 0L);
+        Arrays.fill(occupancy, 0L);
+        Arrays.fill(board, (byte) EMPTY);
+        sideToMove = WHITE;
+        castling = 0;
+        epSquare = Squares.NONE;
+        halfmove = 0;
+        fullmove = 1;
+        hash = Zobrist.castling(0);
+        epKey = 0L;
+    }
+
+    public void copyFrom(Position other) {
+        System.arraycopy(other.pieces, 0, pieces, 0, 12);
+        System.arraycopy(other.occupancy, 0, occupancy, 0, 2);
+        System.arraycopy(other.board, 0, board, 0, 64);
+        sideToMove = other.sideToMove;
+        castling = other.castling;
+        epSquare = other.epSquare;
+        halfmove = other.halfmove;
+        fullmove = other.fullmove;
+        hash = other.hash;
+        epKey = other.epKey;
+    }
+
+    public Position copy() {
+        Position p = new Position();
+        p.copyFrom(this);
+        return p;
+    }
+
+    public void put(int piece, int sq) {
+        long b = 1L << sq;
+        pieces[piece] |= b;
+        occupancy[colorOf(piece)] |= b;
+        board[sq] = (byte) piece;
+        hash ^= Zobrist.piece(piece, sq);
+    }
+
+    public int remove(int sq) {
+        int piece = board[sq];
+        if (piece != EMPTY) {
+            long b = ~(1L << sq);
+            pieces[piece] &= b;
+            occupancy[colorOf(piece)] &= b;
+            board[sq] = (byte) EMPTY;
+            hash ^= Zobrist.piece(piece, sq);
+        }
+        return piece;
+    }
+
+    /**
+     * Applies a move that has already been validated. Handles captures,
+     * en passant, castling (king moving two files), promotion, castling rights,
+     * the en-passant square and both clocks.
+     *
+     * @param promotion piece type a pawn becomes on the last rank (e.g. {@link #QUEEN})
+     * @return the captured piece, or {@link #EMPTY}
+     */
+    public int makeMove(int from, int to, int promotion) {
+        int us = sideToMove;
+        int moving = board[from];
+        int type = typeOf(moving);
+
+        int capturedSq = to;
+        if (type == PAWN && to == epSquare && board[to] == EMPTY) {
+            capturedSq = us == WHITE ? to - 8 : to + 8;
+        }
+        int captured = remove(capturedSq);
+
+        remove(from);
+        int toRank = Squares.rank(to);
+        if (type == PAWN && (toRank == 7 || toRank == 0)) {
+            put(piece(us, promotion), to);
+        } else {
+            put(moving, to);
+        }
+
+        if (type == KING && Math.abs(to - from) == 2) {
+            int rookFrom = to > from ? to + 1 : to - 2;
+            int rookTo = to > from ? to - 1 : to + 1;
+            put(remove(rookFrom), rookTo);
+        }
+
+        hash ^= Zobrist.castling(castling);
+        castling &= CASTLE_MASK[from] & CASTLE_MASK[to];
+        hash ^= Zobrist.castling(castling) ^ Zobrist.blackToMove();
+
+        halfmove = (type == PAWN || captured != EMPTY) ? 0 : halfmove + 1;
+        if (us == BLACK) fullmove++;
+        sideToMove = us ^ 1;
+        epSquare = (type == PAWN && Math.abs(to - from) == 16) ? (from + to) >>> 1 : Squares.NONE;
+        epKey = computeEpKey();
+        return captured;
+    }
+
+    /**
+     * Applies a move in {@link Moves} encoding. A pawn reaching the last rank
+     * without a promotion piece becomes a queen.
+     */
+    public int makeMove(int move) {
+        int promotion = Moves.promotion(move);
+        return makeMove(Moves.from(move), Moves.to(move), promotion == 0 ? QUEEN : promotion);
+    }
+
+    private long computeEpKey() {
+        if (epSquare == Squares.NONE) return 0L;
+        long capturers = Attacks.pawn(sideToMove ^ 1, epSquare) & pieces[piece(sideToMove, PAWN)];
+        return capturers != 0 ? Zobrist.epFile(Squares.file(epSquare)) : 0L;
+    }
+
+    /**
+     * Zobrist hash: equal for positions with the same pieces, side to move,
+     * castling rights and en-passant capture, which is what repetition needs.
+     */
+    public long hash() {
+        return hash ^ epKey;
+    }
+
+    public int kingSquare(int color) {
+        return Long.numberOfTrailingZeros(pieces[piece(color, KING)]);
+    }
+
+    public int pieceAt(int sq) {
+        return board[sq];
+    }
+
+    public long bitboard(int color, int type) {
+        return pieces[piece(color, type)];
+    }
+
+    public long occupancy(int color) {
+        return occupancy[color];
+    }
+
+    public long occupied() {
+        return occupancy[WHITE] | occupancy[BLACK];
+    }
+
+    public int sideToMove() {
+        return sideToMove;
+    }
+
+    public void setSideToMove(int sideToMove) {
+        if (sideToMove != this.sideToMove) hash ^= Zobrist.blackToMove();
+        this.sideToMove = sideToMove;
+        epKey = computeEpKey();
+    }
+
+    public int castling() {
+        return castling;
+    }
+
+    public void setCastling(int castling) {
+        hash ^= Zobrist.castling(this.castling) ^ Zobrist.castling(castling);
+        this.castling = castling;
+    }
+
+    public int epSquare() {
+        return epSquare;
+    }
+
+    /**
+     * Set after the pieces and side to move, since the hash only counts an
+     * en-passant square when a pawn can actually capture on it.
+     */
+    public void setEpSquare(int epSquare) {
+        this.epSquare = epSquare;
+        epKey = computeEpKey();
+    }
+
+    public int halfmove() {
+        return halfmove;
+    }
+
+    public void setHalfmove(int halfmove) {
+        this.halfmove = halfmove;
+    }
+
+    public int fullmove() {
+        return fullmove;
+    }
+
+    public void setFullmove(int fullmove) {
+        this.fullmove = fullmove;
+    }
+}
@@ -0,0 +1,48 @@
+package com.app.chess.service.board;
+
+/**
+ * Square helpers for the bitboard model.
+ * Squares are numbered a1 = 0, b1 = 1 ... h8 = 63 (rank * 8 + file).
+ */
+public final class Squares {
+
+    public static final int NONE = -1;
+
+    private Squares() {
+    }
+
+    public static int of(int file, int rank) {
+        return rank * 8 + file;
+    }
+
+    public static int file(int sq) {
+        return sq & 7;
+    }
+
+    public static int rank(int sq) {
+        return sq >>> 3;
+    }
+
+    public static long bit(int sq) {
+        return 1L << sq;
+    }
+
+    /**
+     * "e2" -> 12
+     */
+    public static int parse(String sq) {
+        if (sq == null || sq.length() != 2) throw new IllegalArgumentException("Casa inválida");
+        return parse(sq.charAt(0), sq.charAt(1));
+    }
+
+    public static int parse(char file, char rank) {
+        int f = file - 'a';
+        int r = rank - '1';
+        if (r < 0 || r > 7 || f < 0 || f > 7) throw new IllegalArgumentException("Casa fora do tabuleiro");
+        return of(f, r);
+    }
+
+    public static String name(int sq) {
+        return new String(new char[]{(char) ('a' + file(sq)), (char) ('1' + rank(sq))});
+    }
+}
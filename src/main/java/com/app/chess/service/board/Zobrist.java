@@ -0,0 +1,46 @@
+package com.app.chess.service.board;
+
+import java.util.SplittableRandom;
+
+/**
+ * Zobrist keys. A position hash is the XOR of the keys of every piece on its
+ * square, the castling rights, the en-passant file (only when a capture is
+ * actually possible) and the side to move. The seed is fixed so hashes are
+ * stable across restarts and can be stored.
+ */
+public final class Zobrist {
+
+    private static final long[][] PIECE_SQUARE = new long[12][64];
+    private static final long[] CASTLING = new long[16];
+    private static final long[] EP_FILE = new long[8];
+    private static final long BLACK_TO_MOVE;
+
+    static {
+        SplittableRandom rnd = new SplittableRandom(0x5EED_C4E55L);
+        for (long[] keys : PIECE_SQUARE) {
+            for (int sq = 0; sq < 64; sq++) keys[sq] = rnd.nextLong();
+        }
+        for (int i = 0; i < 16; i++) CASTLING[i] = rnd.nextLong();
+        for (int i = 0; i < 8; i++) EP_FILE[i] = rnd.nextLong();
+        BLACK_TO_MOVE = rnd.nextLong();
+    }
+
+    private Zobrist() {
+    }
+
+    public static long piece(int piece, int sq) {
+        return PIECE_SQUARE[piece][sq];
+    }
+
+    public static long castling(int rights) {
+        return CASTLING[rights];
+    }
+
+    public static long epFile(int file) {
+        return EP_FILE[file];
+    }
+
+    public static long blackToMove() {
+        return BLACK_TO_MOVE;
+    }
+}
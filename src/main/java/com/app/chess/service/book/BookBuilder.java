@@ -0,0 +1,121 @@
+package com.app.chess.service.book;
+
+import com.app.chess.service.board.Moves;
+import com.app.chess.service.board.Position;
+import com.app.chess.service.fen.FenCodec;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collects (position, move, result) counts from finished games and writes
+ * them as an {@link OpeningBook} file. Only the first {@code maxPlies} plies
+ * of each game are counted, which is where games share positions.
+ * Not thread-safe: one builder per build.
+ */
+public final class BookBuilder {
+
+    public static final int WHITE_WINS = 0;
+    public static final int DRAW = 1;
+    public static final int BLACK_WINS = 2;
+
+    private static final int MAX_COUNT = 0xFFFF;
+
+    private record Key(long hash, int move) {
+    }
+
+    private final int maxPlies;
+    private final Map<Key, int[]> counts = new HashMap<>();
+    private final Position pos = new Position();
+    private long games;
+
+    public BookBuilder(int maxPlies) {
+        this.maxPlies = maxPlies;
+    }
+
+    /**
+     * Adds one game played from the initial position.
+     *
+     * @param moves  moves in {@link Moves} encoding, already known to be legal
+     * @param result {@link #WHITE_WINS}, {@link #DRAW} or {@link #BLACK_WINS}
+     */
+    public void add(int[] moves, int count, int result) {
+        FenCodec.parse(FenCodec.INITIAL_FEN, pos);
+        int n = Math.min(count, maxPlies);
+        for (int i = 0; i < n; i++) {
+            int move = Moves.key(moves[i]);
+            counts.computeIfAbsent(new Key(pos.hash(), move), k -> new int[3])[result]++;
+            pos.makeMove(move);
+        }
+        games++;
+    }
+
+    public long games() {
+        return games;
+    }
+
+    /**
+     * Number of records the book will have.
+     */
+    public int entries() {
+        return counts.size();
+    }
+
+    /**
+     * Writes the book to a temporary file next to {@code target} and moves it
+     * into place, so readers never see a partial file.
+     *
+     * @return the file size in bytes
+     */
+    public long write(Path target) throws IOException {
+        List<Map.Entry<Key, int[]>> sorted = new ArrayList<>(counts.entrySet());
+        sorted.sort(Comparator.<Map.Entry<Key, int[]>, Long>comparing(e -> e.getKey().hash(), Long::compareUnsigned)
+                .thenComparing(e -> -(e.getValue()[0] + e.getValue()[1] + e.getValue()[2]))
+                .thenComparingInt(e -> e.getKey().move()));
+
+        Path dir = target.toAbsolutePath().getParent();
+        Files.createDirectories(dir);
+        Path tmp = Files.createTempFile(dir, target.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel ch = FileChannel.open(tmp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                ByteBuffer buf = ByteBuffer.allocate(OpeningBook.RECORD_SIZE * 4096);
+                for (Map.Entry<Key, int[]> e : sorted) {
+                    if (!buf.hasRemaining()) drain(buf, ch);
+                    int[] c = e.getValue();
+                    buf.putLong(e.getKey().hash())
+                            .putShort((short) e.getKey().move())
+                            .putShort((short) Math.min(c[WHITE_WINS], MAX_COUNT))
+                            .putShort((short) Math.min(c[DRAW], MAX_COUNT))
+                            .putShort((short) Math.min(c[BLACK_WINS], MAX_COUNT));
+                }
+                drain(buf, ch);
+                ch.force(true);
+            }
+            try {
+                Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+        return (long) sorted.size() * OpeningBook.RECORD_SIZE;
+    }
+
+    private static void drain(ByteBuffer buf, FileChannel ch) throws IOException {
+        buf.flip();
+        while (buf.hasRemaining()) ch.write(buf);
+        buf.clear();
+    }
+}
@@ -0,0 +1,11 @@
+package com.app.chess.service.book;
+
+/**
+ * One book move of a position with the results of the games that played it.
+ */
+public record BookEntry(int move, int whiteWins, int draws, int blackWins) {
+
+    public int games() {
+        return whiteWins + draws + blackWins;
+    }
+}
@@ -0,0 +1,96 @@
+package com.app.chess.service.book;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read-only opening book mapped into memory. The file is a flat array of
+ * fixed-width records sorted by position key, in the spirit of Polyglot:
+ * <pre>
+ * bytes  0-7   Zobrist hash of the position (unsigned order)
+ * bytes  8-9   move played from it ({@link com.app.chess.service.board.Moves#key} encoding)
+ * bytes 10-11  games won by White after it
+ * bytes 12-13  games drawn
+ * bytes 14-15  games won by Black
+ * </pre>
+ * All big-endian; counts saturate at 65535. Keys are this project's
+ * {@link com.app.chess.service.board.Zobrist} hashes, not Polyglot's.
+ * <p>
+ * Lookups binary-search the mapping with absolute reads, so the file is never
+ * copied to the heap and the page cache is shared by all readers.
+ */
+public final class OpeningBook {
+
+    public static final int RECORD_SIZE = 16;
+
+    private static final OpeningBook EMPTY = new OpeningBook(ByteBuffer.allocate(0));
+
+    private final ByteBuffer data;
+    private final int records;
+
+    private OpeningBook(ByteBuffer data) {
+        this.data = data;
+        this.records = data.capacity() / RECORD_SIZE;
+    }
+
+    public static OpeningBook empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Maps {@code file}; the mapping stays valid after the channel is closed
+     * and even after the file is replaced.
+     */
+    public static OpeningBook open(Path file) throws IOException {
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = ch.size();
+            if (size % RECORD_SIZE != 0 || size > Integer.MAX_VALUE) {
+                throw new IOException("Livro de aberturas corrompido: " + file);
+            }
+            return new OpeningBook(ch.map(FileChannel.MapMode.READ_ONLY, 0, size));
+        }
+    }
+
+    /**
+     * Number of (position, move) records.
+     */
+    public int size() {
+        return records;
+    }
+
+    /**
+     * Book moves of the position with hash {@code key}, in file order (most
+     * played first).
+     */
+    public List<BookEntry> lookup(long key) {
+        List<BookEntry> out = new ArrayList<>();
+        for (int i = lowerBound(key); i < records && data.getLong(i * RECORD_SIZE) == key; i++) {
+            int at = i * RECORD_SIZE;
+            out.add(new BookEntry(
+                    Short.toUnsignedInt(data.getShort(at + 8)),
+                    Short.toUnsignedInt(data.getShort(at + 10)),
+                    Short.toUnsignedInt(data.getShort(at + 12)),
+                    Short.toUnsignedInt(data.getShort(at + 14))));
+        }
+        return out;
+    }
+
+    /**
+     * Index of the first record whose key is not below {@code key}.
+     */
+    private int lowerBound(long key) {
+        int lo = 0;
+        int hi = records;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (Long.compareUnsigned(data.getLong(mid * RECORD_SIZE), key) < 0) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+}
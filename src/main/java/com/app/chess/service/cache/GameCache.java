@@ -0,0 +1,122 @@
+package com.app.chess.service.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of active games keyed by game id, with the same CLOCK
+ * eviction as {@link PositionCache}: a hit is a {@link ConcurrentHashMap}
+ * read plus setting the entry's reference bit, so reads and moves never
+ * share a lock. Only inserts and evictions take {@link #writeLock}, and
+ * loading happens outside it so a slow database read never blocks other
+ * games.
+ */
+@Component
+public class GameCache {
+
+    private static final class Slot {
+        final GameState state;
+        final int index;
+        volatile boolean referenced;
+
+        Slot(GameState state, int index) {
+            this.state = state;
+            this.index = index;
+        }
+    }
+
+    private final int capacity;
+    private final Map<Long, Slot> map;
+    private final Slot[] ring;
+    /**
+     * Guards {@link #ring}, {@link #free}, {@link #used} and {@link #hand}.
+     */
+    private final ReentrantLock writeLock = new ReentrantLock();
+    /**
+     * Ring indexes released by {@link #evict}, reused before sweeping.
+     */
+    private final int[] free;
+    private int freeCount;
+    private int used;
+    private int hand;
+
+    public GameCache(@Value("${chess.cache.max-games:10000}") int maxGames) {
+        this.capacity = Math.max(1, maxGames);
+        this.map = new ConcurrentHashMap<>(Math.max(16, this.capacity * 4 / 3));
+        this.ring = new Slot[this.capacity];
+        this.free = new int[this.capacity];
+    }
+
+    public GameState get(Long id, Function<Long, GameState> loader) {
+        Slot hit = map.get(id);
+        if (hit != null) {
+            // Only write when the bit is clear, so hot entries do not bounce cache lines
+            if (!hit.referenced) hit.referenced = true;
+            return hit.state;
+        }
+        GameState loaded = loader.apply(id);
+        return insert(loaded, false);
+    }
+
+    public void put(GameState state) {
+        insert(state, true);
+    }
+
+    public void evict(Long id) {
+        writeLock.lock();
+        try {
+            Slot slot = map.remove(id);
+            if (slot != null) {
+                ring[slot.index] = null;
+                free[freeCount++] = slot.index;
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public int size() {
+        return map.size();
+    }
+
+    /**
+     * Adds {@code state}; when its game is already cached, the cached copy
+     * wins unless {@code replace}, so two racing loads share one state.
+     *
+     * @return the state now cached for the game
+     */
+    private GameState insert(GameState state, boolean replace) {
+        writeLock.lock();
+        try {
+            Slot existing = map.get(state.getId());
+            int index;
+            if (existing != null) {
+                if (!replace) return existing.state;
+                index = existing.index;
+            } else if (freeCount > 0) {
+                index = free[--freeCount];
+            } else if (used < capacity) {
+                index = used++;
+            } else {
+                while (ring[hand].referenced) {
+                    ring[hand].referenced = false;
+                    hand = (hand + 1) % capacity;
+                }
+                index = hand;
+                map.remove(ring[index].state.getId(), ring[index]);
+                hand = (hand + 1) % capacity;
+            }
+            Slot slot = new Slot(state, index);
+            ring[index] = slot;
+            map.put(state.getId(), slot);
+            return state;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.app.chess.service.cache;
+
+import com.app.chess.model.Game;
+import com.app.chess.model.GameStatus;
+import com.app.chess.service.board.Position;
+import com.app.chess.service.clock.Clock;
+import com.app.chess.service.fen.FenCodec;
+import com.app.chess.service.history.MoveLog;
+import com.app.chess.service.wire.WireFormat;
+
+import java.time.Instant;
+import java.util.Arrays;
+
+/**
+ * Hot, in-memory copy of a game: the decoded position plus the fields of
+ * {@link Game} and the move history. Only read or mutated while holding the
+ * game's lock from {@link com.app.chess.service.lock.GameLocks}.
+ */
+public class GameState {
+
+    private final Long id;
+    private final Instant createdAt;
+    private final Position position;
+    private final MoveLog moves;
+
+    private GameStatus status;
+    private String turn;
+    private String winner;
+    private String fen;
+    private long version;
+    private Clock clock;
+    private long deadline;
+
+    /**
+     * Zobrist hash of every position reached, starting with the initial one.
+     */
+    private long[] history = new long[64];
+    private int historySize;
+
+    /**
+     * Bodies of GET /{id} and GET /{id}/board for the current version, by
+     * {@link WireFormat}, rendered on first read. Every change bumps
+     * {@link #version}, which makes them stale.
+     */
+    private final RenderedView[] detailsViews = new RenderedView[WireFormat.values().length];
+    private final RenderedView[] boardViews = new RenderedView[WireFormat.values().length];
+
+    /**
+     * Decodes the game's move log and rebuilds the position history by replaying
+     * it from the initial position, since repetition needs every hash and not
+     * only the current one.
+     */
+    public GameState(Game game) {
+        this.id = game.getId();
+        this.createdAt = game.getCreatedAt();
+        this.moves = MoveLog.decode(game.getMoveLog(), game.getCreatedAt().toEpochMilli());
+
+        Position replay = FenCodec.parse(FenCodec.INITIAL_FEN);
+        recordPosition(replay.hash());
+        for (int i = 0; i < moves.size(); i++) {
+            replay.makeMove(moves.move(i));
+            recordPosition(replay.hash());
+        }
+        this.position = FenCodec.parse(game.getBoardState());
+        this.status = game.getStatus();
+        this.turn = game.getTurn();
+        this.winner = game.getWinner();
+        this.fen = game.getBoardState();
+        this.version = game.getVersion() == null ? 0 : game.getVersion();
+        this.clock = Clock.of(game);
+        this.deadline = game.getDeadline() == null ? 0 : game.getDeadline().toEpochMilli();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Position getPosition() {
+        return position;
+    }
+
+    public MoveLog getMoves() {
+        return moves;
+    }
+
+    public long getHash() {
+        return position.hash();
+    }
+
+    public void recordPosition(long hash) {
+        if (historySize == history.length) history = Arrays.copyOf(history, historySize * 2);
+        history[historySize++] = hash;
+    }
+
+    /**
+     * How many times the current position has occurred. Only positions since the
+     * last capture or pawn move (the halfmove clock) can repeat, and only every
+     * other ply has the same side to move.
+     */
+    public int repetitions() {
+        if (historySize == 0) return 0;
+        long current = history[historySize - 1];
+        int oldest = Math.max(0, historySize - 1 - position.halfmove());
+        int count = 0;
+        for (int i = historySize - 1; i >= oldest; i -= 2) {
+            if (history[i] == current) count++;
+        }
+        return count;
+    }
+
+    public GameStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(GameStatus status) {
+        this.status = status;
+    }
+
+    public String getTurn() {
+        return turn;
+    }
+
+    public void setTurn(String turn) {
+        this.turn = turn;
+    }
+
+    public String getWinner() {
+        return winner;
+    }
+
+    public void setWinner(String winner) {
+        this.winner = winner;
+    }
+
+    /**
+     * FEN of {@link #getPosition()}, re-encoded once per move.
+     */
+    public String getFen() {
+        return fen;
+    }
+
+    public void setFen(String fen) {
+        this.fen = fen;
+    }
+
+    /**
+     * Version of this state; matches {@link Game#getVersion()} once all moves are persisted.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    public Clock getClock() {
+        return clock;
+    }
+
+    public void setClock(Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Next timeout of the game in epoch millis, as scheduled in
+     * {@link com.app.chess.service.clock.GameTimers}; 0 for none.
+     */
+    public long getDeadline() {
+        return deadline;
+    }
+
+    public void setDeadline(long deadline) {
+        this.deadline = deadline;
+    }
+
+    /**
+     * @return the rendered GET /{id} body, or null if not rendered for this version
+     */
+    public RenderedView getDetailsView(WireFormat format) {
+        RenderedView view = detailsViews[format.ordinal()];
+        return view != null && view.version() == version ? view : null;
+    }
+
+    public void setDetailsView(WireFormat format, RenderedView view) {
+        detailsViews[format.ordinal()] = view;
+    }
+
+    /**
+     * @return the rendered GET /{id}/board body, or null if not rendered for this version
+     */
+    public RenderedView getBoardView(WireFormat format) {
+        RenderedView view = boardViews[format.ordinal()];
+        return view != null && view.version() == version ? view : null;
+    }
+
+    public void setBoardView(WireFormat format, RenderedView view) {
+        boardViews[format.ordinal()] = view;
+    }
+}
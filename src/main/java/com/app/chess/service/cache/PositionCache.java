@@ -0,0 +1,132 @@
+package com.app.chess.service.cache;
+
+import com.app.chess.service.board.Position;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@link PositionInfo} of recently seen positions, shared by all games and
+ * keyed by Zobrist hash. Games that reach the same position (openings above
+ * all) reuse its legal moves and board views instead of recomputing them.
+ * <p>
+ * Bounded by {@code chess.position-cache.max-positions} with CLOCK eviction:
+ * a hit only sets the entry's reference bit, so reads take no lock and never
+ * reorder anything; an insert into a full cache sweeps the clock hand,
+ * clearing bits, until it finds an entry not used since the last sweep.
+ * Zero disables the cache.
+ * <pre>
+ * chess.position.cache.requests{result}  hit, miss
+ * chess.position.cache.evictions
+ * chess.position.cache.size
+ * </pre>
+ */
+@Component
+public class PositionCache {
+
+    private static final class Slot {
+        final long key;
+        final PositionInfo info;
+        final int index;
+        volatile boolean referenced;
+
+        Slot(long key, PositionInfo info, int index) {
+            this.key = key;
+            this.info = info;
+            this.index = index;
+        }
+    }
+
+    private final int capacity;
+    private final Map<Long, Slot> map;
+    private final Slot[] ring;
+    /**
+     * Guards {@link #ring}, {@link #hand} and {@link #size}; only inserts take it.
+     */
+    private final ReentrantLock insertLock = new ReentrantLock();
+    private int hand;
+    private int size;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public PositionCache(MeterRegistry registry,
+                         @Value("${chess.position-cache.max-positions:50000}") int capacity) {
+        this.capacity = Math.max(0, capacity);
+        this.map = new ConcurrentHashMap<>(Math.max(16, this.capacity * 4 / 3));
+        this.ring = new Slot[this.capacity];
+        FunctionCounter.builder("chess.position.cache.requests", hits, LongAdder::doubleValue)
+                .tag("result", "hit").register(registry);
+        FunctionCounter.builder("chess.position.cache.requests", misses, LongAdder::doubleValue)
+                .tag("result", "miss").register(registry);
+        FunctionCounter.builder("chess.position.cache.evictions", evictions, LongAdder::doubleValue)
+                .register(registry);
+        Gauge.builder("chess.position.cache.size", map, Map::size).register(registry);
+    }
+
+    /**
+     * The derived data of {@code pos}, from the cache or computed and added.
+     */
+    public PositionInfo get(Position pos) {
+        long key = pos.hash();
+        Slot slot = map.get(key);
+        if (slot != null && slot.info.matches(pos)) {
+            // Only write when the bit is clear, so hot entries do not bounce cache lines
+            if (!slot.referenced) slot.referenced = true;
+            hits.increment();
+            return slot.info;
+        }
+        misses.increment();
+        PositionInfo info = PositionInfo.of(pos);
+        if (capacity > 0) insert(key, info);
+        return info;
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long misses() {
+        return misses.sum();
+    }
+
+    public int size() {
+        return map.size();
+    }
+
+    private void insert(long key, PositionInfo info) {
+        insertLock.lock();
+        try {
+            Slot existing = map.get(key);
+            int index;
+            if (existing != null) {
+                // Computed twice by racing misses, or a hash collision: keep the newest
+                index = existing.index;
+            } else if (size < capacity) {
+                index = size++;
+            } else {
+                while (ring[hand].referenced) {
+                    ring[hand].referenced = false;
+                    hand = (hand + 1) % capacity;
+                }
+                index = hand;
+                map.remove(ring[index].key, ring[index]);
+                evictions.increment();
+                hand = (hand + 1) % capacity;
+            }
+            Slot slot = new Slot(key, info, index);
+            ring[index] = slot;
+            map.put(key, slot);
+        } finally {
+            insertLock.unlock();
+        }
+    }
+}
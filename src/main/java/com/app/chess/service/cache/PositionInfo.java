@@ -0,0 +1,87 @@
+package com.app.chess.service.cache;
+
+import com.app.chess.service.board.Attacks;
+import com.app.chess.service.board.Moves;
+import com.app.chess.service.board.Position;
+import com.app.chess.service.fen.FenCodec;
+import com.app.chess.service.rules.MoveGenerator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * What can be derived from a position alone, whatever game reached it: its
+ * legal moves, whether the side to move is in check, and the board views.
+ * Shared by every game through {@link PositionCache}, so it is immutable;
+ * the views are built on first use.
+ */
+public final class PositionInfo {
+
+    private final Position position;
+    private final int[] moves;
+    private final boolean inCheck;
+
+    private volatile List<String> uci;
+    private volatile List<String> board8x8;
+    private volatile List<List<String>> grid;
+
+    private PositionInfo(Position position, int[] moves, boolean inCheck) {
+        this.position = position;
+        this.moves = moves;
+        this.inCheck = inCheck;
+    }
+
+    public static PositionInfo of(Position pos) {
+        int[] legal = new int[MoveGenerator.MAX_MOVES];
+        int n = MoveGenerator.generateLegal(pos, legal);
+        return new PositionInfo(pos.copy(), Arrays.copyOf(legal, n), Attacks.inCheck(pos, pos.sideToMove()));
+    }
+
+    /**
+     * Same position, not merely the same hash: guards against Zobrist collisions.
+     */
+    boolean matches(Position pos) {
+        return position.occupied() == pos.occupied()
+                && position.sideToMove() == pos.sideToMove()
+                && position.castling() == pos.castling()
+                && position.hash() == pos.hash();
+    }
+
+    /**
+     * Legal moves in {@link Moves} encoding. Shared: never modify.
+     */
+    public int[] legalMoves() {
+        return moves;
+    }
+
+    public boolean hasLegalMove() {
+        return moves.length > 0;
+    }
+
+    public boolean inCheck() {
+        return inCheck;
+    }
+
+    public List<String> uciMoves() {
+        List<String> out = uci;
+        if (out == null) {
+            List<String> list = new ArrayList<>(moves.length);
+            for (int m : moves) list.add(Moves.toUci(m));
+            uci = out = List.copyOf(list);
+        }
+        return out;
+    }
+
+    public List<String> board8x8() {
+        List<String> out = board8x8;
+        if (out == null) board8x8 = out = List.copyOf(FenCodec.boardTo8x8(position));
+        return out;
+    }
+
+    public List<List<String>> grid() {
+        List<List<String>> out = grid;
+        if (out == null) grid = out = FenCodec.boardToGrid(position).stream().map(List::copyOf).toList();
+        return out;
+    }
+}
@@ -0,0 +1,7 @@
+package com.app.chess.service.cache;
+
+/**
+ * A response body serialized once for one version of a game, with its ETag.
+ */
+public record RenderedView(long version, String etag, byte[] body) {
+}
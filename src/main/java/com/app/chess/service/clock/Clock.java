@@ -0,0 +1,101 @@
+package com.app.chess.service.clock;
+
+import com.app.chess.model.Game;
+import com.app.chess.service.board.Position;
+
+import java.time.Instant;
+
+/**
+ * Time control and clock state of a game. Remaining times are as of
+ * {@code turnStartedAt}, when the side to move started thinking; the running
+ * clock is derived from it on demand, so nothing ticks per game.
+ *
+ * @param baseMs        initial time per side; 0 for an untimed game
+ * @param incrementMs   added to the mover's clock after each move
+ * @param whiteMs       White's time left at {@code turnStartedAt}
+ * @param blackMs       Black's time left at {@code turnStartedAt}
+ * @param turnStartedAt epoch millis of the last move (or of the game's creation)
+ */
+public record Clock(long baseMs, long incrementMs, long whiteMs, long blackMs, long turnStartedAt) {
+
+    public static Clock of(long baseMs, long incrementMs, long startedAt) {
+        return new Clock(baseMs, incrementMs, baseMs, baseMs, startedAt);
+    }
+
+    /**
+     * The clock stored in {@code game}; games stored without one are untimed
+     * and their turn started when they were created.
+     */
+    public static Clock of(Game game) {
+        Instant started = game.getTurnStartedAt() != null ? game.getTurnStartedAt() : game.getCreatedAt();
+        return new Clock(orZero(game.getClockBaseMs()), orZero(game.getClockIncrementMs()),
+                orZero(game.getWhiteTimeMs()), orZero(game.getBlackTimeMs()), started.toEpochMilli());
+    }
+
+    /**
+     * Stores this clock and {@code deadline} (0 = none) in {@code game}.
+     */
+    public void writeTo(Game game, long deadline) {
+        game.setClockBaseMs(timed() ? baseMs : null);
+        game.setClockIncrementMs(timed() ? incrementMs : null);
+        game.setWhiteTimeMs(timed() ? whiteMs : null);
+        game.setBlackTimeMs(timed() ? blackMs : null);
+        game.setTurnStartedAt(Instant.ofEpochMilli(turnStartedAt));
+        game.setDeadline(deadline == 0 ? null : Instant.ofEpochMilli(deadline));
+    }
+
+    private static long orZero(Long value) {
+        return value == null ? 0 : value;
+    }
+
+    public boolean timed() {
+        return baseMs > 0;
+    }
+
+    /**
+     * Time left for {@code side}, running only when it is to move.
+     */
+    public long remaining(int side, int sideToMove, long now) {
+        long stored = side == Position.WHITE ? whiteMs : blackMs;
+        return side == sideToMove ? stored - Math.max(0, now - turnStartedAt) : stored;
+    }
+
+    /**
+     * When the flag of the side to move falls, or {@link Long#MAX_VALUE} untimed.
+     */
+    public long flagAt(int sideToMove) {
+        if (!timed()) return Long.MAX_VALUE;
+        return turnStartedAt + (sideToMove == Position.WHITE ? whiteMs : blackMs);
+    }
+
+    /**
+     * The next instant the game can time out, by flag fall or by no move for
+     * {@code abandonAfterMs} (0 = never abandoned); 0 when neither applies.
+     */
+    public long deadline(int sideToMove, long abandonAfterMs) {
+        long deadline = flagAt(sideToMove);
+        if (abandonAfterMs > 0) deadline = Math.min(deadline, turnStartedAt + abandonAfterMs);
+        return deadline == Long.MAX_VALUE ? 0 : deadline;
+    }
+
+    /**
+     * The clock after {@code mover} moved at {@code now}: its thinking time is
+     * charged, the increment added and the opponent's clock started.
+     */
+    public Clock afterMove(int mover, long now) {
+        if (!timed()) return new Clock(baseMs, incrementMs, whiteMs, blackMs, now);
+        long left = Math.max(0, remaining(mover, mover, now)) + incrementMs;
+        return mover == Position.WHITE
+                ? new Clock(baseMs, incrementMs, left, blackMs, now)
+                : new Clock(baseMs, incrementMs, whiteMs, left, now);
+    }
+
+    /**
+     * The clock stopped at {@code now} with the flag of {@code side} down.
+     */
+    public Clock flagged(int side, long now) {
+        return side == Position.WHITE
+                ? new Clock(baseMs, incrementMs, 0, blackMs, now)
+                : new Clock(baseMs, incrementMs, whiteMs, 0, now);
+    }
+}
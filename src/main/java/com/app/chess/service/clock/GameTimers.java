@@ -0,0 +1,122 @@
+package com.app.chess.service.clock;
+
+import com.app.chess.model.GameStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The single scheduler of game timeouts: one {@link TimingWheel} entry per
+ * game in progress, at the earlier of its flag fall and its abandonment
+ * deadline. Every move reschedules its game; the sweeper in
+ * {@link com.app.chess.service.GameService} polls the due games once per tick.
+ * The wheel is only a hint: a due game is checked again under its lock
+ * before it is finished.
+ * <p>
+ * The wheel is split into {@code chess.clock.shards} wheels by game id, each
+ * with its own lock, like {@link com.app.chess.service.lock.GameLocks}: moves
+ * on different games reschedule in parallel instead of queueing on one lock.
+ * <pre>
+ * chess.clock.timers                 games with a deadline
+ * chess.game.timeouts{status}        TEMPO_ESGOTADO, ABANDONADA
+ * </pre>
+ */
+@Component
+public class GameTimers {
+
+    /**
+     * One wheel and its lock. A lock rather than {@code synchronized}: moves
+     * reschedule from virtual threads.
+     */
+    private static final class Shard {
+        final ReentrantLock lock = new ReentrantLock();
+        final TimingWheel wheel;
+
+        Shard(long tickMs, long nowMs) {
+            this.wheel = new TimingWheel(tickMs, nowMs);
+        }
+    }
+
+    private final Shard[] shards;
+    private final int mask;
+    private final Counter flagged;
+    private final Counter abandoned;
+
+    public GameTimers(MeterRegistry registry, @Value("${chess.clock.tick-ms:100}") long tickMs,
+                      @Value("${chess.clock.shards:64}") int shards) {
+        int size = Integer.highestOneBit(Math.max(1, shards - 1)) << 1;
+        long now = System.currentTimeMillis();
+        this.shards = new Shard[size];
+        for (int i = 0; i < size; i++) this.shards[i] = new Shard(Math.max(1, tickMs), now);
+        this.mask = size - 1;
+        Gauge.builder("chess.clock.timers", this, GameTimers::size).register(registry);
+        this.flagged = Counter.builder("chess.game.timeouts").tag("status", GameStatus.TEMPO_ESGOTADO.name())
+                .register(registry);
+        this.abandoned = Counter.builder("chess.game.timeouts").tag("status", GameStatus.ABANDONADA.name())
+                .register(registry);
+    }
+
+    private Shard shard(long gameId) {
+        long h = gameId * 0x9E3779B97F4A7C15L;
+        return shards[(int) (h ^ (h >>> 32)) & mask];
+    }
+
+    /**
+     * Sets the deadline of a game; 0 removes it.
+     */
+    public void schedule(long gameId, long deadlineMillis) {
+        Shard shard = shard(gameId);
+        shard.lock.lock();
+        try {
+            if (deadlineMillis == 0) shard.wheel.cancel(gameId);
+            else shard.wheel.schedule(gameId, deadlineMillis);
+        } finally {
+            shard.lock.unlock();
+        }
+    }
+
+    public void cancel(long gameId) {
+        schedule(gameId, 0);
+    }
+
+    /**
+     * Removes and returns up to {@code max} games due at {@code nowMillis},
+     * taking each shard's lock in turn, never two at once.
+     */
+    public long[] pollDue(long nowMillis, int max) {
+        long[] out = new long[max];
+        int n = 0;
+        for (int i = 0; i < shards.length && n < max; i++) {
+            Shard shard = shards[i];
+            shard.lock.lock();
+            try {
+                n += shard.wheel.poll(nowMillis, out, n);
+            } finally {
+                shard.lock.unlock();
+            }
+        }
+        return n == max ? out : Arrays.copyOf(out, n);
+    }
+
+    public int size() {
+        int size = 0;
+        for (Shard shard : shards) {
+            shard.lock.lock();
+            try {
+                size += shard.wheel.size();
+            } finally {
+                shard.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    public void timedOut(GameStatus status) {
+        (status == GameStatus.TEMPO_ESGOTADO ? flagged : abandoned).increment();
+    }
+}
@@ -0,0 +1,247 @@
+package com.app.chess.service.clock;
+
+import java.util.Arrays;
+
+/**
+ * Hierarchical timing wheel of one deadline per id. {@value #LEVELS} wheels
+ * of {@value #SLOTS} slots: level 0 holds the next 64 ticks one per slot,
+ * each higher level 64 times coarser. A timer lives in the finest level that
+ * covers its distance and moves down ("cascades") when the wheel below wraps
+ * into its slot, so scheduling, rescheduling and cancelling are O(1) and a
+ * tick only touches timers that are due. Deadlines beyond the top level are
+ * parked in its last slot and placed again when they come into range.
+ * <p>
+ * Timers are parallel arrays chained into per-slot doubly linked lists, and
+ * the id index is an open-addressing hash table, so a million timers cost a
+ * few tens of megabytes and rescheduling allocates nothing.
+ * Not thread-safe: {@link GameTimers} guards each of its wheels.
+ */
+final class TimingWheel {
+
+    static final int BITS = 6;
+    static final int SLOTS = 1 << BITS;
+    static final int LEVELS = 4;
+
+    private static final int MASK = SLOTS - 1;
+    private static final long SPAN = 1L << (BITS * LEVELS);
+    private static final int NIL = -1;
+
+    private final long tickMs;
+    /**
+     * Next tick to expire; every earlier tick is done.
+     */
+    private long current;
+    /**
+     * Whether the higher levels were already cascaded for {@link #current}.
+     */
+    private boolean cascaded;
+
+    private final int[] heads = new int[LEVELS * SLOTS];
+
+    private long[] ids;
+    private long[] ticks;
+    private int[] next;
+    private int[] prev;
+    private int[] bucket;
+    private int free = NIL;
+    private int used;
+
+    /**
+     * id to timer + 1 (0 = empty slot), linear probing.
+     */
+    private long[] keys;
+    private int[] values;
+    private int size;
+
+    TimingWheel(long tickMs, long nowMs) {
+        this.tickMs = tickMs;
+        this.current = Math.floorDiv(nowMs, tickMs);
+        Arrays.fill(heads, NIL);
+        grow(1024);
+        this.keys = new long[2048];
+        this.values = new int[2048];
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Sets the deadline of {@code id}, replacing any earlier one. A deadline
+     * already past fires on the next {@link #poll}.
+     */
+    void schedule(long id, long deadlineMs) {
+        int at = find(id);
+        int t;
+        if (at >= 0) {
+            t = values[at] - 1;
+            unlink(t);
+        } else {
+            t = allocate();
+            ids[t] = id;
+            index(id, t);
+        }
+        // First tick at or after the deadline, so a timer never fires early
+        ticks[t] = Math.max(-Math.floorDiv(-deadlineMs, tickMs), current);
+        link(t);
+    }
+
+    boolean cancel(long id) {
+        int at = find(id);
+        if (at < 0) return false;
+        int t = values[at] - 1;
+        unlink(t);
+        unindex(at);
+        release(t);
+        return true;
+    }
+
+    /**
+     * Removes up to {@code out.length} timers due at {@code nowMs} and writes
+     * their ids to {@code out}; the rest stay due for the next call.
+     *
+     * @return the number of ids written
+     */
+    int poll(long nowMs, long[] out) {
+        return poll(nowMs, out, 0);
+    }
+
+    /**
+     * As {@link #poll(long, long[])}, writing from {@code out[from]} on.
+     *
+     * @return the number of ids written
+     */
+    int poll(long nowMs, long[] out, int from) {
+        long now = Math.floorDiv(nowMs, tickMs);
+        int n = from;
+        while (current <= now && n < out.length) {
+            if (!cascaded) {
+                for (int level = LEVELS - 1; level > 0; level--) {
+                    if ((current & ((1L << (BITS * level)) - 1)) == 0) {
+                        cascade(level * SLOTS + (int) ((current >>> (BITS * level)) & MASK));
+                    }
+                }
+                cascaded = true;
+            }
+            int b = (int) (current & MASK);
+            while (heads[b] != NIL && n < out.length) {
+                int t = heads[b];
+                unlink(t);
+                unindex(find(ids[t]));
+                out[n++] = ids[t];
+                release(t);
+            }
+            if (heads[b] != NIL) break;
+            current++;
+            cascaded = false;
+        }
+        return n - from;
+    }
+
+    private void cascade(int b) {
+        int t = heads[b];
+        heads[b] = NIL;
+        while (t != NIL) {
+            int following = next[t];
+            link(t);
+            t = following;
+        }
+    }
+
+    private void link(int t) {
+        long delta = ticks[t] - current;
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= 1L << (BITS * (level + 1))) level++;
+        long at = Math.min(ticks[t], current + SPAN - 1);
+        int b = level * SLOTS + (int) ((at >>> (BITS * level)) & MASK);
+        bucket[t] = b;
+        prev[t] = NIL;
+        next[t] = heads[b];
+        if (heads[b] != NIL) prev[heads[b]] = t;
+        heads[b] = t;
+    }
+
+    private void unlink(int t) {
+        if (prev[t] == NIL) heads[bucket[t]] = next[t];
+        else next[prev[t]] = next[t];
+        if (next[t] != NIL) prev[next[t]] = prev[t];
+    }
+
+    private int allocate() {
+        if (free != NIL) {
+            int t = free;
+            free = next[t];
+            return t;
+        }
+        if (used == ids.length) grow(ids.length * 2);
+        return used++;
+    }
+
+    private void release(int t) {
+        next[t] = free;
+        free = t;
+    }
+
+    private void grow(int capacity) {
+        ids = ids == null ? new long[capacity] : Arrays.copyOf(ids, capacity);
+        ticks = ticks == null ? new long[capacity] : Arrays.copyOf(ticks, capacity);
+        next = next == null ? new int[capacity] : Arrays.copyOf(next, capacity);
+        prev = prev == null ? new int[capacity] : Arrays.copyOf(prev, capacity);
+        bucket = bucket == null ? new int[capacity] : Arrays.copyOf(bucket, capacity);
+    }
+
+    private static int mix(long id) {
+        long h = id * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    /**
+     * @return the index slot of {@code id}, or -1
+     */
+    private int find(long id) {
+        int mask = keys.length - 1;
+        for (int i = mix(id) & mask; values[i] != 0; i = (i + 1) & mask) {
+            if (keys[i] == id) return i;
+        }
+        return -1;
+    }
+
+    private void index(long id, int t) {
+        if (2 * (size + 1) > keys.length) rehash(keys.length * 2);
+        int mask = keys.length - 1;
+        int i = mix(id) & mask;
+        while (values[i] != 0) i = (i + 1) & mask;
+        keys[i] = id;
+        values[i] = t + 1;
+        size++;
+    }
+
+    /**
+     * Deletes without tombstones: later entries of the probe run move back
+     * into the hole when their home slot allows it.
+     */
+    private void unindex(int hole) {
+        int mask = keys.length - 1;
+        for (int i = (hole + 1) & mask; values[i] != 0; i = (i + 1) & mask) {
+            int home = mix(keys[i]) & mask;
+            if (((i - home) & mask) >= ((i - hole) & mask)) {
+                keys[hole] = keys[i];
+                values[hole] = values[i];
+                hole = i;
+            }
+        }
+        values[hole] = 0;
+        size--;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        keys = new long[capacity];
+        values = new int[capacity];
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] != 0) index(oldKeys[i], oldValues[i] - 1);
+        }
+    }
+}
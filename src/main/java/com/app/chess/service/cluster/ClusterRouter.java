@@ -0,0 +1,214 @@
+package com.app.chess.service.cluster;
+
+import com.app.chess.dto.BatchMoveResponse;
+import com.app.chess.dto.GameMovesRequest;
+import com.app.chess.dto.MultiGameMovesRequest;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiFunction;
+
+/**
+ * Game ownership in cluster mode. With {@code chess.cluster.nodes} set, game
+ * ids are spread over the nodes by a {@link HashRing}; each node serves (and
+ * keeps hot in its {@link com.app.chess.service.cache.GameCache}) only the
+ * games it owns, so every game still has a single writer. Requests for other
+ * games are forwarded to their owner. All nodes share one database.
+ * <p>
+ * Without nodes the application is standalone and owns every game.
+ */
+@Component
+public class ClusterRouter {
+
+    /**
+     * Marks a request sent by another node: it is served here, never forwarded
+     * again, even if the two nodes disagree about the ring. Its value is the
+     * cluster's shared secret, so a client cannot skip the ownership check by
+     * sending it; see {@link #isForwarded}.
+     */
+    public static final String FORWARDED = "X-Chess-Forwarded";
+
+    private static final TypeReference<List<BatchMoveResponse>> BATCH_RESPONSE = new TypeReference<>() {
+    };
+
+    private final String self;
+    private final String secret;
+    private final HashRing ring;
+    private final Duration timeout;
+    private final HttpClient http;
+    private final ObjectMapper objectMapper;
+
+    public ClusterRouter(ObjectMapper objectMapper,
+                         @Value("${chess.cluster.nodes:}") String nodes,
+                         @Value("${chess.cluster.self:}") String self,
+                         @Value("${chess.cluster.secret:}") String secret,
+                         @Value("${chess.cluster.forward-timeout-ms:10000}") long timeoutMs,
+                         @Value("${chess.persistence.store:jpa}") String store) {
+        this.objectMapper = objectMapper;
+        List<String> members = Arrays.stream(nodes.split(",")).map(String::trim).filter(s -> !s.isEmpty())
+                .map(ClusterRouter::normalize).distinct().toList();
+        this.self = normalize(self.trim());
+        this.secret = secret;
+        this.timeout = Duration.ofMillis(timeoutMs);
+        if (members.isEmpty()) {
+            this.ring = null;
+            this.http = null;
+            return;
+        }
+        if (!members.contains(this.self)) {
+            throw new IllegalStateException("chess.cluster.self deve ser um dos chess.cluster.nodes");
+        }
+        if (secret.isBlank()) {
+            throw new IllegalStateException("Modo cluster exige chess.cluster.secret, o mesmo em todos os nós");
+        }
+        if (!"jpa".equals(store)) {
+            throw new IllegalStateException("Modo cluster exige chess.persistence.store=jpa (banco compartilhado)");
+        }
+        this.ring = new HashRing(members);
+        this.http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(timeout)
+                .build();
+    }
+
+    public boolean isEnabled() {
+        return ring != null;
+    }
+
+    /**
+     * Base URL of the node owning {@code gameId}.
+     */
+    public String owner(long gameId) {
+        return ring == null ? self : ring.owner(gameId);
+    }
+
+    public boolean isLocal(long gameId) {
+        return ring == null || ring.owner(gameId).equals(self);
+    }
+
+    public String self() {
+        return self;
+    }
+
+    /**
+     * Whether a request with {@code header} as its {@link #FORWARDED} value came
+     * from another node. Anything but the shared secret, a missing header
+     * included, is a client request and routed as usual.
+     */
+    public boolean isForwarded(String header) {
+        return ring != null && header != null
+                && MessageDigest.isEqual(secret.getBytes(StandardCharsets.UTF_8), header.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Sends a request on to {@code node}, marked as forwarded.
+     *
+     * @param pathAndQuery as received, e.g. {@code /api/games/7/moves}
+     */
+    public HttpResponse<byte[]> forward(String node, String method, String pathAndQuery, Map<String, String> headers,
+                                        byte[] body) throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(node + pathAndQuery))
+                .timeout(timeout)
+                .header(FORWARDED, secret)
+                .method(method, body.length == 0
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofByteArray(body));
+        headers.forEach(request::header);
+        return http.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    /**
+     * Multi-game batch: applies the owned games with {@code local} and sends
+     * each other node its games as one batch, all at once, keeping the
+     * response in request order. A node that cannot be reached fails only its
+     * own games. A batch that was itself forwarded is applied here whole.
+     */
+    public List<BatchMoveResponse> makeMoves(List<GameMovesRequest> games, boolean atomic, boolean forwarded,
+                                             BiFunction<List<GameMovesRequest>, Boolean, List<BatchMoveResponse>> local) {
+        if (ring == null || forwarded) return local.apply(games, atomic);
+
+        Map<String, List<Integer>> byNode = new LinkedHashMap<>();
+        for (int i = 0; i < games.size(); i++) {
+            byNode.computeIfAbsent(owner(games.get(i).gameId()), n -> new ArrayList<>()).add(i);
+        }
+        BatchMoveResponse[] out = new BatchMoveResponse[games.size()];
+        Map<List<Integer>, CompletableFuture<List<BatchMoveResponse>>> remote = new LinkedHashMap<>();
+        byNode.forEach((node, indexes) -> {
+            if (!node.equals(self)) remote.put(indexes, sendBatch(node, pick(games, indexes), atomic));
+        });
+        List<Integer> mine = byNode.get(self);
+        if (mine != null) fill(out, mine, local.apply(pick(games, mine), atomic));
+
+        remote.forEach((indexes, future) -> {
+            List<BatchMoveResponse> results;
+            try {
+                results = future.join();
+            } catch (RuntimeException e) {
+                results = null;
+            }
+            if (results == null || results.size() != indexes.size()) {
+                results = new ArrayList<>(indexes.size());
+                for (int i : indexes) {
+                    results.add(new BatchMoveResponse(games.get(i).gameId(), 0, 0,
+                            "Nó dono da partida indisponível: " + owner(games.get(i).gameId()), null, null, null));
+                }
+            }
+            fill(out, indexes, results);
+        });
+        return Arrays.asList(out);
+    }
+
+    private CompletableFuture<List<BatchMoveResponse>> sendBatch(String node, List<GameMovesRequest> games, boolean atomic) {
+        byte[] body;
+        try {
+            body = objectMapper.writeValueAsBytes(new MultiGameMovesRequest(games, atomic));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        HttpRequest request = HttpRequest.newBuilder(URI.create(node + "/api/games/moves/batch"))
+                .timeout(timeout)
+                .header(FORWARDED, secret)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                .build();
+        return http.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray()).thenApply(r -> {
+            if (r.statusCode() != 200) return null;
+            try {
+                return objectMapper.readValue(r.body(), BATCH_RESPONSE);
+            } catch (IOException e) {
+                return null;
+            }
+        });
+    }
+
+    private static List<GameMovesRequest> pick(List<GameMovesRequest> games, List<Integer> indexes) {
+        List<GameMovesRequest> out = new ArrayList<>(indexes.size());
+        for (int i : indexes) out.add(games.get(i));
+        return out;
+    }
+
+    private static void fill(BatchMoveResponse[] out, List<Integer> indexes, List<BatchMoveResponse> results) {
+        for (int i = 0; i < indexes.size(); i++) out[indexes.get(i)] = results.get(i);
+    }
+
+    private static String normalize(String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+}
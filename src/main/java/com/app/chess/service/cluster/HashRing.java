@@ -0,0 +1,78 @@
+package com.app.chess.service.cluster;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Consistent-hash ring of node names. Each node is placed at
+ * {@link #VIRTUAL_NODES} points, so games spread evenly and adding or
+ * removing a node moves only about {@code 1/n} of them. Placement depends
+ * only on the names, so every node builds the same ring from the same list.
+ */
+public final class HashRing {
+
+    static final int VIRTUAL_NODES = 128;
+
+    private final long[] points;
+    private final String[] owners;
+
+    public HashRing(List<String> nodes) {
+        if (nodes.isEmpty()) throw new IllegalArgumentException("Anel sem nós");
+        int n = nodes.size() * VIRTUAL_NODES;
+        long[] keyed = new long[n];
+        String[] names = new String[n];
+        Integer[] order = new Integer[n];
+        int i = 0;
+        for (String node : nodes) {
+            for (int v = 0; v < VIRTUAL_NODES; v++, i++) {
+                keyed[i] = hash(node + "#" + v);
+                names[i] = node;
+                order[i] = i;
+            }
+        }
+        Arrays.sort(order, (a, b) -> Long.compareUnsigned(keyed[a], keyed[b]));
+        points = new long[n];
+        owners = new String[n];
+        for (i = 0; i < n; i++) {
+            points[i] = keyed[order[i]];
+            owners[i] = names[order[i]];
+        }
+    }
+
+    /**
+     * Node owning {@code key}: the first point clockwise from its hash.
+     */
+    public String owner(long key) {
+        long h = mix(key);
+        int lo = 0;
+        int hi = points.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (Long.compareUnsigned(points[mid], h) < 0) lo = mid + 1;
+            else hi = mid;
+        }
+        return owners[lo == points.length ? 0 : lo];
+    }
+
+    /**
+     * FNV-1a of the UTF-8 bytes, then mixed: the same on every JVM.
+     */
+    private static long hash(String s) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : s.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b & 0xFF;
+            h *= 0x100000001b3L;
+        }
+        return mix(h);
+    }
+
+    /**
+     * SplitMix64 finalizer: sequential game ids land far apart on the ring.
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
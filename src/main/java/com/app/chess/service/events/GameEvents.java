@@ -0,0 +1,210 @@
+package com.app.chess.service.events;
+
+import com.app.chess.dto.GameEvent;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Server-Sent Events fan-out per game. Subscriptions are async servlet
+ * requests, so an idle subscriber holds no thread. Publishing only appends
+ * the event to each subscriber's bounded buffer, under the game's lock, so
+ * events stay in order and the mover never waits on the network. Each
+ * buffer is drained by its own sender task, so a slow client only delays
+ * itself; one that falls {@code chess.events.buffer} events behind is
+ * dropped and its stream completed, and it reconnects for a fresh snapshot.
+ * With {@code spring.threads.virtual.enabled} on Java 21 the senders are
+ * virtual threads, like the request and scheduler threads.
+ */
+@Component
+public class GameEvents {
+
+    private record Pending(String name, GameEvent event) {
+    }
+
+    /**
+     * One subscriber's unsent events, sent in order by at most one task at a time.
+     */
+    private final class Subscriber {
+        final Long gameId;
+        final SseEmitter emitter;
+        /**
+         * Guards {@link #queue}, {@link #sending} and {@link #closed}. A lock
+         * rather than {@code synchronized}: senders may be virtual threads.
+         */
+        private final ReentrantLock lock = new ReentrantLock();
+        private final ArrayDeque<Pending> queue = new ArrayDeque<>();
+        private boolean sending;
+        private boolean closed;
+
+        Subscriber(Long gameId, SseEmitter emitter) {
+            this.gameId = gameId;
+            this.emitter = emitter;
+        }
+
+        /**
+         * Buffers {@code p} and starts a sender if none is running. A full
+         * buffer drops the subscriber instead; its sender completes the stream.
+         */
+        void offer(Pending p) {
+            boolean overflow = false;
+            lock.lock();
+            try {
+                if (closed) return;
+                if (queue.size() == bufferSize) {
+                    overflow = closed = true;
+                    queue.clear();
+                } else {
+                    queue.add(p);
+                }
+                if (sending) p = null;
+                else sending = true;
+            } finally {
+                lock.unlock();
+            }
+            if (overflow) unsubscribe(this);
+            if (p != null) senders.execute(this::drain);
+        }
+
+        void close() {
+            lock.lock();
+            try {
+                closed = true;
+                queue.clear();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                Pending next;
+                boolean complete;
+                lock.lock();
+                try {
+                    complete = closed;
+                    next = complete ? null : queue.poll();
+                    if (next == null) sending = false;
+                } finally {
+                    lock.unlock();
+                }
+                if (complete) {
+                    // Completed here, since completing waits for a send in progress
+                    emitter.complete();
+                    return;
+                }
+                if (next == null) return;
+                send(this, next);
+            }
+        }
+    }
+
+    private final Map<Long, List<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final ExecutorService senders;
+    private final int bufferSize;
+    private final long timeoutMs;
+
+    public GameEvents(@Value("${chess.events.buffer:64}") int bufferSize,
+                      @Value("${chess.events.timeout-ms:1800000}") long timeoutMs,
+                      @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        ThreadFactory threads = virtualThreads && Runtime.version().feature() >= 21
+                ? new VirtualThreadTaskExecutor("game-events-").getVirtualThreadFactory()
+                : r -> {
+                    Thread t = new Thread(r, "game-events");
+                    t.setDaemon(true);
+                    return t;
+                };
+        // Unbounded, so a sender stuck on a stalled client never holds up another one
+        this.senders = Executors.newCachedThreadPool(threads);
+        this.bufferSize = Math.max(1, bufferSize);
+        this.timeoutMs = timeoutMs;
+    }
+
+    /**
+     * Registers a subscriber whose first event is {@code snapshot}. Call under
+     * the game's lock, like {@link #publish}: moves published before the
+     * snapshot are never sent and later ones always are.
+     */
+    public SseEmitter subscribe(Long gameId, GameEvent snapshot) {
+        SseEmitter emitter = newEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(gameId, emitter);
+        Runnable remove = () -> {
+            subscriber.close();
+            unsubscribe(subscriber);
+        };
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(e -> remove.run());
+        subscribers.compute(gameId, (id, list) -> {
+            List<Subscriber> l = list == null ? new CopyOnWriteArrayList<>() : list;
+            l.add(subscriber);
+            return l;
+        });
+        subscriber.offer(new Pending("snapshot", snapshot));
+        return emitter;
+    }
+
+    /**
+     * Buffers {@code event} for every subscriber of the game; returns
+     * immediately. Call under the game's lock, so events keep their order.
+     */
+    public void publish(Long gameId, GameEvent event) {
+        List<Subscriber> list = subscribers.get(gameId);
+        if (list == null) return;
+        Pending p = new Pending("move", event);
+        for (Subscriber s : list) s.offer(p);
+    }
+
+    /**
+     * The emitter of a new subscription; tests replace it with a slow client.
+     */
+    SseEmitter newEmitter(long timeoutMs) {
+        return new SseEmitter(timeoutMs);
+    }
+
+    public int subscriberCount(Long gameId) {
+        List<Subscriber> list = subscribers.get(gameId);
+        return list == null ? 0 : list.size();
+    }
+
+    private void send(Subscriber s, Pending p) {
+        try {
+            s.emitter.send(SseEmitter.event()
+                    .name(p.name())
+                    .id(String.valueOf(p.event().version()))
+                    .data(p.event(), MediaType.APPLICATION_JSON));
+        } catch (IOException | IllegalStateException e) {
+            // Client went away or the emitter already completed
+            s.close();
+            unsubscribe(s);
+        }
+    }
+
+    private void unsubscribe(Subscriber s) {
+        subscribers.computeIfPresent(s.gameId, (id, list) -> {
+            list.remove(s);
+            return list.isEmpty() ? null : list;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        senders.shutdown();
+        subscribers.values().forEach(list -> list.forEach(s -> s.emitter.complete()));
+        subscribers.clear();
+    }
+}
@@ -1,115 +1,299 @@
 package com.app.chess.service.fen;
 
+import com.app.chess.service.board.Attacks;
+import com.app.chess.service.board.Position;
+import com.app.chess.service.board.Squares;
+
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 
+/**
+ * FEN reader/writer.
+ * Parsing scans the text once with a cursor straight into a (reusable)
+ * {@link Position}; writing appends to a caller-supplied {@link StringBuilder}
+ * or {@code byte[]}. Neither allocates on the success path.
+ */
 public final class FenCodec {
 
+    public static final String INITIAL_FEN =
+            "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1";
+
+    /**
+     * Upper bound of a FEN written by this codec (placement 71 + fields + two 10-digit clocks).
+     */
+    public static final int MAX_LENGTH = 128;
+
+    private static final long BACK_RANKS = 0xFF000000000000FFL;
+
     private FenCodec() {
     }
 
-    public static FenPosition parse(String fen) {
-        String[] parts = fen.trim().split("\\s+");
-        if (parts.length < 6) throw new IllegalArgumentException("FEN inválida");
+    public static Position parse(String fen) {
+        Position pos = new Position();
+        parse(fen, pos);
+        return pos;
+    }
 
-        String placement = parts[0];
-        char turn = parts[1].charAt(0); // 'w' ou 'b'
-        int halfmove = Integer.parseInt(parts[4]);
-        int fullmove = Integer.parseInt(parts[5]);
+    /**
+     * Parses {@code fen} into {@code pos}, overwriting whatever it held.
+     */
+    public static void parse(CharSequence fen, Position pos) {
+        pos.clear();
+        int len = fen.length();
+        int i = skipSpaces(fen, 0);
 
-        char[][] board = emptyBoard();
+        // Placement: rank 8 down to rank 1
+        int rank = 7;
+        int file = 0;
+        for (; i < len; i++) {
+            char c = fen.charAt(i);
+            if (Character.isWhitespace(c)) break;
+            if (c == '/') {
+                if (file != 8) throw new IllegalArgumentException("FEN inválida: rank incompleta");
+                if (--rank < 0) throw new IllegalArgumentException("FEN inválida: ranks != 8");
+                file = 0;
+            } else if (c >= '1' && c <= '8') {
+                file += c - '0';
+                if (file > 8) throw new IllegalArgumentException("FEN inválida: coluna excedida");
+            } else {
+                int piece = Position.pieceOf(c);
+                if (piece == Position.EMPTY) throw new IllegalArgumentException("FEN inválida: peça desconhecida");
+                if (file >= 8) throw new IllegalArgumentException("FEN inválida: coluna excedida");
+                pos.put(piece, Squares.of(file++, rank));
+            }
+        }
+        if (rank != 0) throw new IllegalArgumentException("FEN inválida: ranks != 8");
+        if (file != 8) throw new IllegalArgumentException("FEN inválida: rank incompleta");
+        // The move generator relies on these: pawns always have a square ahead and there is one king to attack
+        if (Long.bitCount(pos.bitboard(Position.WHITE, Position.KING)) != 1
+                || Long.bitCount(pos.bitboard(Position.BLACK, Position.KING)) != 1) {
+            throw new IllegalArgumentException("FEN inválida: cada lado precisa de exatamente um rei");
+        }
+        if (((pos.bitboard(Position.WHITE, Position.PAWN) | pos.bitboard(Position.BLACK, Position.PAWN))
+                & BACK_RANKS) != 0) {
+            throw new IllegalArgumentException("FEN inválida: peão na primeira ou na última rank");
+        }
 
-        String[] ranks = placement.split("/");
-        if (ranks.length != 8) throw new IllegalArgumentException("FEN inválida: ranks != 8");
+        // Side to move
+        i = skipSpaces(fen, i);
+        if (i >= len) throw new IllegalArgumentException("FEN inválida");
+        char turn = fen.charAt(i++);
+        if ((turn != 'w' && turn != 'b') || !endsField(fen, i)) {
+            throw new IllegalArgumentException("FEN inválida: turno deve ser w ou b");
+        }
+        pos.setSideToMove(turn == 'w' ? Position.WHITE : Position.BLACK);
+        if (Attacks.inCheck(pos, pos.sideToMove() ^ 1)) {
+            throw new IllegalArgumentException("FEN inválida: o lado que não joga está em xeque");
+        }
 
-        for (int r = 0; r < 8; r++) {
-            String rank = ranks[r];
-            int file = 0;
-            for (int i = 0; i < rank.length(); i++) {
-                char c = rank.charAt(i);
-                if (Character.isDigit(c)) {
-                    file += (c - '0');
-                } else {
-                    if (file >= 8) throw new IllegalArgumentException("FEN inválida: coluna excedida");
-                    board[r][file] = c;
-                    file++;
-                }
+        // Castling
+        i = skipSpaces(fen, i);
+        if (i >= len) throw new IllegalArgumentException("FEN inválida");
+        int rights = 0;
+        if (fen.charAt(i) == '-') {
+            i++;
+        } else {
+            for (; i < len && !Character.isWhitespace(fen.charAt(i)); i++) {
+                int right = switch (fen.charAt(i)) {
+                    case 'K' -> Position.CASTLE_WK;
+                    case 'Q' -> Position.CASTLE_WQ;
+                    case 'k' -> Position.CASTLE_BK;
+                    case 'q' -> Position.CASTLE_BQ;
+                    default -> 0;
+                };
+                // The rights are increasing bits, so this also takes each letter once and in KQkq order
+                if (right <= rights) throw new IllegalArgumentException("FEN inválida: roque");
+                rights |= right;
+            }
+        }
+        if (!endsField(fen, i)) throw new IllegalArgumentException("FEN inválida: roque");
+        pos.setCastling(rights);
+
+        // En passant
+        i = skipSpaces(fen, i);
+        if (i >= len) throw new IllegalArgumentException("FEN inválida");
+        if (fen.charAt(i) == '-') {
+            i++;
+        } else {
+            if (i + 1 >= len) throw new IllegalArgumentException("FEN inválida: en passant");
+            int ep = Squares.parse(fen.charAt(i), fen.charAt(i + 1));
+            // The square a pawn of the side not to move just skipped: empty, with that pawn right behind it
+            int them = pos.sideToMove() ^ 1;
+            int pawn = them == Position.BLACK ? ep - 8 : ep + 8;
+            if (Squares.rank(ep) != (them == Position.BLACK ? 5 : 2) || pos.pieceAt(ep) != Position.EMPTY
+                    || pos.pieceAt(pawn) != Position.piece(them, Position.PAWN)) {
+                throw new IllegalArgumentException("FEN inválida: en passant");
             }
-            if (file != 8) throw new IllegalArgumentException("FEN inválida: rank incompleta");
+            pos.setEpSquare(ep);
+            i += 2;
         }
+        if (!endsField(fen, i)) throw new IllegalArgumentException("FEN inválida: en passant");
 
-        if (turn != 'w' && turn != 'b') throw new IllegalArgumentException("FEN inválida: turno deve ser w ou b");
+        // Clocks
+        i = skipSpaces(fen, i);
+        int start = i;
+        int halfmove = 0;
+        for (; i < len && !Character.isWhitespace(fen.charAt(i)); i++) {
+            halfmove = digit(halfmove, i - start, fen.charAt(i));
+        }
+        i = skipSpaces(fen, i);
+        int fullmove = 0;
+        int fullStart = i;
+        for (; i < len && !Character.isWhitespace(fen.charAt(i)); i++) {
+            fullmove = digit(fullmove, i - fullStart, fen.charAt(i));
+        }
+        if (i == fullStart || fullStart == start) throw new IllegalArgumentException("FEN inválida");
+        if (skipSpaces(fen, i) != len) throw new IllegalArgumentException("FEN inválida");
+
+        pos.setHalfmove(halfmove);
+        pos.setFullmove(fullmove);
+    }
 
-        return new FenPosition(board, turn, halfmove, fullmove);
+    private static int skipSpaces(CharSequence s, int i) {
+        while (i < s.length() && Character.isWhitespace(s.charAt(i))) i++;
+        return i;
     }
 
-    public static String toFen(FenPosition pos) {
-        StringBuilder sb = new StringBuilder();
+    /**
+     * Whether a field ending at {@code i} is followed by a space, so it is not
+     * glued to the next one.
+     */
+    private static boolean endsField(CharSequence s, int i) {
+        return i < s.length() && Character.isWhitespace(s.charAt(i));
+    }
+
+    /**
+     * Appends digit {@code c}, the clock's digit number {@code index}; nine
+     * digits at most, so the clock always fits an int.
+     */
+    private static int digit(int acc, int index, char c) {
+        if (c < '0' || c > '9' || index >= 9) throw new IllegalArgumentException("FEN inválida: relógio");
+        return acc * 10 + (c - '0');
+    }
 
-        for (int r = 0; r < 8; r++) {
+    public static String toFen(Position pos) {
+        StringBuilder sb = new StringBuilder(MAX_LENGTH);
+        write(pos, sb);
+        return sb.toString();
+    }
+
+    /**
+     * Appends the FEN of {@code pos} to {@code sb}.
+     */
+    public static void write(Position pos, StringBuilder sb) {
+        for (int r = 7; r >= 0; r--) {
             int empty = 0;
             for (int f = 0; f < 8; f++) {
-                char p = pos.board[r][f];
-                if (p == '.') {
+                int p = pos.pieceAt(Squares.of(f, r));
+                if (p == Position.EMPTY) {
                     empty++;
                 } else {
                     if (empty > 0) {
-                        sb.append(empty);
+                        sb.append((char) ('0' + empty));
                         empty = 0;
                     }
-                    sb.append(p);
+                    sb.append(Position.pieceChar(p));
                 }
             }
-            if (empty > 0) sb.append(empty);
-            if (r < 7) sb.append('/');
+            if (empty > 0) sb.append((char) ('0' + empty));
+            if (r > 0) sb.append('/');
         }
 
-        sb.append(' ').append(pos.turn);
-        // Nesta fase ainda não implementamos roque/en-passant:
-        sb.append(" - - ");
-        sb.append(pos.halfmove).append(' ').append(pos.fullmove);
+        sb.append(' ').append(pos.sideToMove() == Position.WHITE ? 'w' : 'b');
 
-        return sb.toString();
-    }
+        sb.append(' ');
+        int castling = pos.castling();
+        if (castling == 0) sb.append('-');
+        if ((castling & Position.CASTLE_WK) != 0) sb.append('K');
+        if ((castling & Position.CASTLE_WQ) != 0) sb.append('Q');
+        if ((castling & Position.CASTLE_BK) != 0) sb.append('k');
+        if ((castling & Position.CASTLE_BQ) != 0) sb.append('q');
 
-    public static char[][] emptyBoard() {
-        char[][] b = new char[8][8];
-        for (char[] row : b) Arrays.fill(row, '.');
-        return b;
+        sb.append(' ');
+        int ep = pos.epSquare();
+        if (ep == Squares.NONE) {
+            sb.append('-');
+        } else {
+            sb.append((char) ('a' + Squares.file(ep))).append((char) ('1' + Squares.rank(ep)));
+        }
+        sb.append(' ').append(pos.halfmove()).append(' ').append(pos.fullmove());
     }
 
-    public static int fileIndex(char file) {
-        return file - 'a';
-    }     // 'a'..'h'
+    /**
+     * Writes the FEN of {@code pos} as ASCII into {@code out} starting at
+     * {@code offset}, which needs {@link #MAX_LENGTH} free bytes.
+     *
+     * @return the offset just past the last byte written
+     */
+    public static int write(Position pos, byte[] out, int offset) {
+        int o = offset;
+        for (int r = 7; r >= 0; r--) {
+            int empty = 0;
+            for (int f = 0; f < 8; f++) {
+                int p = pos.pieceAt(Squares.of(f, r));
+                if (p == Position.EMPTY) {
+                    empty++;
+                } else {
+                    if (empty > 0) {
+                        out[o++] = (byte) ('0' + empty);
+                        empty = 0;
+                    }
+                    out[o++] = (byte) Position.pieceChar(p);
+                }
+            }
+            if (empty > 0) out[o++] = (byte) ('0' + empty);
+            if (r > 0) out[o++] = '/';
+        }
+
+        out[o++] = ' ';
+        out[o++] = (byte) (pos.sideToMove() == Position.WHITE ? 'w' : 'b');
 
-    public static int rankIndex(char rank) {
-        return 8 - (rank - '0');
-    } // '1'..'8' => 7..0
+        out[o++] = ' ';
+        int castling = pos.castling();
+        if (castling == 0) out[o++] = '-';
+        if ((castling & Position.CASTLE_WK) != 0) out[o++] = 'K';
+        if ((castling & Position.CASTLE_WQ) != 0) out[o++] = 'Q';
+        if ((castling & Position.CASTLE_BK) != 0) out[o++] = 'k';
+        if ((castling & Position.CASTLE_BQ) != 0) out[o++] = 'q';
 
-    public static int[] squareToRC(String sq) {
-        if (sq == null || sq.length() != 2) throw new IllegalArgumentException("Casa inválida");
-        int c = fileIndex(sq.charAt(0));
-        int r = rankIndex(sq.charAt(1));
-        if (r < 0 || r > 7 || c < 0 || c > 7) throw new IllegalArgumentException("Casa fora do tabuleiro");
-        return new int[]{r, c};
-    }
+        out[o++] = ' ';
+        int ep = pos.epSquare();
+        if (ep == Squares.NONE) {
+            out[o++] = '-';
+        } else {
+            out[o++] = (byte) ('a' + Squares.file(ep));
+            out[o++] = (byte) ('1' + Squares.rank(ep));
+        }
 
-    public static boolean isWhitePiece(char p) {
-        return Character.isUpperCase(p);
+        out[o++] = ' ';
+        o = writeInt(pos.halfmove(), out, o);
+        out[o++] = ' ';
+        return writeInt(pos.fullmove(), out, o);
     }
 
-    public static boolean isBlackPiece(char p) {
-        return Character.isLowerCase(p);
+    private static int writeInt(int value, byte[] out, int o) {
+        if (value == 0) {
+            out[o++] = '0';
+            return o;
+        }
+        int digits = 0;
+        for (int v = value; v > 0; v /= 10) digits++;
+        int end = o + digits;
+        for (int v = value, p = end - 1; v > 0; v /= 10) out[p--] = (byte) ('0' + v % 10);
+        return end;
     }
 
     /**
      * Board for frontend: 8 strings (rank 8 to 1), each 8 chars using piece letters or '.'
      */
-    public static List<String> boardTo8x8(char[][] board) {
+    public static List<String> boardTo8x8(Position pos) {
         List<String> out = new ArrayList<>(8);
-        for (int r = 0; r < 8; r++) {
-            out.add(new String(board[r]));
+        char[] row = new char[8];
+        for (int r = 7; r >= 0; r--) {
+            for (int f = 0; f < 8; f++) {
+                row[f] = Position.pieceChar(pos.pieceAt(Squares.of(f, r)));
+            }
+            out.add(new String(row));
         }
         return out;
     }
@@ -117,19 +301,15 @@ public final class FenCodec {
     /**
      * Grid for frontend: 8x8 list of strings (rank 8->1, file a->h).
      */
-    public static List<List<String>> boardToGrid(char[][] board) {
+    public static List<List<String>> boardToGrid(Position pos) {
         List<List<String>> grid = new ArrayList<>(8);
-        for (int r = 0; r < 8; r++) {
+        for (int r = 7; r >= 0; r--) {
             List<String> row = new ArrayList<>(8);
-            for (int c = 0; c < 8; c++) {
-                row.add(String.valueOf(board[r][c]));
+            for (int f = 0; f < 8; f++) {
+                row.add(String.valueOf(Position.pieceChar(pos.pieceAt(Squares.of(f, r)))));
             }
             grid.add(row);
         }
         return grid;
     }
-
-    public record FenPosition(char[][] board, char turn, int halfmove, int fullmove) {
-    }
-
 }
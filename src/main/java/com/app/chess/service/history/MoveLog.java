@@ -0,0 +1,129 @@
+package com.app.chess.service.history;
+
+import com.app.chess.service.board.Moves;
+
+import java.util.Arrays;
+
+/**
+ * Append-only move history of one game, stored as a single blob.
+ * <pre>
+ * per ply:  2 bytes   move in {@link Moves} encoding, little-endian
+ *           1-10 bytes zigzag varint of the millis since the previous ply
+ *                      (the first ply counts from the game's creation)
+ * </pre>
+ * The side that moved is implied by the ply number, since every game starts
+ * from the initial position. A typical ply takes 3-4 bytes.
+ * <p>
+ * Bytes already written are never changed, so a writer may hand
+ * {@link #buffer()} and {@link #length()} to another thread and keep appending:
+ * the prefix it handed over stays valid even after the buffer grows.
+ */
+public final class MoveLog {
+
+    private final long baseMillis;
+    private long lastMillis;
+
+    private int[] moves = new int[32];
+    private long[] millis = new long[32];
+    private int size;
+
+    private byte[] data = new byte[128];
+    private int length;
+
+    /**
+     * @param baseMillis creation time of the game, the origin of the first delta
+     */
+    public MoveLog(long baseMillis) {
+        this.baseMillis = baseMillis;
+        this.lastMillis = baseMillis;
+    }
+
+    /**
+     * Decodes a blob written by this class; {@code null} is an empty log.
+     */
+    public static MoveLog decode(byte[] blob, long baseMillis) {
+        MoveLog log = new MoveLog(baseMillis);
+        if (blob == null) return log;
+        int p = 0;
+        while (p < blob.length) {
+            if (p + 2 >= blob.length) throw new IllegalStateException("Histórico de lances corrompido");
+            int move = (blob[p] & 0xFF) | (blob[p + 1] & 0xFF) << 8;
+            p += 2;
+            long raw = 0;
+            int shift = 0;
+            byte b;
+            do {
+                if (p >= blob.length || shift > 63) throw new IllegalStateException("Histórico de lances corrompido");
+                b = blob[p++];
+                raw |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            log.add(move, log.lastMillis + ((raw >>> 1) ^ -(raw & 1)));
+        }
+        log.data = Arrays.copyOf(blob, Math.max(blob.length, 16));
+        log.length = blob.length;
+        return log;
+    }
+
+    public void append(int move, long atMillis) {
+        long delta = atMillis - lastMillis;
+        add(move, atMillis);
+
+        if (length + 12 > data.length) data = Arrays.copyOf(data, data.length * 2);
+        data[length++] = (byte) move;
+        data[length++] = (byte) (move >>> 8);
+        long zigzag = (delta << 1) ^ (delta >> 63);
+        while ((zigzag & ~0x7FL) != 0) {
+            data[length++] = (byte) ((zigzag & 0x7F) | 0x80);
+            zigzag >>>= 7;
+        }
+        data[length++] = (byte) zigzag;
+    }
+
+    private void add(int move, long atMillis) {
+        if (size == moves.length) {
+            moves = Arrays.copyOf(moves, size * 2);
+            millis = Arrays.copyOf(millis, size * 2);
+        }
+        moves[size] = move;
+        millis[size++] = atMillis;
+        lastMillis = atMillis;
+    }
+
+    public long baseMillis() {
+        return baseMillis;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Ply {@code i} in {@link Moves} encoding.
+     */
+    public int move(int i) {
+        return moves[i];
+    }
+
+    /**
+     * Epoch millis at which ply {@code i} was played.
+     */
+    public long millis(int i) {
+        return millis[i];
+    }
+
+    /**
+     * Current encoded buffer; only the first {@link #length()} bytes are the log.
+     */
+    public byte[] buffer() {
+        return data;
+    }
+
+    public int length() {
+        return length;
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(data, length);
+    }
+}
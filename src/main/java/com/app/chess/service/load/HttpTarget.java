@@ -0,0 +1,93 @@
+package com.app.chess.service.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Plays through the HTTP API of a running server (this one by default), so
+ * the numbers include the servlet stack, JSON and the network.
+ */
+public class HttpTarget implements LoadTarget {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final String baseUrl;
+    private final HttpClient http;
+    private final ObjectMapper objectMapper;
+
+    public HttpTarget(String baseUrl, ObjectMapper objectMapper) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.objectMapper = objectMapper;
+        this.http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(TIMEOUT)
+                .build();
+    }
+
+    @Override
+    public String name() {
+        return "http";
+    }
+
+    @Override
+    public long createGame() {
+        return send("POST", "/api/games", null, 201).get("gameId").asLong();
+    }
+
+    @Override
+    public void move(long gameId, String from, String to, String color, String promotion) {
+        Map<String, String> body = new LinkedHashMap<>();
+        body.put("fromSquare", from);
+        body.put("toSquare", to);
+        body.put("playerColor", color);
+        if (promotion != null) body.put("promotion", promotion);
+        send("POST", "/api/games/" + gameId + "/moves", body, 201);
+    }
+
+    @Override
+    public String status(long gameId) {
+        return send("GET", "/api/games/" + gameId + "/board", null, 200).get("status").asText();
+    }
+
+    private JsonNode send(String method, String path, Object body, int expected) {
+        try {
+            HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(TIMEOUT);
+            if (body == null) {
+                request.method(method, HttpRequest.BodyPublishers.noBody());
+            } else {
+                request.header("Content-Type", "application/json")
+                        .method(method, HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+            }
+            HttpResponse<byte[]> response = http.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+            JsonNode json = response.body().length == 0 ? objectMapper.nullNode() : readOrNull(response.body());
+            if (response.statusCode() != expected) {
+                JsonNode message = json == null ? null : json.get("message");
+                throw new RequestFailed(response.statusCode(),
+                        message != null && !message.isNull() ? message.asText() : "sem ApiError");
+            }
+            return json;
+        } catch (IOException e) {
+            throw new RequestFailed(0, "erro de rede: " + e.getClass().getSimpleName());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RequestFailed(0, "interrompido");
+        }
+    }
+
+    private JsonNode readOrNull(byte[] body) {
+        try {
+            return objectMapper.readTree(body);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+}
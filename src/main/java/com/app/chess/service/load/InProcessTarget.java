@@ -0,0 +1,71 @@
+package com.app.chess.service.load;
+
+import com.app.chess.exception.ApiError;
+import com.app.chess.exception.GlobalExceptionHandler;
+import com.app.chess.model.Game;
+import com.app.chess.service.GameService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+/**
+ * Calls {@link GameService} directly: the cost of the game logic without
+ * HTTP and JSON. Exceptions are turned into the response
+ * {@link GlobalExceptionHandler} would send for them.
+ */
+public class InProcessTarget implements LoadTarget {
+
+    private final GameService service;
+    private final GlobalExceptionHandler handler;
+
+    public InProcessTarget(GameService service, GlobalExceptionHandler handler) {
+        this.service = service;
+        this.handler = handler;
+    }
+
+    @Override
+    public String name() {
+        return "in-process";
+    }
+
+    @Override
+    public long createGame() {
+        try {
+            Game game = service.createGame();
+            return game.getId();
+        } catch (RuntimeException e) {
+            throw failure(e);
+        }
+    }
+
+    @Override
+    public void move(long gameId, String from, String to, String color, String promotion) {
+        try {
+            service.makeMove(gameId, from, to, color, promotion);
+        } catch (RuntimeException e) {
+            throw failure(e);
+        }
+    }
+
+    @Override
+    public String status(long gameId) {
+        try {
+            return service.getBoard(gameId).status();
+        } catch (RuntimeException e) {
+            throw failure(e);
+        }
+    }
+
+    private RequestFailed failure(RuntimeException e) {
+        ResponseEntity<ApiError> response;
+        if (e instanceof ObjectOptimisticLockingFailureException conflict) {
+            response = handler.handleConflict(conflict);
+        } else if (e instanceof IllegalArgumentException notFound) {
+            response = handler.handleNotFound(notFound);
+        } else if (e instanceof IllegalStateException business) {
+            response = handler.handleBusiness(business);
+        } else {
+            return new RequestFailed(500, e.getClass().getSimpleName());
+        }
+        return new RequestFailed(response.getStatusCode().value(), response.getBody().message());
+    }
+}
@@ -0,0 +1,76 @@
+package com.app.chess.service.load;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Concurrent log-linear histogram of latencies in microseconds: every power
+ * of two is split into 16 buckets, so any value is reported within ~6% with
+ * a fixed 8 KB of counters and no locking.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BITS = 4;
+    private static final int SUB = 1 << SUB_BITS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(64 * SUB);
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Percentiles in microseconds, and the counts per power-of-two range.
+     *
+     * @param buckets {@code [upper bound in µs, count]} of every non-empty range
+     */
+    public record Summary(long count, long p50, long p90, long p99, long p999, long max, List<long[]> buckets) {
+    }
+
+    public void record(long nanos) {
+        long micros = Math.max(1, nanos / 1000);
+        counts.incrementAndGet(index(micros));
+        max.accumulateAndGet(micros, Math::max);
+    }
+
+    public Summary summary() {
+        long[] snapshot = new long[counts.length()];
+        long total = 0;
+        for (int i = 0; i < snapshot.length; i++) total += snapshot[i] = counts.get(i);
+
+        List<long[]> buckets = new ArrayList<>();
+        for (int block = 0; block < snapshot.length / SUB; block++) {
+            long n = 0;
+            for (int i = block * SUB; i < (block + 1) * SUB; i++) n += snapshot[i];
+            if (n > 0) buckets.add(new long[]{lowerBound((block + 1) * SUB) - 1, n});
+        }
+        long top = max.get();
+        return new Summary(total, percentile(snapshot, total, 0.50, top), percentile(snapshot, total, 0.90, top),
+                percentile(snapshot, total, 0.99, top), percentile(snapshot, total, 0.999, top), top, buckets);
+    }
+
+    private static long percentile(long[] snapshot, long total, double q, long max) {
+        if (total == 0) return 0;
+        long rank = (long) Math.ceil(q * total);
+        long seen = 0;
+        for (int i = 0; i < snapshot.length; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) return Math.min(lowerBound(i + 1) - 1, max);
+        }
+        return max;
+    }
+
+    static int index(long micros) {
+        if (micros < SUB) return (int) micros;
+        int exp = 63 - Long.numberOfLeadingZeros(micros);
+        int sub = (int) (micros >>> (exp - SUB_BITS)) & (SUB - 1);
+        return (exp - SUB_BITS + 1) * SUB + sub;
+    }
+
+    static long lowerBound(int index) {
+        int block = index / SUB;
+        int sub = index % SUB;
+        if (block == 0) return sub;
+        int exp = block + SUB_BITS - 1;
+        return (1L << exp) + ((long) sub << (exp - SUB_BITS));
+    }
+}
@@ -0,0 +1,206 @@
+package com.app.chess.service.load;
+
+import com.app.chess.service.board.Moves;
+import com.app.chess.service.board.Position;
+import com.app.chess.service.board.Squares;
+import com.app.chess.service.fen.FenCodec;
+import com.app.chess.service.rules.MoveGenerator;
+import com.app.chess.service.search.Search;
+import com.app.chess.service.search.SearchResult;
+import com.app.chess.service.search.TranspositionTable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Self-play traffic: {@code concurrency} bots each take the next of
+ * {@code games} games, create it and play both sides until the server says
+ * it is over, thinking before every move. Each ply is a move request
+ * followed by a board read, as a polling client would do. The bot keeps its
+ * own copy of the position to choose moves, so every move it sends is legal
+ * and any error is the server's.
+ * <p>
+ * {@link Player#ENGINE} bots search {@code engineNodes} nodes per move after
+ * {@link #RANDOM_OPENING_PLIES} random plies, so games do not all repeat.
+ */
+public final class LoadGenerator {
+
+    public static final int RANDOM_OPENING_PLIES = 6;
+    private static final int ENGINE_HASH_MB = 1;
+    private static final long ENGINE_MAX_MILLIS = 10_000;
+
+    public enum Player {
+        RANDOM, ENGINE
+    }
+
+    public enum Operation {
+        CREATE, MOVE, STATUS
+    }
+
+    /**
+     * @param maxPlies plies after which a game is left unfinished
+     * @param seed     seed of the bots' random choices, for repeatable runs
+     */
+    public record Settings(int games, int concurrency, Player player, long engineNodes, ThinkTime thinkTime,
+                           int maxPlies, long seed) {
+    }
+
+    /**
+     * @param outcomes final status of each game; {@code UNFINISHED} past max
+     *                 plies, {@code ABORTED} after an error
+     * @param errors   failed requests by {@link LoadTarget.RequestFailed#type()}
+     */
+    public record Report(String target, int games, long plies, long requests, long millis,
+                         long movesPerSecond, long requestsPerSecond,
+                         Map<Operation, LatencyHistogram.Summary> latency,
+                         Map<String, Long> outcomes, Map<String, Long> errors) {
+
+        public long errorCount() {
+            return errors.values().stream().mapToLong(Long::longValue).sum();
+        }
+    }
+
+    private final Settings settings;
+
+    public LoadGenerator(Settings settings) {
+        this.settings = settings;
+    }
+
+    public Report run(LoadTarget target) throws InterruptedException {
+        Map<Operation, LatencyHistogram> latency = new TreeMap<>();
+        for (Operation op : Operation.values()) latency.put(op, new LatencyHistogram());
+        Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+        Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+        LongAdder plies = new LongAdder();
+        AtomicInteger nextGame = new AtomicInteger();
+
+        int workers = Math.max(1, Math.min(settings.concurrency(), settings.games()));
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(workers, r -> {
+            Thread t = new Thread(r, "load-" + threadCount.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        long start = System.nanoTime();
+        try {
+            List<Future<?>> running = new ArrayList<>(workers);
+            for (int w = 0; w < workers; w++) {
+                Bot bot = new Bot(target, new SplittableRandom(settings.seed() + w), latency, errors, plies);
+                running.add(pool.submit(() -> {
+                    while (nextGame.getAndIncrement() < settings.games()) {
+                        outcomes.computeIfAbsent(bot.play(), k -> new LongAdder()).increment();
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> f : running) {
+                try {
+                    f.get();
+                } catch (ExecutionException e) {
+                    throw new IllegalStateException("Falha no gerador de carga", e.getCause());
+                }
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        long nanos = Math.max(1, System.nanoTime() - start);
+
+        Map<Operation, LatencyHistogram.Summary> summaries = new TreeMap<>();
+        long requests = 0;
+        for (Map.Entry<Operation, LatencyHistogram> e : latency.entrySet()) {
+            LatencyHistogram.Summary s = e.getValue().summary();
+            summaries.put(e.getKey(), s);
+            requests += s.count();
+        }
+        long moves = latency.get(Operation.MOVE).summary().count();
+        return new Report(target.name(), settings.games(), plies.sum(), requests, nanos / 1_000_000,
+                moves * 1_000_000_000L / nanos, requests * 1_000_000_000L / nanos,
+                summaries, sorted(outcomes), sorted(errors));
+    }
+
+    private static Map<String, Long> sorted(Map<String, LongAdder> counts) {
+        Map<String, Long> out = new TreeMap<>();
+        counts.forEach((k, v) -> out.put(k, v.sum()));
+        return out;
+    }
+
+    /**
+     * One worker; plays one game at a time.
+     */
+    private final class Bot {
+
+        private final LoadTarget target;
+        private final SplittableRandom random;
+        private final Map<Operation, LatencyHistogram> latency;
+        private final Map<String, LongAdder> errors;
+        private final LongAdder plies;
+        private final Position pos = new Position();
+        private final int[] legal = new int[MoveGenerator.MAX_MOVES];
+        private final TranspositionTable table;
+
+        Bot(LoadTarget target, SplittableRandom random, Map<Operation, LatencyHistogram> latency,
+            Map<String, LongAdder> errors, LongAdder plies) {
+            this.target = target;
+            this.random = random;
+            this.latency = latency;
+            this.errors = errors;
+            this.plies = plies;
+            this.table = settings.player() == Player.ENGINE ? new TranspositionTable(ENGINE_HASH_MB) : null;
+        }
+
+        /**
+         * @return the game's outcome for the report
+         */
+        String play() throws InterruptedException {
+            try {
+                long start = System.nanoTime();
+                long gameId = target.createGame();
+                latency.get(Operation.CREATE).record(System.nanoTime() - start);
+
+                FenCodec.parse(FenCodec.INITIAL_FEN, pos);
+                for (int ply = 0; ply < settings.maxPlies(); ply++) {
+                    int move = choose(ply);
+                    if (move == Moves.NONE) return "SEM_LANCES";
+                    long think = settings.thinkTime().nextMillis(random);
+                    if (think > 0) Thread.sleep(think);
+
+                    String color = pos.sideToMove() == Position.WHITE ? "WHITE" : "BLACK";
+                    start = System.nanoTime();
+                    target.move(gameId, Squares.name(Moves.from(move)), Squares.name(Moves.to(move)), color,
+                            Moves.promotionName(move));
+                    latency.get(Operation.MOVE).record(System.nanoTime() - start);
+                    pos.makeMove(move);
+                    plies.increment();
+
+                    start = System.nanoTime();
+                    String status = target.status(gameId);
+                    latency.get(Operation.STATUS).record(System.nanoTime() - start);
+                    if (!"EM_EXECUCAO".equals(status)) return status;
+                }
+                return "UNFINISHED";
+            } catch (LoadTarget.RequestFailed e) {
+                errors.computeIfAbsent(e.type(), k -> new LongAdder()).increment();
+                return "ABORTED";
+            }
+        }
+
+        private int choose(int ply) {
+            int n = MoveGenerator.generateLegal(pos, legal);
+            if (n == 0) return Moves.NONE;
+            if (settings.player() == Player.RANDOM || ply < RANDOM_OPENING_PLIES) return legal[random.nextInt(n)];
+            SearchResult result = new Search(pos, table, Search.MAX_DEPTH, ENGINE_MAX_MILLIS, settings.engineNodes())
+                    .run(1, Runnable::run);
+            return result.bestMove() == Moves.NONE ? legal[0] : result.bestMove();
+        }
+    }
+}
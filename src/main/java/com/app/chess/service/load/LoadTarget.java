@@ -0,0 +1,52 @@
+package com.app.chess.service.load;
+
+/**
+ * What {@link LoadGenerator} plays against: the HTTP API ({@link HttpTarget})
+ * or {@link com.app.chess.service.GameService} in-process ({@link InProcessTarget}).
+ * A rejected request throws {@link RequestFailed} with the response the API
+ * gives for it, so both targets report errors the same way.
+ */
+public interface LoadTarget {
+
+    /**
+     * Name used in the report.
+     */
+    String name();
+
+    /**
+     * @return the new game's id
+     */
+    long createGame();
+
+    void move(long gameId, String from, String to, String color, String promotion);
+
+    /**
+     * @return the game's status, read from its board
+     */
+    String status(long gameId);
+
+    /**
+     * A request answered with an error: the HTTP status and the
+     * {@link com.app.chess.exception.ApiError} message.
+     */
+    final class RequestFailed extends RuntimeException {
+
+        private final int status;
+
+        public RequestFailed(int status, String message) {
+            super(message);
+            this.status = status;
+        }
+
+        public int status() {
+            return status;
+        }
+
+        /**
+         * Key of the error breakdown, e.g. {@code 400 Não é a vez de WHITE}.
+         */
+        public String type() {
+            return status + " " + getMessage();
+        }
+    }
+}
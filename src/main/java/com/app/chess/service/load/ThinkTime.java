@@ -0,0 +1,42 @@
+package com.app.chess.service.load;
+
+import java.util.SplittableRandom;
+
+/**
+ * Pause before each move, from {@code chess.load.think-time}:
+ * <pre>
+ * none             no pause
+ * fixed:200        always 200 ms
+ * uniform:50-500   uniform between 50 and 500 ms
+ * exp:300          exponential with mean 300 ms (most moves fast, a few slow)
+ * </pre>
+ */
+@FunctionalInterface
+public interface ThinkTime {
+
+    long nextMillis(SplittableRandom random);
+
+    static ThinkTime parse(String spec) {
+        String s = spec.trim();
+        try {
+            if (s.isEmpty() || s.equals("none")) return r -> 0;
+            if (s.startsWith("fixed:")) {
+                long ms = Long.parseLong(s.substring(6));
+                return r -> ms;
+            }
+            if (s.startsWith("uniform:")) {
+                String[] range = s.substring(8).split("-");
+                long min = Long.parseLong(range[0]);
+                long max = Long.parseLong(range[1]);
+                if (min <= max) return r -> r.nextLong(min, max + 1);
+            }
+            if (s.startsWith("exp:")) {
+                double mean = Double.parseDouble(s.substring(4));
+                return r -> (long) (-mean * Math.log(1 - r.nextDouble()));
+            }
+        } catch (RuntimeException e) {
+            // falls through to the error below
+        }
+        throw new IllegalStateException("chess.load.think-time inválido: " + spec);
+    }
+}
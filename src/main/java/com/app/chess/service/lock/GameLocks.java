@@ -0,0 +1,76 @@
+package com.app.chess.service.lock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Striped per-game locks. A game id always maps to the same stripe, so all
+ * work on one game is serialized while different games proceed in parallel
+ * without a global lock. The number of stripes bounds memory no matter how
+ * many games exist; two games sharing a stripe only costs some contention.
+ */
+@Component
+public class GameLocks {
+
+    private final ReentrantLock[] stripes;
+    private final int mask;
+
+    public GameLocks(@Value("${chess.locks.stripes:1024}") int stripes) {
+        int size = Integer.highestOneBit(Math.max(1, stripes - 1)) << 1;
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) this.stripes[i] = new ReentrantLock();
+        this.mask = size - 1;
+    }
+
+    public ReentrantLock lockFor(Long gameId) {
+        return stripes[stripe(gameId)];
+    }
+
+    private int stripe(long gameId) {
+        long h = gameId * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    public <T> T withLock(Long gameId, Supplier<T> work) {
+        ReentrantLock lock = lockFor(gameId);
+        lock.lock();
+        try {
+            return work.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Runs {@code work} holding the stripes of all {@code gameIds}. They are
+     * taken in stripe order, so two callers locking several games can never
+     * deadlock each other.
+     */
+    public <T> T withLocks(long[] gameIds, Supplier<T> work) {
+        int[] order = new int[gameIds.length];
+        for (int i = 0; i < gameIds.length; i++) order[i] = stripe(gameIds[i]);
+        Arrays.sort(order);
+        int held = 0;
+        try {
+            for (int i = 0; i < order.length; i++) {
+                if (i > 0 && order[i] == order[i - 1]) continue;
+                stripes[order[i]].lock();
+                order[held++] = order[i];
+            }
+            return work.get();
+        } finally {
+            for (int i = held - 1; i >= 0; i--) stripes[order[i]].unlock();
+        }
+    }
+
+    public void withLock(Long gameId, Runnable work) {
+        withLock(gameId, () -> {
+            work.run();
+            return null;
+        });
+    }
+}
@@ -0,0 +1,103 @@
+package com.app.chess.service.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Meters of the move pipeline. Timers are registered once and kept in
+ * fields, so recording a stage is a {@link System#nanoTime()} difference and
+ * no registry lookup. Stage timers publish histogram buckets (1 µs to 1 s)
+ * for percentiles in Prometheus.
+ * <pre>
+ * chess.move.stage{stage}      lock, load, validate, apply, encode, persist, publish
+ * chess.move                   whole move, lock wait included
+ * chess.game.read{op}          getGame, getBoard
+ * chess.move.rejected{reason}  rejected moves by rule message
+ * </pre>
+ */
+@Component
+public class MoveMetrics {
+
+    /**
+     * Rejection reasons come from a fixed set of messages; past this many the
+     * rest are counted as "outro" so a bug can never explode the tag count.
+     */
+    private static final int MAX_REASONS = 64;
+
+    public enum Stage {
+        LOCK, LOAD, VALIDATE, APPLY, ENCODE, PERSIST, PUBLISH
+    }
+
+    private final MeterRegistry registry;
+    private final Map<String, Counter> rejections = new ConcurrentHashMap<>();
+    private final Timer[] stages = new Timer[Stage.values().length];
+    private final Timer move;
+    private final Timer getGame;
+    private final Timer getBoard;
+
+    public MoveMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        for (Stage s : Stage.values()) stages[s.ordinal()] = stage(s.name().toLowerCase(Locale.ROOT));
+        this.move = histogram(Timer.builder("chess.move").description("Whole move, lock wait included"));
+        this.getGame = histogram(Timer.builder("chess.game.read").tag("op", "getGame"));
+        this.getBoard = histogram(Timer.builder("chess.game.read").tag("op", "getBoard"));
+    }
+
+    private Timer stage(String name) {
+        return histogram(Timer.builder("chess.move.stage").tag("stage", name));
+    }
+
+    private Timer histogram(Timer.Builder builder) {
+        return builder.publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofNanos(1_000))
+                .maximumExpectedValue(Duration.ofSeconds(1))
+                .register(registry);
+    }
+
+    /**
+     * Records {@code now - start} nanoseconds on {@code stage} and returns now,
+     * so consecutive stages chain without extra clock reads.
+     */
+    public long lap(Stage stage, long start) {
+        return lap(stages[stage.ordinal()], start);
+    }
+
+    public void move(long start) {
+        lap(move, start);
+    }
+
+    public void getGame(long start) {
+        lap(getGame, start);
+    }
+
+    public void getBoard(long start) {
+        lap(getBoard, start);
+    }
+
+    private static long lap(Timer timer, long start) {
+        long now = System.nanoTime();
+        timer.record(now - start, TimeUnit.NANOSECONDS);
+        return now;
+    }
+
+    public void rejected(String reason) {
+        String key = reason == null ? "outro" : reason;
+        Counter c = rejections.get(key);
+        if (c == null) {
+            if (rejections.size() >= MAX_REASONS) key = "outro";
+            c = rejections.computeIfAbsent(key, r -> Counter.builder("chess.move.rejected")
+                    .description("Moves rejected by the rules, by reason")
+                    .tag("reason", r)
+                    .register(registry));
+        }
+        c.increment();
+    }
+}
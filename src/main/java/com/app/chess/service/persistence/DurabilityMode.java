@@ -0,0 +1,13 @@
+package com.app.chess.service.persistence;
+
+public enum DurabilityMode {
+    /**
+     * Each move is committed to the database before makeMove returns.
+     */
+    SYNC,
+    /**
+     * Moves are queued and committed in batches by a background flush;
+     * a crash can lose the moves of the last flush interval.
+     */
+    WRITE_BEHIND
+}
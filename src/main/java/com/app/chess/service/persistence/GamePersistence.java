@@ -0,0 +1,236 @@
+package com.app.chess.service.persistence;
+
+import com.app.chess.model.Game;
+import com.app.chess.service.cache.GameCache;
+import com.app.chess.service.cache.GameState;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Writes games to the configured {@link GameStore}; the move history travels
+ * with the game as a {@link com.app.chess.service.history.MoveLog} blob, so a
+ * move is a single-game update. In {@link DurabilityMode#SYNC} every move is
+ * its own store write; in {@link DurabilityMode#WRITE_BEHIND} moves are queued
+ * and flushed in batches, with only the latest state of each touched game
+ * written per batch.
+ * <p>
+ * Every state write is conditional on the {@link Game} version, so a stale
+ * writer fails with {@link ObjectOptimisticLockingFailureException} instead of
+ * overwriting a newer board.
+ */
+@Component
+public class GamePersistence {
+
+    private static final Logger log = LoggerFactory.getLogger(GamePersistence.class);
+
+    private final GameStore store;
+    private final GameCache cache;
+    private final DurabilityMode mode;
+    private final int batchSize;
+
+    private final BlockingQueue<GameUpdate> queue;
+    private final Map<Long, Integer> pendingByGame = new ConcurrentHashMap<>();
+    /**
+     * One flusher at a time. A lock rather than {@code synchronized}, which would
+     * pin a virtual thread to its carrier for the whole store round trip.
+     */
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public GamePersistence(GameStore store,
+                           GameCache cache,
+                           @Value("${chess.persistence.durability:WRITE_BEHIND}") DurabilityMode mode,
+                           @Value("${chess.persistence.batch-size:500}") int batchSize,
+                           @Value("${chess.persistence.queue-capacity:100000}") int queueCapacity) {
+        this.store = store;
+        this.cache = cache;
+        this.mode = mode;
+        this.batchSize = batchSize;
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+    }
+
+    public DurabilityMode getMode() {
+        return mode;
+    }
+
+    public Game createGame(Game game) {
+        return store.create(game);
+    }
+
+    /**
+     * Loads a game and its move log, flushing first any queued moves of that
+     * game so the stored copy is current.
+     */
+    public GameState load(Long gameId) {
+        if (pendingByGame.containsKey(gameId)) flush();
+        Game game = store.find(gameId)
+                .orElseThrow(() -> new IllegalArgumentException("Partida não encontrada"));
+        return new GameState(game);
+    }
+
+    /**
+     * Records the moves applied to {@code state} since it was at
+     * {@code previousVersion}, as a single game write. Must be called by the
+     * game's writer right after the moves (appended to the log, version already
+     * bumped), so the captured snapshot is the post-move state. The log is
+     * captured by reference and length, not copied: its written prefix never changes.
+     */
+    public void recordMoves(GameState state, long previousVersion) {
+        GameUpdate pending = update(state, previousVersion);
+        if (mode == DurabilityMode.SYNC) {
+            store.write(List.of(pending));
+            return;
+        }
+        enqueue(pending);
+    }
+
+    /**
+     * Stores several games changed together, e.g. a sweep of timeouts, as one
+     * store write in either durability mode, so the caller learns which of
+     * them were committed. Queued moves of these games are flushed first, so
+     * the write follows them. A game whose stored copy moved on meanwhile, or
+     * whose write failed, is dropped and evicted, as in a write-behind flush. Nothing is queued, so
+     * a caller holding the games' locks never waits for queue space.
+     *
+     * @param previousVersions version of each state before the change, in order
+     * @return for each state, in order, whether it was committed
+     */
+    public boolean[] recordAll(List<GameState> states, long[] previousVersions) {
+        boolean[] committed = new boolean[states.size()];
+        if (states.isEmpty()) return committed;
+        for (GameState state : states) {
+            if (pendingByGame.containsKey(state.getId())) {
+                flush();
+                break;
+            }
+        }
+        List<GameUpdate> updates = new ArrayList<>(states.size());
+        for (int i = 0; i < states.size(); i++) updates.add(update(states.get(i), previousVersions[i]));
+        Set<Long> dropped = write(updates);
+        for (int i = 0; i < committed.length; i++) committed[i] = !dropped.contains(states.get(i).getId());
+        return committed;
+    }
+
+    private static GameUpdate update(GameState state, long previousVersion) {
+        return new GameUpdate(state.getId(), state.getFen(), state.getHash(), state.getTurn(),
+                state.getStatus(), state.getWinner(), previousVersion, state.getVersion(),
+                state.getMoves().buffer(), state.getMoves().length(), state.getClock(), state.getDeadline());
+    }
+
+    private void enqueue(GameUpdate pending) {
+        Long gameId = pending.gameId();
+        pendingByGame.merge(gameId, 1, Integer::sum);
+        try {
+            queue.put(pending);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            pendingByGame.computeIfPresent(gameId, (id, n) -> n == 1 ? null : n - 1);
+            throw new IllegalStateException("Interrompido ao registrar jogada");
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${chess.persistence.flush-interval-ms:50}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    /**
+     * Drains the queue in batches of {@code batch-size}, one store write each.
+     */
+    @PreDestroy
+    public void flush() {
+        flushLock.lock();
+        try {
+            List<GameUpdate> batch = new ArrayList<>(Math.min(batchSize, queue.size()));
+            while (queue.drainTo(batch, batchSize) > 0) {
+                try {
+                    write(batch);
+                } finally {
+                    for (GameUpdate p : batch) {
+                        pendingByGame.computeIfPresent(p.gameId(), (id, n) -> n == 1 ? null : n - 1);
+                    }
+                    batch.clear();
+                }
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Writes {@code batch} as one store write, falling back to
+     * {@link #writeEachGame} when it fails.
+     *
+     * @return ids of the dropped games
+     */
+    private Set<Long> write(List<GameUpdate> batch) {
+        try {
+            store.write(latest(batch));
+            return Set.of();
+        } catch (ObjectOptimisticLockingFailureException e) {
+            return writeEachGame(batch);
+        } catch (RuntimeException e) {
+            log.warn("Falha ao gravar lote de {} jogada(s); gravando partida a partida", batch.size(), e);
+            return writeEachGame(batch);
+        }
+    }
+
+    /**
+     * Fallback when a batch failed: commit each game on its own so one stale
+     * or unwritable game does not hold back the others. Such a game's moves
+     * are dropped and its cached copy evicted, so the next request reloads
+     * the stored state instead of building on moves that were never written.
+     *
+     * @return ids of the dropped games
+     */
+    private Set<Long> writeEachGame(List<GameUpdate> batch) {
+        Map<Long, List<GameUpdate>> byGame = new LinkedHashMap<>();
+        for (GameUpdate p : batch) {
+            byGame.computeIfAbsent(p.gameId(), id -> new ArrayList<>()).add(p);
+        }
+        Set<Long> dropped = new HashSet<>();
+        byGame.forEach((gameId, moves) -> {
+            try {
+                store.write(latest(moves));
+            } catch (ObjectOptimisticLockingFailureException e) {
+                log.warn("Descartando {} jogada(s) da partida {}: versão desatualizada", moves.size(), gameId);
+                cache.evict(gameId);
+                dropped.add(gameId);
+            } catch (RuntimeException e) {
+                log.error("Descartando {} jogada(s) da partida {}: falha ao gravar", moves.size(), gameId, e);
+                cache.evict(gameId);
+                dropped.add(gameId);
+            }
+        });
+        return dropped;
+    }
+
+    /**
+     * Collapses queued moves to one update per game: the latest state, expected
+     * at the version before the first queued move.
+     */
+    private static List<GameUpdate> latest(List<GameUpdate> batch) {
+        Map<Long, GameUpdate> latest = new LinkedHashMap<>();
+        for (GameUpdate p : batch) {
+            latest.merge(p.gameId(), p, (first, next) -> new GameUpdate(next.gameId(), next.fen(), next.hash(),
+                    next.turn(), next.status(), next.winner(), first.expectedVersion(), next.version(),
+                    next.log(), next.logLength(), next.clock(), next.deadline()));
+        }
+        return new ArrayList<>(latest.values());
+    }
+}
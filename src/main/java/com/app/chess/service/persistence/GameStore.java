@@ -0,0 +1,69 @@
+package com.app.chess.service.persistence;
+
+import com.app.chess.dto.GameSummary;
+import com.app.chess.model.Game;
+import com.app.chess.repository.GameFilter;
+import com.app.chess.repository.GameHistory;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Storage SPI behind {@link GamePersistence} and the bulk readers. Selected
+ * with {@code chess.persistence.store}: {@code jpa} (default, {@link JpaGameStore})
+ * or {@code event-log} ({@link com.app.chess.service.persistence.eventlog.EventLogGameStore}).
+ */
+public interface GameStore {
+
+    /**
+     * Stores a new game and returns it with its id assigned.
+     */
+    Game create(Game game);
+
+    /**
+     * Stores new games in one unit, e.g. a PGN import chunk.
+     *
+     * @return the ids assigned, in order
+     */
+    List<Long> createAll(List<Game> games);
+
+    Optional<Game> find(Long id);
+
+    /**
+     * Writes all updates or none. Each one applies only if the stored game is
+     * still at {@link GameUpdate#expectedVersion()}.
+     *
+     * @throws org.springframework.orm.ObjectOptimisticLockingFailureException on a version mismatch
+     */
+    void write(Collection<GameUpdate> updates);
+
+    /**
+     * Keyset page: games created after ({@code afterCreatedAt}, {@code afterId}),
+     * ordered by creation time then id.
+     */
+    List<GameSummary> findPage(GameFilter filter, Instant afterCreatedAt, long afterId, int limit);
+
+    /**
+     * Every matching game in listing order, without holding them all in memory.
+     */
+    void forEachSummary(GameFilter filter, Consumer<GameSummary> action);
+
+    /**
+     * Outcome and move log of every finished game.
+     */
+    void forEachFinishedHistory(Consumer<GameHistory> action);
+
+    /**
+     * Id, timeout deadline (0 if none stored) and turn start of every game in
+     * progress, to schedule them again at startup.
+     */
+    void forEachDeadline(DeadlineConsumer action);
+
+    @FunctionalInterface
+    interface DeadlineConsumer {
+        void accept(long gameId, long deadlineMillis, long turnStartedAtMillis);
+    }
+}
@@ -0,0 +1,17 @@
+package com.app.chess.service.persistence;
+
+import com.app.chess.model.GameStatus;
+import com.app.chess.service.clock.Clock;
+
+/**
+ * New state of a game for a conditional write.
+ *
+ * @param expectedVersion version the stored game must be at before this write
+ * @param version         game version after this write
+ * @param log             move log buffer of the game, valid up to {@code logLength}; never modified
+ * @param deadline        next timeout of the game in epoch millis, 0 for none
+ */
+public record GameUpdate(Long gameId, String fen, long hash, String turn, GameStatus status, String winner,
+                         long expectedVersion, long version, byte[] log, int logLength,
+                         Clock clock, long deadline) {
+}
@@ -0,0 +1,108 @@
+package com.app.chess.service.persistence;
+
+import com.app.chess.dto.GameSummary;
+import com.app.chess.model.Game;
+import com.app.chess.repository.GameDeadline;
+import com.app.chess.repository.GameFilter;
+import com.app.chess.repository.GameHistory;
+import com.app.chess.repository.GameRepository;
+import com.app.chess.service.clock.Clock;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Default store: one row per game through {@link GameRepository}; a move is a
+ * single conditional row update carrying the whole move log.
+ */
+@Component
+@ConditionalOnProperty(name = "chess.persistence.store", havingValue = "jpa", matchIfMissing = true)
+public class JpaGameStore implements GameStore {
+
+    private static final int FETCH_SIZE = 500;
+
+    private final GameRepository gameRepo;
+    private final TransactionTemplate tx;
+    private final TransactionTemplate readOnlyTx;
+
+    public JpaGameStore(GameRepository gameRepo, PlatformTransactionManager txManager) {
+        this.gameRepo = gameRepo;
+        this.tx = new TransactionTemplate(txManager);
+        this.readOnlyTx = new TransactionTemplate(txManager);
+        this.readOnlyTx.setReadOnly(true);
+    }
+
+    @Override
+    public Game create(Game game) {
+        return gameRepo.save(game);
+    }
+
+    @Override
+    public List<Long> createAll(List<Game> games) {
+        return tx.execute(s -> gameRepo.saveAll(games).stream().map(Game::getId).toList());
+    }
+
+    @Override
+    public Optional<Game> find(Long id) {
+        return gameRepo.findById(id);
+    }
+
+    @Override
+    public void write(Collection<GameUpdate> updates) {
+        tx.executeWithoutResult(s -> {
+            for (GameUpdate u : updates) {
+                Clock clock = u.clock();
+                int updated = gameRepo.updateState(u.gameId(), u.fen(), u.hash(), u.turn(), u.status(), u.winner(),
+                        Arrays.copyOf(u.log(), u.logLength()),
+                        clock.timed() ? clock.whiteMs() : null, clock.timed() ? clock.blackMs() : null,
+                        Instant.ofEpochMilli(clock.turnStartedAt()),
+                        u.deadline() == 0 ? null : Instant.ofEpochMilli(u.deadline()),
+                        u.expectedVersion(), u.version());
+                if (updated == 0) throw new ObjectOptimisticLockingFailureException(Game.class, u.gameId());
+            }
+        });
+    }
+
+    @Override
+    public List<GameSummary> findPage(GameFilter filter, Instant afterCreatedAt, long afterId, int limit) {
+        return gameRepo.findPage(filter, afterCreatedAt, afterId, limit);
+    }
+
+    @Override
+    public void forEachSummary(GameFilter filter, Consumer<GameSummary> action) {
+        readOnlyTx.executeWithoutResult(s -> {
+            try (Stream<GameSummary> games = gameRepo.streamAll(filter, FETCH_SIZE)) {
+                games.forEach(action);
+            }
+        });
+    }
+
+    @Override
+    public void forEachFinishedHistory(Consumer<GameHistory> action) {
+        readOnlyTx.executeWithoutResult(s -> {
+            try (Stream<GameHistory> games = gameRepo.streamFinishedHistories(FETCH_SIZE)) {
+                games.forEach(action);
+            }
+        });
+    }
+
+    @Override
+    public void forEachDeadline(DeadlineConsumer action) {
+        readOnlyTx.executeWithoutResult(s -> {
+            try (Stream<GameDeadline> games = gameRepo.streamDeadlines(FETCH_SIZE)) {
+                games.forEach(g -> action.accept(g.id(), g.deadline() == null ? 0 : g.deadline().toEpochMilli(),
+                        g.turnStartedAt().toEpochMilli()));
+            }
+        });
+    }
+}
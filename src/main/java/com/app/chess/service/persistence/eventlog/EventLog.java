@@ -0,0 +1,171 @@
+package com.app.chess.service.persistence.eventlog;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only log of frames in memory-mapped segment files
+ * {@code events-<seq>.log}. Each frame is
+ * <pre>
+ * int length, int CRC32 of the payload, payload
+ * </pre>
+ * and the zeros after the last frame end the segment. A write is a copy into
+ * the mapping, so it reaches the page cache at once and survives a crash of
+ * the process; with {@code fsync} each frame is also forced to disk.
+ * <p>
+ * A frame that is cut short or fails its CRC ends its segment on replay.
+ * Only the last segment written before a crash can have one, since every
+ * start opens a new segment; there it is cleared, and anywhere else replay
+ * fails rather than skip the frames after it. Not thread-safe: the store
+ * serializes appends.
+ */
+final class EventLog implements Closeable {
+
+    static final int FRAME_HEADER = 8;
+
+    private static final Logger log = LoggerFactory.getLogger(EventLog.class);
+    private static final Pattern SEGMENT = Pattern.compile("events-(\\d+)\\.log");
+
+    private final Path dir;
+    private final int segmentBytes;
+    private final boolean fsync;
+    private final CRC32 crc = new CRC32();
+
+    private FileChannel channel;
+    private MappedByteBuffer segment;
+    private long seq;
+
+    EventLog(Path dir, int segmentBytes, boolean fsync) {
+        this.dir = dir;
+        this.segmentBytes = segmentBytes;
+        this.fsync = fsync;
+    }
+
+    /**
+     * Passes the payload of every valid frame in segments {@code fromSeq} and
+     * later to {@code action}, in order. Segments without frames are deleted.
+     *
+     * @return the first segment number after the replayed ones
+     * @throws IllegalStateException when a segment other than the last is corrupted
+     */
+    long replay(long fromSeq, Consumer<ByteBuffer> action) throws IOException {
+        long next = fromSeq;
+        List<Long> all = segments();
+        for (long s : all) {
+            if (s < fromSeq) continue;
+            next = s + 1;
+            try (FileChannel ch = FileChannel.open(path(s), StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                MappedByteBuffer data = ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size());
+                int at = 0;
+                while (data.limit() - at >= FRAME_HEADER) {
+                    int length = data.getInt(at);
+                    if (length == 0) break;
+                    if (length < 0 || length > data.limit() - at - FRAME_HEADER
+                            || checksum(data.slice(at + FRAME_HEADER, length)) != data.getInt(at + 4)) {
+                        if (s != all.get(all.size() - 1)) {
+                            throw new IllegalStateException("Log de eventos corrompido: " + path(s)
+                                    + " no byte " + at + ", antes do último segmento");
+                        }
+                        log.warn("Descartando final corrompido de {} a partir do byte {}", path(s), at);
+                        // A zero length ends the segment, so a later start reads it as clean
+                        ch.write(ByteBuffer.allocate(4), at);
+                        ch.force(false);
+                        break;
+                    }
+                    action.accept(data.slice(at + FRAME_HEADER, length));
+                    at += FRAME_HEADER + length;
+                }
+                if (at == 0) Files.delete(path(s));
+            }
+        }
+        return next;
+    }
+
+    /**
+     * Starts writing to the new segment {@code seq}.
+     */
+    void start(long seq) throws IOException {
+        open(seq, segmentBytes);
+    }
+
+    void append(ByteBuffer payload) throws IOException {
+        int length = payload.remaining();
+        if (segment.remaining() < FRAME_HEADER + length) {
+            open(seq + 1, Math.max(segmentBytes, FRAME_HEADER + length));
+        }
+        int at = segment.position();
+        segment.putInt(length).putInt(checksum(payload)).put(payload);
+        if (fsync) segment.force(at, FRAME_HEADER + length);
+    }
+
+    /**
+     * Moves on to a new segment unless the current one is still empty.
+     *
+     * @return the current segment number: every frame appended so far is in
+     * an earlier segment
+     */
+    long roll() throws IOException {
+        if (segment.position() > 0) open(seq + 1, segmentBytes);
+        return seq;
+    }
+
+    void deleteBefore(long seq) throws IOException {
+        for (long s : segments()) {
+            if (s < seq) Files.deleteIfExists(path(s));
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (channel == null) return;
+        segment.force();
+        channel.close();
+        channel = null;
+    }
+
+    private void open(long seq, int size) throws IOException {
+        close();
+        channel = FileChannel.open(path(seq), StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        this.seq = seq;
+    }
+
+    private int checksum(ByteBuffer payload) {
+        crc.reset();
+        crc.update(payload.duplicate());
+        return (int) crc.getValue();
+    }
+
+    private Path path(long seq) {
+        return dir.resolve(String.format("events-%010d.log", seq));
+    }
+
+    private List<Long> segments() throws IOException {
+        List<Long> out = new ArrayList<>();
+        try (Stream<Path> files = Files.list(dir)) {
+            files.forEach(f -> {
+                Matcher m = SEGMENT.matcher(f.getFileName().toString());
+                if (m.matches()) out.add(Long.parseLong(m.group(1)));
+            });
+        }
+        out.sort(null);
+        return out;
+    }
+}
@@ -0,0 +1,374 @@
+package com.app.chess.service.persistence.eventlog;
+
+import com.app.chess.dto.GameSummary;
+import com.app.chess.model.Game;
+import com.app.chess.model.GameStatus;
+import com.app.chess.repository.GameFilter;
+import com.app.chess.repository.GameHistory;
+import com.app.chess.service.persistence.GameStore;
+import com.app.chess.service.persistence.GameUpdate;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * In-process, event-sourced store: every game lives in memory and each write
+ * (a new game, or the new state of games after their moves) is appended as
+ * one frame to an {@link EventLog}. A write is a copy into a memory mapping
+ * under a lock, with no SQL, transaction or row lookup.
+ * <p>
+ * Periodically, and on shutdown, the state of all games is written to
+ * {@code snapshot.bin} and the segments it covers are deleted. On startup the
+ * snapshot is loaded and the newer segments replayed on top of it. A frame
+ * is all or nothing, so a batch of updates is never half replayed.
+ * <p>
+ * Memory grows with the number of games stored, move logs included.
+ */
+@Component
+@ConditionalOnProperty(name = "chess.persistence.store", havingValue = "event-log")
+public class EventLogGameStore implements GameStore {
+
+    private static final Logger log = LoggerFactory.getLogger(EventLogGameStore.class);
+
+    private static final String SNAPSHOT = "snapshot.bin";
+    private static final int SNAPSHOT_MAGIC = 0x43485353;
+    private static final int SNAPSHOT_HEADER = 4 + 8 + 8 + 4;
+
+    /**
+     * Listing order: creation time, then id.
+     */
+    private record Order(Instant createdAt, long id) implements Comparable<Order> {
+        @Override
+        public int compareTo(Order o) {
+            int c = createdAt.compareTo(o.createdAt);
+            return c != 0 ? c : Long.compare(id, o.id);
+        }
+    }
+
+    private final Path dir;
+    private final EventLog events;
+    private final Map<Long, StoredGame> games = new ConcurrentHashMap<>();
+    private final NavigableSet<Order> order = new ConcurrentSkipListSet<>();
+
+    /**
+     * Guards appends, id assignment and the in-memory state they change.
+     * Readers use the concurrent maps without it.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ReentrantLock snapshotLock = new ReentrantLock();
+    private ByteBuffer frame = ByteBuffer.allocate(64 * 1024);
+    private long nextId = 1;
+    private long framesSinceSnapshot;
+
+    public EventLogGameStore(@Value("${chess.store.event-log.dir:data/events}") String dir,
+                             @Value("${chess.store.event-log.segment-mb:64}") int segmentMb,
+                             @Value("${chess.store.event-log.fsync:false}") boolean fsync) {
+        if (segmentMb < 1 || segmentMb > 1024) {
+            // A segment is one mapping, and a mapping holds at most 2 GB
+            throw new IllegalStateException("chess.store.event-log.segment-mb deve estar entre 1 e 1024");
+        }
+        this.dir = Path.of(dir);
+        this.events = new EventLog(this.dir, segmentMb << 20, fsync);
+        try {
+            Files.createDirectories(this.dir);
+            long replayFrom = loadSnapshot();
+            long next = events.replay(replayFrom, this::replayFrame);
+            events.start(next);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        log.info("Log de eventos em {}: {} partida(s) carregada(s), {} evento(s) reaplicado(s)",
+                this.dir.toAbsolutePath(), games.size(), framesSinceSnapshot);
+        snapshot();
+    }
+
+    @Override
+    public Game create(Game game) {
+        lock.lock();
+        try {
+            StoredGame stored = StoredGame.of(nextId, game);
+            append(List.of(stored));
+            return stored.toGame();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public List<Long> createAll(List<Game> newGames) {
+        if (newGames.isEmpty()) return List.of();
+        lock.lock();
+        try {
+            List<StoredGame> stored = new ArrayList<>(newGames.size());
+            for (Game g : newGames) stored.add(StoredGame.of(nextId + stored.size(), g));
+            append(stored);
+            return stored.stream().map(StoredGame::id).toList();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Optional<Game> find(Long id) {
+        return Optional.ofNullable(games.get(id)).map(StoredGame::toGame);
+    }
+
+    @Override
+    public void write(Collection<GameUpdate> updates) {
+        lock.lock();
+        try {
+            Map<Long, StoredGame> next = new LinkedHashMap<>();
+            for (GameUpdate u : updates) {
+                StoredGame current = next.containsKey(u.gameId()) ? next.get(u.gameId()) : games.get(u.gameId());
+                if (current == null || current.version() != u.expectedVersion()) {
+                    throw new ObjectOptimisticLockingFailureException(Game.class, u.gameId());
+                }
+                next.put(u.gameId(), current.with(u));
+            }
+            append(next.values());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public List<GameSummary> findPage(GameFilter filter, Instant afterCreatedAt, long afterId, int limit) {
+        List<GameSummary> page = new ArrayList<>(Math.min(limit, 64));
+        for (Order o : order.tailSet(new Order(afterCreatedAt, afterId), false)) {
+            StoredGame g = games.get(o.id());
+            if (matches(g, filter)) {
+                page.add(g.summary());
+                if (page.size() == limit) break;
+            }
+        }
+        return page;
+    }
+
+    @Override
+    public void forEachSummary(GameFilter filter, Consumer<GameSummary> action) {
+        for (Order o : order) {
+            StoredGame g = games.get(o.id());
+            if (matches(g, filter)) action.accept(g.summary());
+        }
+    }
+
+    @Override
+    public void forEachFinishedHistory(Consumer<GameHistory> action) {
+        for (Order o : order) {
+            StoredGame g = games.get(o.id());
+            if (g.status() != GameStatus.EM_EXECUCAO) action.accept(g.history());
+        }
+    }
+
+    @Override
+    public void forEachDeadline(DeadlineConsumer action) {
+        for (StoredGame g : games.values()) {
+            if (g.status() == GameStatus.EM_EXECUCAO) action.accept(g.id(), g.deadline(), g.clock().turnStartedAt());
+        }
+    }
+
+    /**
+     * Writes a snapshot if anything was appended since the last one, then
+     * deletes the segments it covers. Appends continue meanwhile: the segment
+     * is rolled under the lock and the immutable game states are written
+     * outside it.
+     */
+    @Scheduled(fixedDelayString = "${chess.store.event-log.snapshot-interval-ms:60000}",
+            initialDelayString = "${chess.store.event-log.snapshot-interval-ms:60000}")
+    public void snapshot() {
+        snapshotLock.lock();
+        try {
+            long replayFrom;
+            long firstFreeId;
+            long frames;
+            List<StoredGame> all;
+            lock.lock();
+            try {
+                frames = framesSinceSnapshot;
+                if (frames == 0) return;
+                replayFrom = events.roll();
+                firstFreeId = nextId;
+                all = new ArrayList<>(games.values());
+            } finally {
+                lock.unlock();
+            }
+            writeSnapshot(all, replayFrom, firstFreeId);
+            events.deleteBefore(replayFrom);
+            lock.lock();
+            try {
+                framesSinceSnapshot -= frames;
+            } finally {
+                lock.unlock();
+            }
+        } catch (IOException e) {
+            // The segments are kept, so nothing is lost; the next run retries
+            log.warn("Falha ao gravar snapshot do log de eventos", e);
+        } finally {
+            snapshotLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        snapshot();
+        lock.lock();
+        try {
+            events.close();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Appends {@code states} as one frame and then makes them visible. Must
+     * hold {@link #lock}; each game appears at most once.
+     */
+    private void append(Collection<StoredGame> states) {
+        int size = 4;
+        for (StoredGame s : states) size += s.size(logFrom(s));
+        if (frame.capacity() < size) frame = ByteBuffer.allocate(Math.max(size, frame.capacity() * 2));
+        frame.clear();
+        frame.putInt(states.size());
+        for (StoredGame s : states) s.write(frame, logFrom(s));
+        frame.flip();
+        try {
+            events.append(frame);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        states.forEach(this::index);
+        framesSinceSnapshot++;
+    }
+
+    /**
+     * Length of the stored log that {@code next} extends; its record only
+     * carries the bytes after it.
+     */
+    private int logFrom(StoredGame next) {
+        StoredGame current = games.get(next.id());
+        return current == null || current.logLength() > next.logLength() ? 0 : current.logLength();
+    }
+
+    private void index(StoredGame g) {
+        games.put(g.id(), g);
+        order.add(new Order(g.createdAt(), g.id()));
+        nextId = Math.max(nextId, g.id() + 1);
+    }
+
+    private void replayFrame(ByteBuffer payload) {
+        int count = payload.getInt();
+        for (int i = 0; i < count; i++) index(StoredGame.read(payload, games::get));
+        framesSinceSnapshot++;
+    }
+
+    private static boolean matches(StoredGame g, GameFilter filter) {
+        return g != null
+                && (filter.status() == null || filter.status() == g.status())
+                && (filter.turn() == null || filter.turn().equals(g.turn()))
+                && (filter.winner() == null || filter.winner().equals(g.winner()));
+    }
+
+    /**
+     * Loads {@code snapshot.bin} if present.
+     *
+     * @return the first segment not covered by it
+     */
+    private long loadSnapshot() throws IOException {
+        Path file = dir.resolve(SNAPSHOT);
+        if (!Files.isRegularFile(file)) return 0;
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = ch.size();
+            if (size < SNAPSHOT_HEADER + 4 || size > Integer.MAX_VALUE) {
+                throw new IOException("Snapshot do log de eventos corrompido: " + file);
+            }
+            MappedByteBuffer data = ch.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            int end = (int) size - 4;
+            CRC32 crc = new CRC32();
+            crc.update(data.slice(0, end));
+            if (data.getInt(0) != SNAPSHOT_MAGIC || (int) crc.getValue() != data.getInt(end)) {
+                throw new IOException("Snapshot do log de eventos corrompido: " + file);
+            }
+            data.position(4);
+            long replayFrom = data.getLong();
+            nextId = data.getLong();
+            int count = data.getInt();
+            for (int i = 0; i < count; i++) index(StoredGame.read(data, games::get));
+            return replayFrom;
+        }
+    }
+
+    /**
+     * Writes the snapshot to a temporary file and moves it into place, so a
+     * crash leaves either the old snapshot or the new one.
+     * <pre>
+     * int magic, long first segment to replay, long next id, int count,
+     * count game records (whole move logs), int CRC32 of all the above
+     * </pre>
+     */
+    private void writeSnapshot(List<StoredGame> all, long replayFrom, long firstFreeId) throws IOException {
+        Path target = dir.resolve(SNAPSHOT);
+        Path tmp = Files.createTempFile(dir, SNAPSHOT, ".tmp");
+        try {
+            try (FileChannel ch = FileChannel.open(tmp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                CRC32 crc = new CRC32();
+                ByteBuffer buf = ByteBuffer.allocate(64 * 1024);
+                buf.putInt(SNAPSHOT_MAGIC).putLong(replayFrom).putLong(firstFreeId).putInt(all.size());
+                for (StoredGame g : all) {
+                    int size = g.size(0);
+                    if (buf.remaining() < size) {
+                        drain(buf, ch, crc);
+                        if (buf.capacity() < size) buf = ByteBuffer.allocate(size);
+                    }
+                    g.write(buf, 0);
+                }
+                drain(buf, ch, crc);
+                buf.putInt((int) crc.getValue());
+                drain(buf, ch, null);
+                ch.force(true);
+            }
+            try {
+                Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    private static void drain(ByteBuffer buf, FileChannel ch, CRC32 crc) throws IOException {
+        buf.flip();
+        if (crc != null) crc.update(buf.duplicate());
+        while (buf.hasRemaining()) ch.write(buf);
+        buf.clear();
+    }
+}
@@ -0,0 +1,153 @@
+package com.app.chess.service.persistence.eventlog;
+
+import com.app.chess.dto.GameSummary;
+import com.app.chess.model.Game;
+import com.app.chess.model.GameStatus;
+import com.app.chess.repository.GameHistory;
+import com.app.chess.service.clock.Clock;
+import com.app.chess.service.persistence.GameUpdate;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.function.LongFunction;
+
+/**
+ * Immutable state of one game in {@link EventLogGameStore}, and its binary
+ * record in the event log and in snapshots:
+ * <pre>
+ * format, id, createdAt (seconds, nanos), version, status, turn, winner, fen, hash,
+ * clock (base, increment, white, black, turn started), deadline,
+ * logFrom, tail length, tail bytes
+ * </pre>
+ * Strings are a 2-byte length (-1 for null) plus UTF-8. Only the move log
+ * bytes from {@code logFrom} on are written: a move record carries the plies
+ * it added, not the whole history. In memory the log is the game's growing
+ * {@link com.app.chess.service.history.MoveLog} buffer, shared and valid up
+ * to {@code logLength}, so storing a move copies none of the earlier plies. {@code format} is one byte, checked on
+ * replay so data written in another layout fails to load instead of being
+ * misread; records from before it start with a zero byte.
+ */
+record StoredGame(long id, Instant createdAt, long version, GameStatus status, String turn, String winner,
+                  String fen, long hash, Clock clock, long deadline, byte[] log, int logLength) {
+
+    /**
+     * Layout of the record below; change it whenever the layout changes.
+     */
+    static final byte FORMAT = 1;
+
+    private static final byte[] NO_MOVES = new byte[0];
+
+    static StoredGame of(long id, Game game) {
+        byte[] log = game.getMoveLog() == null ? NO_MOVES : game.getMoveLog().clone();
+        long hash = game.getPositionHash() == null ? 0 : game.getPositionHash();
+        long deadline = game.getDeadline() == null ? 0 : game.getDeadline().toEpochMilli();
+        return new StoredGame(id, game.getCreatedAt(), 0, game.getStatus(), game.getTurn(), game.getWinner(),
+                game.getBoardState(), hash, Clock.of(game), deadline, log, log.length);
+    }
+
+    StoredGame with(GameUpdate u) {
+        return new StoredGame(id, createdAt, u.version(), u.status(), u.turn(), u.winner(), u.fen(), u.hash(),
+                u.clock(), u.deadline(), u.log(), u.logLength());
+    }
+
+    Game toGame() {
+        Game game = new Game(id, createdAt, version, fen, hash);
+        game.setStatus(status);
+        game.setTurn(turn);
+        game.setWinner(winner);
+        game.setMoveLog(Arrays.copyOf(log, logLength));
+        clock.writeTo(game, deadline);
+        return game;
+    }
+
+    GameSummary summary() {
+        return new GameSummary(id, status, turn, winner, createdAt);
+    }
+
+    GameHistory history() {
+        return new GameHistory(status, winner, Arrays.copyOf(log, logLength));
+    }
+
+    int size(int logFrom) {
+        return 1 + 8 + 12 + 8 + sizeOf(status.name()) + sizeOf(turn) + sizeOf(winner) + sizeOf(fen)
+                + 8 + 6 * 8 + 8 + logLength - logFrom;
+    }
+
+    void write(ByteBuffer buf, int logFrom) {
+        buf.put(FORMAT).putLong(id).putLong(createdAt.getEpochSecond()).putInt(createdAt.getNano()).putLong(version);
+        putString(buf, status.name());
+        putString(buf, turn);
+        putString(buf, winner);
+        putString(buf, fen);
+        buf.putLong(hash)
+                .putLong(clock.baseMs()).putLong(clock.incrementMs()).putLong(clock.whiteMs())
+                .putLong(clock.blackMs()).putLong(clock.turnStartedAt()).putLong(deadline);
+        buf.putInt(logFrom).putInt(logLength - logFrom).put(log, logFrom, logLength - logFrom);
+    }
+
+    /**
+     * Reads one record; a record with {@code logFrom > 0} extends the log of
+     * the game's previous state, looked up with {@code previous}, appending to
+     * its buffer when it ends there, as the live log would.
+     *
+     * @throws IllegalStateException if the record is not in {@link #FORMAT}
+     */
+    static StoredGame read(ByteBuffer buf, LongFunction<StoredGame> previous) {
+        byte format = buf.get();
+        if (format != FORMAT) {
+            throw new IllegalStateException("Log de eventos em formato desconhecido: versão " + format
+                    + ", esperada " + FORMAT);
+        }
+        long id = buf.getLong();
+        Instant createdAt = Instant.ofEpochSecond(buf.getLong(), buf.getInt());
+        long version = buf.getLong();
+        GameStatus status = GameStatus.valueOf(getString(buf));
+        String turn = getString(buf);
+        String winner = getString(buf);
+        String fen = getString(buf);
+        long hash = buf.getLong();
+        Clock clock = new Clock(buf.getLong(), buf.getLong(), buf.getLong(), buf.getLong(), buf.getLong());
+        long deadline = buf.getLong();
+        int logFrom = buf.getInt();
+        int tail = buf.getInt();
+        byte[] log;
+        if (logFrom == 0) {
+            log = new byte[tail];
+        } else {
+            StoredGame prev = previous.apply(id);
+            if (prev == null || prev.logLength < logFrom) {
+                throw new IllegalStateException("Log de eventos corrompido na partida " + id);
+            }
+            // Bytes past the previous length belong to no state, so they can be written in place
+            log = prev.logLength == logFrom && prev.log.length >= logFrom + tail
+                    ? prev.log
+                    : Arrays.copyOf(prev.log, Math.max(logFrom + tail, prev.log.length * 2));
+        }
+        buf.get(log, logFrom, tail);
+        return new StoredGame(id, createdAt, version, status, turn, winner, fen, hash, clock, deadline, log,
+                logFrom + tail);
+    }
+
+    private static int sizeOf(String s) {
+        return 2 + (s == null ? 0 : s.getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    private static void putString(ByteBuffer buf, String s) {
+        if (s == null) {
+            buf.putShort((short) -1);
+            return;
+        }
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        buf.putShort((short) bytes.length).put(bytes);
+    }
+
+    private static String getString(ByteBuffer buf) {
+        int length = buf.getShort();
+        if (length < 0) return null;
+        byte[] bytes = new byte[length];
+        buf.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
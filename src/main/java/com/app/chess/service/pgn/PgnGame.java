@@ -0,0 +1,14 @@
+package com.app.chess.service.pgn;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One game as read from a PGN file, moves still in SAN.
+ *
+ * @param number position of the game in the file, starting at 1
+ * @param result "1-0", "0-1", "1/2-1/2" or "*"
+ * @param error  why the game cannot be imported as read, or null
+ */
+public record PgnGame(long number, Map<String, String> tags, List<String> moves, String result, String error) {
+}
@@ -0,0 +1,197 @@
+package com.app.chess.service.pgn;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Streaming PGN reader: returns one game at a time, so memory depends on the
+ * largest game and not on the file size. Tag pairs are kept; comments,
+ * variations, NAGs, move numbers and escape lines are skipped.
+ * A game ends at its result token, or at the next tag section when the
+ * result is missing.
+ */
+public final class PgnReader {
+
+    /**
+     * Longer games are cut and reported as invalid instead of growing without bound.
+     */
+    public static final int MAX_PLIES = 2048;
+
+    private static final int EOF = -1;
+
+    private final Reader in;
+    private final char[] buf = new char[1 << 16];
+    private int pos;
+    private int limit;
+    private int pushback = EOF;
+    private boolean pushbackLineStart;
+    private boolean afterNewline = true;
+    private boolean lineStart;
+    private long count;
+
+    public PgnReader(Reader in) {
+        this.in = in;
+    }
+
+    /**
+     * @return the next game, or null at end of input
+     */
+    public PgnGame next() {
+        Map<String, String> tags = new LinkedHashMap<>();
+        List<String> moves = new ArrayList<>(128);
+        boolean inMoves = false;
+        boolean tooLong = false;
+        StringBuilder token = new StringBuilder(16);
+
+        while (true) {
+            int c = skipSpaces();
+            if (c == EOF) {
+                if (tags.isEmpty() && !inMoves) return null;
+                return game(tags, moves, "*", tooLong);
+            }
+            if (c == '[') {
+                if (inMoves) {
+                    unread(c);
+                    return game(tags, moves, "*", tooLong);
+                }
+                readTag(tags, token);
+            } else if (c == '%' && lineStart) {
+                skipLine();
+            } else if (c == ';') {
+                skipLine();
+            } else if (c == '{') {
+                skipComment();
+            } else if (c == '(') {
+                skipVariation();
+            } else {
+                inMoves = true;
+                token.setLength(0);
+                token.append((char) c);
+                readToken(token);
+                if (c == '$') continue;
+
+                String t = token.toString();
+                if (t.equals("1-0") || t.equals("0-1") || t.equals("1/2-1/2") || t.equals("*")) {
+                    return game(tags, moves, t, tooLong);
+                }
+                // Move number: "12." "12..." or glued to the move ("12.e4")
+                int i = 0;
+                while (i < t.length() && Character.isDigit(t.charAt(i))) i++;
+                int digits = i;
+                while (i < t.length() && t.charAt(i) == '.') i++;
+                if (digits > 0 && i == digits) i = 0; // "0-0" style castling, not a move number
+                if (i == t.length()) continue;
+                if (moves.size() < MAX_PLIES) {
+                    moves.add(i == 0 ? t : t.substring(i));
+                } else {
+                    tooLong = true;
+                }
+            }
+        }
+    }
+
+    private PgnGame game(Map<String, String> tags, List<String> moves, String result, boolean tooLong) {
+        count++;
+        return new PgnGame(count, tags, moves, result, tooLong ? "Partida com mais de " + MAX_PLIES + " lances" : null);
+    }
+
+    private void readTag(Map<String, String> tags, StringBuilder sb) {
+        sb.setLength(0);
+        int c = skipSpaces();
+        while (c != EOF && !Character.isWhitespace(c) && c != '"' && c != ']') {
+            sb.append((char) c);
+            c = read();
+        }
+        String name = sb.toString();
+        while (c != EOF && c != '"' && c != ']' && c != '\n') c = read();
+        sb.setLength(0);
+        if (c == '"') {
+            for (c = read(); c != EOF && c != '"' && c != '\n'; c = read()) {
+                if (c == '\\') c = read();
+                if (c != EOF) sb.append((char) c);
+            }
+        }
+        while (c != EOF && c != ']' && c != '\n') c = read();
+        if (!name.isEmpty()) tags.put(name, sb.toString());
+    }
+
+    private void readToken(StringBuilder sb) {
+        for (int c = read(); c != EOF; c = read()) {
+            if (Character.isWhitespace(c) || c == '{' || c == '}' || c == '(' || c == ')' || c == ';' || c == '[') {
+                unread(c);
+                return;
+            }
+            sb.append((char) c);
+        }
+    }
+
+    private void skipComment() {
+        int c;
+        do {
+            c = read();
+        } while (c != EOF && c != '}');
+    }
+
+    private void skipVariation() {
+        int depth = 1;
+        while (depth > 0) {
+            int c = read();
+            if (c == EOF) return;
+            if (c == '(') depth++;
+            else if (c == ')') depth--;
+            else if (c == '{') skipComment();
+            else if (c == ';') skipLine();
+        }
+    }
+
+    private void skipLine() {
+        int c;
+        do {
+            c = read();
+        } while (c != EOF && c != '\n');
+    }
+
+    private int skipSpaces() {
+        int c = read();
+        while (c != EOF && (Character.isWhitespace(c) || c == '\uFEFF')) c = read();
+        return c;
+    }
+
+    private void unread(int c) {
+        pushback = c;
+        pushbackLineStart = lineStart;
+    }
+
+    /**
+     * Next char; {@link #lineStart} tells whether it is the first on its line.
+     */
+    private int read() {
+        if (pushback != EOF) {
+            int c = pushback;
+            pushback = EOF;
+            lineStart = pushbackLineStart;
+            return c;
+        }
+        if (pos == limit) {
+            try {
+                limit = in.read(buf, 0, buf.length);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            pos = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return EOF;
+            }
+        }
+        char c = buf[pos++];
+        lineStart = afterNewline;
+        afterNewline = c == '\n';
+        return c;
+    }
+}
@@ -0,0 +1,69 @@
+package com.app.chess.service.pgn;
+
+import com.app.chess.service.board.Position;
+import com.app.chess.service.fen.FenCodec;
+import com.app.chess.service.history.MoveLog;
+import com.app.chess.service.rules.MoveGenerator;
+
+import java.util.Map;
+
+/**
+ * Export format PGN: tag pairs in the given order, then SAN movetext with move
+ * numbers, wrapped before 80 columns and ended by the result.
+ */
+public final class PgnWriter {
+
+    private static final int LINE_WIDTH = 79;
+
+    private PgnWriter() {
+    }
+
+    /**
+     * Appends one game, replaying {@code log} from the initial position.
+     *
+     * @param tags   tag pairs, written in iteration order (Seven Tag Roster first)
+     * @param result "1-0", "0-1", "1/2-1/2" or "*"
+     */
+    public static void write(Map<String, String> tags, MoveLog log, String result, StringBuilder sb) {
+        tags.forEach((name, value) -> {
+            sb.append('[').append(name).append(" \"");
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"' || c == '\\') sb.append('\\');
+                sb.append(c);
+            }
+            sb.append("\"]\n");
+        });
+        sb.append('\n');
+
+        Position pos = FenCodec.parse(FenCodec.INITIAL_FEN);
+        Position scratch = new Position();
+        int[] legal = new int[MoveGenerator.MAX_MOVES];
+        StringBuilder token = new StringBuilder(16);
+        int lineStart = sb.length();
+        for (int i = 0; i < log.size(); i++) {
+            token.setLength(0);
+            if (pos.sideToMove() == Position.WHITE) token.append(pos.fullmove()).append(". ");
+            San.write(pos, log.move(i), token, legal, scratch);
+            lineStart = append(sb, token, lineStart);
+            pos.makeMove(log.move(i));
+        }
+        token.setLength(0);
+        token.append(result);
+        append(sb, token, lineStart);
+        sb.append("\n\n");
+    }
+
+    private static int append(StringBuilder sb, CharSequence token, int lineStart) {
+        if (sb.length() > lineStart) {
+            if (sb.length() - lineStart + 1 + token.length() > LINE_WIDTH) {
+                sb.append('\n');
+                lineStart = sb.length();
+            } else {
+                sb.append(' ');
+            }
+        }
+        sb.append(token);
+        return lineStart;
+    }
+}
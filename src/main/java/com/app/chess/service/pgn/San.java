@@ -0,0 +1,157 @@
+package com.app.chess.service.pgn;
+
+import com.app.chess.service.board.Attacks;
+import com.app.chess.service.board.Moves;
+import com.app.chess.service.board.Position;
+import com.app.chess.service.board.Squares;
+import com.app.chess.service.rules.MoveGenerator;
+
+/**
+ * Standard Algebraic Notation (Nf3, exd5, e8=Q+, O-O-O#).
+ * Both directions work against the legal moves of the position, so the
+ * caller's buffer of {@link MoveGenerator#MAX_MOVES} ints is reused instead
+ * of allocating per move.
+ */
+public final class San {
+
+    private static final String PIECE_LETTERS = "PNBRQK";
+    private static final String PROMOTION_LETTERS = " NBRQ";
+
+    private San() {
+    }
+
+    /**
+     * Resolves {@code san} to the matching legal move of {@code pos}.
+     * Check/mate marks and annotation suffixes (!, ?) are ignored; "0-0" and a
+     * promotion without "=" (e8Q) are accepted.
+     *
+     * @param legal scratch buffer of at least {@link MoveGenerator#MAX_MOVES} ints
+     * @throws IllegalStateException when no legal move, or more than one, matches
+     */
+    public static int parse(Position pos, CharSequence san, int[] legal) {
+        int end = san.length();
+        while (end > 0 && "+#!?".indexOf(san.charAt(end - 1)) >= 0) end--;
+        if (end < 2) throw new IllegalStateException("SAN inválido: " + san);
+
+        int n = MoveGenerator.generateLegal(pos, legal);
+        int us = pos.sideToMove();
+
+        char first = san.charAt(0);
+        if (first == 'O' || first == '0') {
+            boolean queenSide = end >= 5;
+            int kingFrom = pos.kingSquare(us);
+            int kingTo = kingFrom + (queenSide ? -2 : 2);
+            for (int i = 0; i < n; i++) {
+                if (Moves.from(legal[i]) == kingFrom && Moves.to(legal[i]) == kingTo
+                        && Position.typeOf(pos.pieceAt(kingFrom)) == Position.KING) {
+                    return legal[i];
+                }
+            }
+            throw new IllegalStateException("Roque ilegal: " + san);
+        }
+
+        int type = Position.PAWN;
+        int i = 0;
+        if (first >= 'A' && first <= 'Z') {
+            type = PIECE_LETTERS.indexOf(first);
+            if (type <= 0) throw new IllegalStateException("SAN inválido: " + san);
+            i = 1;
+        }
+
+        int promotion = 0;
+        char last = san.charAt(end - 1);
+        if (type == Position.PAWN && PROMOTION_LETTERS.indexOf(Character.toUpperCase(last)) > 0
+                && end >= 3 && (san.charAt(end - 2) == '=' || Character.isDigit(san.charAt(end - 2)))) {
+            promotion = PROMOTION_LETTERS.indexOf(Character.toUpperCase(last));
+            end -= san.charAt(end - 2) == '=' ? 2 : 1;
+        }
+        if (end - i < 2) throw new IllegalStateException("SAN inválido: " + san);
+
+        int to = square(san.charAt(end - 2), san.charAt(end - 1), san);
+        int fromFile = -1;
+        int fromRank = -1;
+        for (int j = i; j < end - 2; j++) {
+            char c = san.charAt(j);
+            if (c >= 'a' && c <= 'h') fromFile = c - 'a';
+            else if (c >= '1' && c <= '8') fromRank = c - '1';
+            else if (c != 'x' && c != ':' && c != '-') throw new IllegalStateException("SAN inválido: " + san);
+        }
+
+        int found = Moves.NONE;
+        for (int k = 0; k < n; k++) {
+            int m = legal[k];
+            int from = Moves.from(m);
+            if (Moves.to(m) != to || Position.typeOf(pos.pieceAt(from)) != type) continue;
+            if (fromFile >= 0 && Squares.file(from) != fromFile) continue;
+            if (fromRank >= 0 && Squares.rank(from) != fromRank) continue;
+            int p = Moves.promotion(m);
+            if (p != 0 && p != (promotion == 0 ? Position.QUEEN : promotion)) continue;
+            if (p == 0 && promotion != 0) continue;
+            if (found != Moves.NONE) throw new IllegalStateException("SAN ambíguo: " + san);
+            found = m;
+        }
+        if (found == Moves.NONE) throw new IllegalStateException("Lance ilegal: " + san);
+        return found;
+    }
+
+    private static int square(char file, char rank, CharSequence san) {
+        if (file < 'a' || file > 'h' || rank < '1' || rank > '8') throw new IllegalStateException("SAN inválido: " + san);
+        return Squares.of(file - 'a', rank - '1');
+    }
+
+    /**
+     * Appends the SAN of {@code move} (legal in {@code pos}) to {@code sb},
+     * with "+" or "#" when it gives check or mate. {@code pos} is not modified.
+     *
+     * @param legal   scratch buffer of at least {@link MoveGenerator#MAX_MOVES} ints
+     * @param scratch position used to play the move for the check suffix
+     */
+    public static void write(Position pos, int move, StringBuilder sb, int[] legal, Position scratch) {
+        int from = Moves.from(move);
+        int to = Moves.to(move);
+        int type = Position.typeOf(pos.pieceAt(from));
+        boolean capture = pos.pieceAt(to) != Position.EMPTY || (type == Position.PAWN && to == pos.epSquare());
+
+        if (type == Position.KING && Math.abs(to - from) == 2) {
+            sb.append(to > from ? "O-O" : "O-O-O");
+        } else if (type == Position.PAWN) {
+            if (capture) sb.append((char) ('a' + Squares.file(from))).append('x');
+            sb.append(Squares.name(to));
+            int promo = Moves.promotion(move);
+            int rank = Squares.rank(to);
+            if (promo != 0 || rank == 0 || rank == 7) {
+                sb.append('=').append(PROMOTION_LETTERS.charAt(promo == 0 ? Position.QUEEN : promo));
+            }
+        } else {
+            sb.append(PIECE_LETTERS.charAt(type));
+            int n = MoveGenerator.generateLegal(pos, legal);
+            boolean ambiguous = false;
+            boolean sameFile = false;
+            boolean sameRank = false;
+            for (int i = 0; i < n; i++) {
+                int other = Moves.from(legal[i]);
+                if (Moves.to(legal[i]) != to || other == from || Position.typeOf(pos.pieceAt(other)) != type) continue;
+                ambiguous = true;
+                if (Squares.file(other) == Squares.file(from)) sameFile = true;
+                if (Squares.rank(other) == Squares.rank(from)) sameRank = true;
+            }
+            if (ambiguous) {
+                if (!sameFile) {
+                    sb.append((char) ('a' + Squares.file(from)));
+                } else if (!sameRank) {
+                    sb.append((char) ('1' + Squares.rank(from)));
+                } else {
+                    sb.append(Squares.name(from));
+                }
+            }
+            if (capture) sb.append('x');
+            sb.append(Squares.name(to));
+        }
+
+        scratch.copyFrom(pos);
+        scratch.makeMove(move);
+        if (Attacks.inCheck(scratch, scratch.sideToMove())) {
+            sb.append(MoveGenerator.hasLegalMove(scratch) ? '+' : '#');
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.app.chess.service.rules;
+
+import com.app.chess.service.board.Attacks;
+import com.app.chess.service.board.Position;
+
+/**
+ * Terminal-state detection, run after every move. Ordered by precedence: a
+ * move that mates wins even if it also reaches the 50/75-move limit.
+ */
+public final class GameEnd {
+
+    public enum Outcome {
+        NONE,
+        CHECKMATE,
+        STALEMATE,
+        INSUFFICIENT_MATERIAL,
+        /**
+         * Fivefold repetition or 75 moves: end the game without a claim.
+         */
+        FIVEFOLD_REPETITION,
+        SEVENTY_FIVE_MOVES,
+        /**
+         * Threefold repetition or 50 moves: only when draws are claimed automatically.
+         */
+        THREEFOLD_REPETITION,
+        FIFTY_MOVES
+    }
+
+    private static final long DARK_SQUARES = 0xAA55AA55AA55AA55L;
+
+    private GameEnd() {
+    }
+
+    /**
+     * @param repetitions   occurrences of the current position, including this one
+     * @param autoClaimDraws end the game at threefold repetition / 50 moves instead of
+     *                       waiting for fivefold / 75
+     */
+    public static Outcome evaluate(Position pos, int repetitions, boolean autoClaimDraws) {
+        return evaluate(pos, MoveGenerator.hasLegalMove(pos), Attacks.inCheck(pos, pos.sideToMove()),
+                repetitions, autoClaimDraws);
+    }
+
+    /**
+     * {@link #evaluate(Position, int, boolean)} with mobility and check
+     * already known, e.g. from {@link com.app.chess.service.cache.PositionCache}.
+     */
+    public static Outcome evaluate(Position pos, boolean hasLegalMove, boolean inCheck, int repetitions,
+                                   boolean autoClaimDraws) {
+        if (!hasLegalMove) return inCheck ? Outcome.CHECKMATE : Outcome.STALEMATE;
+        if (insufficientMaterial(pos)) return Outcome.INSUFFICIENT_MATERIAL;
+        if (repetitions >= 5) return Outcome.FIVEFOLD_REPETITION;
+        if (pos.halfmove() >= 150) return Outcome.SEVENTY_FIVE_MOVES;
+        if (autoClaimDraws) {
+            if (repetitions >= 3) return Outcome.THREEFOLD_REPETITION;
+            if (pos.halfmove() >= 100) return Outcome.FIFTY_MOVES;
+        }
+        return Outcome.NONE;
+    }
+
+    /**
+     * Whether {@code color} wins when its opponent's flag falls: not with a
+     * bare king, nor when neither side can mate at all; the game is then drawn.
+     */
+    public static boolean winsOnTime(Position pos, int color) {
+        return Long.bitCount(pos.occupancy(color)) > 1 && !insufficientMaterial(pos);
+    }
+
+    /**
+     * No sequence of legal moves can mate: bare kings, a single minor piece, or
+     * only bishops that all stand on squares of one color.
+     */
+    public static boolean insufficientMaterial(Position pos) {
+        for (int c = Position.WHITE; c <= Position.BLACK; c++) {
+            if ((pos.bitboard(c, Position.PAWN) | pos.bitboard(c, Position.ROOK) | pos.bitboard(c, Position.QUEEN)) != 0) {
+                return false;
+            }
+        }
+        long knights = pos.bitboard(Position.WHITE, Position.KNIGHT) | pos.bitboard(Position.BLACK, Position.KNIGHT);
+        long bishops = pos.bitboard(Position.WHITE, Position.BISHOP) | pos.bitboard(Position.BLACK, Position.BISHOP);
+        if (Long.bitCount(knights | bishops) <= 1) return true;
+        return knights == 0 && ((bishops & DARK_SQUARES) == 0 || (bishops & ~DARK_SQUARES) == 0);
+    }
+}
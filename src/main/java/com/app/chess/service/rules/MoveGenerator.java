@@ -0,0 +1,252 @@
+package com.app.chess.service.rules;
+
+import com.app.chess.service.board.Attacks;
+import com.app.chess.service.board.Moves;
+import com.app.chess.service.board.Position;
+import com.app.chess.service.board.Squares;
+
+import static com.app.chess.service.board.Position.*;
+
+/**
+ * Legal move generator for all pieces, including castling, en passant and
+ * under-promotion. Check evasion and pins are resolved while generating, so
+ * no move has to be made and unmade to test king safety (en passant aside,
+ * which is checked on the resulting occupancy).
+ */
+public final class MoveGenerator {
+
+    /**
+     * Enough for any legal chess position (the known maximum is 218).
+     */
+    public static final int MAX_MOVES = 256;
+
+    private MoveGenerator() {
+    }
+
+    /**
+     * Writes the legal moves of the side to move into {@code out} and returns how many there are.
+     */
+    public static int generateLegal(Position pos, int[] out) {
+        int us = pos.sideToMove();
+        int them = us ^ 1;
+        long own = pos.occupancy(us);
+        long enemy = pos.occupancy(them);
+        long occ = own | enemy;
+
+        if (pos.bitboard(us, KING) == 0) throw new IllegalStateException("Posição sem rei");
+        int k = pos.kingSquare(us);
+        long checkers = Attacks.attackersTo(pos, k, them, occ);
+
+        int n = 0;
+
+        // King: the king itself is removed from the occupancy so sliders see through it.
+        long occNoKing = occ ^ Squares.bit(k);
+        for (long t = Attacks.king(k) & ~own; t != 0; t &= t - 1) {
+            int to = Long.numberOfTrailingZeros(t);
+            if (Attacks.attackersTo(pos, to, them, occNoKing) == 0) out[n++] = flag(Moves.of(k, to), enemy, to);
+        }
+        if (Long.bitCount(checkers) > 1) return n;
+
+        long checkMask = checkers == 0 ? -1L : checkers | Attacks.between(k, Long.numberOfTrailingZeros(checkers));
+        long pinned = pinned(pos, k, them, own, enemy, occ);
+        long targets = ~own & checkMask;
+
+        // Pinned knights can never move.
+        for (long p = pos.bitboard(us, KNIGHT) & ~pinned; p != 0; p &= p - 1) {
+            int from = Long.numberOfTrailingZeros(p);
+            n = addAll(out, n, from, Attacks.knight(from) & targets, enemy);
+        }
+        for (long p = pos.bitboard(us, BISHOP); p != 0; p &= p - 1) {
+            int from = Long.numberOfTrailingZeros(p);
+            n = addAll(out, n, from, Attacks.bishop(from, occ) & targets & pinMask(pinned, k, from), enemy);
+        }
+        for (long p = pos.bitboard(us, ROOK); p != 0; p &= p - 1) {
+            int from = Long.numberOfTrailingZeros(p);
+            n = addAll(out, n, from, Attacks.rook(from, occ) & targets & pinMask(pinned, k, from), enemy);
+        }
+        for (long p = pos.bitboard(us, QUEEN); p != 0; p &= p - 1) {
+            int from = Long.numberOfTrailingZeros(p);
+            n = addAll(out, n, from, Attacks.queen(from, occ) & targets & pinMask(pinned, k, from), enemy);
+        }
+
+        n = pawnMoves(pos, out, n, us, k, enemy, occ, checkMask, pinned);
+
+        if (checkers == 0) n = castlingMoves(pos, out, n, us, occ);
+        return n;
+    }
+
+    /**
+     * Whether the side to move has any legal move, without listing them: same
+     * masks as {@link #generateLegal}, but each piece only tests whether its
+     * target set is non-empty and the scan stops at the first hit. Castling is
+     * never needed, since a legal castling implies a legal king step.
+     */
+    public static boolean hasLegalMove(Position pos) {
+        int us = pos.sideToMove();
+        int them = us ^ 1;
+        long own = pos.occupancy(us);
+        long enemy = pos.occupancy(them);
+        long occ = own | enemy;
+
+        if (pos.bitboard(us, KING) == 0) throw new IllegalStateException("Posição sem rei");
+        int k = pos.kingSquare(us);
+        long checkers = Attacks.attackersTo(pos, k, them, occ);
+
+        long occNoKing = occ ^ Squares.bit(k);
+        for (long t = Attacks.king(k) & ~own; t != 0; t &= t - 1) {
+            if (Attacks.attackersTo(pos, Long.numberOfTrailingZeros(t), them, occNoKing) == 0) return true;
+        }
+        if (Long.bitCount(checkers) > 1) return false;
+
+        long checkMask = checkers == 0 ? -1L : checkers | Attacks.between(k, Long.numberOfTrailingZeros(checkers));
+        long pinned = pinned(pos, k, them, own, enemy, occ);
+        long targets = ~own & checkMask;
+
+        for (long p = pos.bitboard(us, KNIGHT) & ~pinned; p != 0; p &= p - 1) {
+            if ((Attacks.knight(Long.numberOfTrailingZeros(p)) & targets) != 0) return true;
+        }
+        for (long p = pos.bitboard(us, BISHOP) | pos.bitboard(us, QUEEN); p != 0; p &= p - 1) {
+            int from = Long.numberOfTrailingZeros(p);
+            if ((Attacks.bishop(from, occ) & targets & pinMask(pinned, k, from)) != 0) return true;
+        }
+        for (long p = pos.bitboard(us, ROOK) | pos.bitboard(us, QUEEN); p != 0; p &= p - 1) {
+            int from = Long.numberOfTrailingZeros(p);
+            if ((Attacks.rook(from, occ) & targets & pinMask(pinned, k, from)) != 0) return true;
+        }
+
+        int up = us == WHITE ? 8 : -8;
+        int startRank = us == WHITE ? 1 : 6;
+        int ep = pos.epSquare();
+        for (long p = pos.bitboard(us, PAWN); p != 0; p &= p - 1) {
+            int from = Long.numberOfTrailingZeros(p);
+            long allowed = checkMask & pinMask(pinned, k, from);
+            int one = from + up;
+            if ((occ & Squares.bit(one)) == 0) {
+                if ((allowed & Squares.bit(one)) != 0) return true;
+                int two = one + up;
+                if (Squares.rank(from) == startRank && (occ & Squares.bit(two)) == 0 && (allowed & Squares.bit(two)) != 0) {
+                    return true;
+                }
+            }
+            long attacks = Attacks.pawn(us, from);
+            if ((attacks & enemy & allowed) != 0) return true;
+            if (ep != Squares.NONE && (attacks & Squares.bit(ep)) != 0 && epIsSafe(pos, us, k, from, ep, occ)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Own pieces standing alone between our king and an enemy slider.
+     */
+    private static long pinned(Position pos, int k, int them, long own, long enemy, long occ) {
+        long queens = pos.bitboard(them, QUEEN);
+        long snipers = (Attacks.rook(k, enemy) & (pos.bitboard(them, ROOK) | queens))
+                | (Attacks.bishop(k, enemy) & (pos.bitboard(them, BISHOP) | queens));
+        long pinned = 0L;
+        for (long s = snipers; s != 0; s &= s - 1) {
+            long b = Attacks.between(k, Long.numberOfTrailingZeros(s)) & occ;
+            if (b != 0 && (b & (b - 1)) == 0 && (b & own) != 0) pinned |= b;
+        }
+        return pinned;
+    }
+
+    private static long pinMask(long pinned, int k, int from) {
+        return (pinned & Squares.bit(from)) != 0 ? Attacks.line(k, from) : -1L;
+    }
+
+    private static int pawnMoves(Position pos, int[] out, int n, int us, int k, long enemy, long occ,
+                                 long checkMask, long pinned) {
+        int up = us == WHITE ? 8 : -8;
+        int startRank = us == WHITE ? 1 : 6;
+        int ep = pos.epSquare();
+
+        for (long p = pos.bitboard(us, PAWN); p != 0; p &= p - 1) {
+            int from = Long.numberOfTrailingZeros(p);
+            long allowed = checkMask & pinMask(pinned, k, from);
+
+            int one = from + up;
+            if ((occ & Squares.bit(one)) == 0) {
+                if ((allowed & Squares.bit(one)) != 0) n = addPawn(out, n, Moves.of(from, one), one);
+                int two = one + up;
+                if (Squares.rank(from) == startRank && (occ & Squares.bit(two)) == 0 && (allowed & Squares.bit(two)) != 0) {
+                    out[n++] = Moves.of(from, two);
+                }
+            }
+
+            long attacks = Attacks.pawn(us, from);
+            for (long c = attacks & enemy & allowed; c != 0; c &= c - 1) {
+                int to = Long.numberOfTrailingZeros(c);
+                n = addPawn(out, n, Moves.capture(Moves.of(from, to)), to);
+            }
+
+            if (ep != Squares.NONE && (attacks & Squares.bit(ep)) != 0 && epIsSafe(pos, us, k, from, ep, occ)) {
+                out[n++] = Moves.capture(Moves.of(from, ep));
+            }
+        }
+        return n;
+    }
+
+    /**
+     * En passant removes two pieces from one rank, so it is checked against the
+     * resulting occupancy instead of the pin/check masks.
+     */
+    private static boolean epIsSafe(Position pos, int us, int k, int from, int ep, long occ) {
+        int them = us ^ 1;
+        int capSq = us == WHITE ? ep - 8 : ep + 8;
+        long after = (occ ^ Squares.bit(from) ^ Squares.bit(capSq)) | Squares.bit(ep);
+        long queens = pos.bitboard(them, QUEEN);
+        return (Attacks.rook(k, after) & (pos.bitboard(them, ROOK) | queens)) == 0
+                && (Attacks.bishop(k, after) & (pos.bitboard(them, BISHOP) | queens)) == 0
+                && (Attacks.knight(k) & pos.bitboard(them, KNIGHT)) == 0
+                && (Attacks.pawn(us, k) & pos.bitboard(them, PAWN) & ~Squares.bit(capSq)) == 0;
+    }
+
+    private static int castlingMoves(Position pos, int[] out, int n, int us, long occ) {
+        int rights = pos.castling();
+        int them = us ^ 1;
+        int base = us == WHITE ? 0 : 56;
+        int king = piece(us, KING);
+        int rook = piece(us, ROOK);
+        if (pos.pieceAt(base + 4) != king) return n;
+
+        int kingSide = us == WHITE ? CASTLE_WK : CASTLE_BK;
+        int queenSide = us == WHITE ? CASTLE_WQ : CASTLE_BQ;
+
+        if ((rights & kingSide) != 0 && pos.pieceAt(base + 7) == rook
+                && (occ & (Squares.bit(base + 5) | Squares.bit(base + 6))) == 0
+                && !Attacks.isAttacked(pos, base + 5, them) && !Attacks.isAttacked(pos, base + 6, them)) {
+            out[n++] = Moves.of(base + 4, base + 6);
+        }
+        if ((rights & queenSide) != 0 && pos.pieceAt(base) == rook
+                && (occ & (Squares.bit(base + 1) | Squares.bit(base + 2) | Squares.bit(base + 3))) == 0
+                && !Attacks.isAttacked(pos, base + 3, them) && !Attacks.isAttacked(pos, base + 2, them)) {
+            out[n++] = Moves.of(base + 4, base + 2);
+        }
+        return n;
+    }
+
+    private static int addPawn(int[] out, int n, int move, int to) {
+        int rank = Squares.rank(to);
+        if (rank == 7 || rank == 0) {
+            out[n++] = move | Moves.of(0, 0, QUEEN);
+            out[n++] = move | Moves.of(0, 0, ROOK);
+            out[n++] = move | Moves.of(0, 0, BISHOP);
+            out[n++] = move | Moves.of(0, 0, KNIGHT);
+        } else {
+            out[n++] = move;
+        }
+        return n;
+    }
+
+    private static int addAll(int[] out, int n, int from, long targets, long enemy) {
+        for (long t = targets; t != 0; t &= t - 1) {
+            int to = Long.numberOfTrailingZeros(t);
+            out[n++] = flag(Moves.of(from, to), enemy, to);
+        }
+        return n;
+    }
+
+    private static int flag(int move, long enemy, int to) {
+        return (enemy & Squares.bit(to)) != 0 ? Moves.capture(move) : move;
+    }
+}
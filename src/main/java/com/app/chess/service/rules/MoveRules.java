@@ -1,6 +1,9 @@
 package com.app.chess.service.rules;
 
-import com.app.chess.service.fen.FenCodec;
+import com.app.chess.service.board.Attacks;
+import com.app.chess.service.board.Moves;
+import com.app.chess.service.board.Position;
+import com.app.chess.service.board.Squares;
 
 public final class MoveRules {
 
@@ -8,63 +11,97 @@ public final class MoveRules {
     }
 
     /**
-     * Progressive rules (phase 1):
-     * - Only pawns (P/p) and rooks (R/r) can move.
-     * - Pawn: 1 step forward, 2 from initial rank if clear, diagonal capture.
-     * - Rook: straight lines, cannot jump over pieces.
+     * Full rules (phase 3):
+     * - Every piece moves, including castling, en passant and promotion (queen when not given).
+     * - A move may not leave the own king in check.
+     * When the move is rejected the message explains why (wrong shape, blocked path, king in check).
+     *
+     * @param promotion "q", "r", "b", "n" or null
+     * @return the move in {@link Moves} encoding
      */
-    public static void validatePawnOrRookMove(char[][] board, String from, String to, char turn) {
-        int[] a = FenCodec.squareToRC(from);
-        int[] b = FenCodec.squareToRC(to);
-
-        int fr = a[0], fc = a[1];
-        int tr = b[0], tc = b[1];
-
-        char piece = board[fr][fc];
-        if (piece == '.') throw new IllegalStateException("Não há peça na casa de origem");
-
-        boolean whiteToMove = (turn == 'w');
-        if (whiteToMove && !FenCodec.isWhitePiece(piece)) throw new IllegalStateException("É a vez das brancas");
-        if (!whiteToMove && !FenCodec.isBlackPiece(piece)) throw new IllegalStateException("É a vez das pretas");
-
-        char dest = board[tr][tc];
-        if (dest != '.') {
-            if (FenCodec.isWhitePiece(piece) && FenCodec.isWhitePiece(dest))
-                throw new IllegalStateException("Destino ocupado por peça branca");
-            if (FenCodec.isBlackPiece(piece) && FenCodec.isBlackPiece(dest))
-                throw new IllegalStateException("Destino ocupado por peça preta");
-        }
+    public static int validateMove(Position pos, String from, String to, String promotion) {
+        int[] legal = new int[MoveGenerator.MAX_MOVES];
+        int n = MoveGenerator.generateLegal(pos, legal);
+        return validateMove(pos, from, to, promotion, legal, n);
+    }
 
-        char pLower = Character.toLowerCase(piece);
-        if (pLower == 'p') {
-            validatePawn(board, fr, fc, tr, tc, piece, dest);
-            return;
+    /**
+     * {@link #validateMove(Position, String, String, String)} when the legal
+     * moves of {@code pos} are already known, e.g. from
+     * {@link com.app.chess.service.cache.PositionCache}.
+     *
+     * @param legal the first {@code n} entries are the legal moves of {@code pos}
+     */
+    public static int validateMove(Position pos, String from, String to, String promotion, int[] legal, int n) {
+        int fromSq = Squares.parse(from);
+        int toSq = Squares.parse(to);
+        int promo = Moves.promotionOf(promotion);
+        if (promo == 0) promo = Position.QUEEN;
+
+        int piece = pos.pieceAt(fromSq);
+        if (piece == Position.EMPTY) throw new IllegalStateException("Não há peça na casa de origem");
+
+        int us = pos.sideToMove();
+        if (us == Position.WHITE && Position.colorOf(piece) != us) throw new IllegalStateException("É a vez das brancas");
+        if (us == Position.BLACK && Position.colorOf(piece) != us) throw new IllegalStateException("É a vez das pretas");
+
+        if ((pos.occupancy(us) & Squares.bit(toSq)) != 0) {
+            throw new IllegalStateException(us == Position.WHITE
+                    ? "Destino ocupado por peça branca"
+                    : "Destino ocupado por peça preta");
         }
-        if (pLower == 'r') {
-            validateRook(board, fr, fc, tr, tc);
-            return;
+
+        for (int i = 0; i < n; i++) {
+            int m = legal[i];
+            if (Moves.from(m) == fromSq && Moves.to(m) == toSq
+                    && (Moves.promotion(m) == 0 || Moves.promotion(m) == promo)) {
+                return m;
+            }
         }
 
-        throw new IllegalStateException("Nesta fase, apenas peões e torres podem se mover");
+        // Not legal: the shape is wrong or the path is blocked (these throw), otherwise the king is exposed.
+        validateShape(pos, Position.typeOf(piece), fromSq, toSq, us);
+        throw new IllegalStateException("Movimento deixaria o rei em xeque");
     }
 
-    private static void validatePawn(char[][] board, int fr, int fc, int tr, int tc, char piece, char dest) {
-        boolean isWhite = FenCodec.isWhitePiece(piece);
-        int dir = isWhite ? -1 : 1;
+    private static void validateShape(Position pos, int type, int from, int to, int us) {
+        switch (type) {
+            case Position.PAWN -> validatePawn(pos, from, to, us);
+            case Position.KNIGHT -> {
+                if ((Attacks.knight(from) & Squares.bit(to)) == 0) throw new IllegalStateException("Cavalo move apenas em L");
+            }
+            case Position.BISHOP -> validateSlider(pos, from, to, false, true,
+                    "Bispo move apenas na diagonal", "Caminho bloqueado para o bispo");
+            case Position.ROOK -> validateSlider(pos, from, to, true, false,
+                    "Torre move apenas em linha reta", "Caminho bloqueado para a torre");
+            case Position.QUEEN -> validateSlider(pos, from, to, true, true,
+                    "Dama move apenas em linha reta ou diagonal", "Caminho bloqueado para a dama");
+            default -> {
+                if (Math.abs(Squares.file(to) - Squares.file(from)) == 2 && Squares.rank(to) == Squares.rank(from)) {
+                    throw new IllegalStateException("Roque não permitido");
+                }
+                if ((Attacks.king(from) & Squares.bit(to)) == 0) throw new IllegalStateException("Rei move apenas uma casa");
+            }
+        }
+    }
 
-        int dr = tr - fr;
-        int dc = tc - fc;
+    private static void validatePawn(Position pos, int from, int to, int us) {
+        boolean isWhite = us == Position.WHITE;
+        int dir = isWhite ? 1 : -1;
+
+        int dr = Squares.rank(to) - Squares.rank(from);
+        int dc = Squares.file(to) - Squares.file(from);
+        boolean destOccupied = (pos.occupied() & Squares.bit(to)) != 0;
 
         // Forward (no capture)
         if (dc == 0) {
-            if (dest != '.') throw new IllegalStateException("Peão não pode mover para frente em casa ocupada");
+            if (destOccupied) throw new IllegalStateException("Peão não pode mover para frente em casa ocupada");
 
             if (dr == dir) return;
 
-            boolean onStartRank = isWhite ? (fr == 6) : (fr == 1);
+            boolean onStartRank = Squares.rank(from) == (isWhite ? 1 : 6);
             if (onStartRank && dr == 2 * dir) {
-                int intermediateR = fr + dir;
-                if (board[intermediateR][fc] != '.')
+                if ((pos.occupied() & Squares.bit(from + 8 * dir)) != 0)
                     throw new IllegalStateException("Caminho bloqueado para avanço de 2 casas");
                 return;
             }
@@ -72,28 +109,22 @@ public final class MoveRules {
             throw new IllegalStateException("Movimento inválido de peão");
         }
 
-        // Diagonal capture
+        // Diagonal capture (en passant captures onto the empty en-passant square)
         if (Math.abs(dc) == 1 && dr == dir) {
-            if (dest == '.') throw new IllegalStateException("Peão só captura na diagonal se houver peça");
+            if (!destOccupied && to != pos.epSquare())
+                throw new IllegalStateException("Peão só captura na diagonal se houver peça");
             return;
         }
 
         throw new IllegalStateException("Movimento inválido de peão");
     }
 
-    private static void validateRook(char[][] board, int fr, int fc, int tr, int tc) {
-        if (fr != tr && fc != tc) throw new IllegalStateException("Torre move apenas em linha reta");
-
-        int stepR = Integer.compare(tr, fr);
-        int stepC = Integer.compare(tc, fc);
+    private static void validateSlider(Position pos, int from, int to, boolean straight, boolean diagonal,
+                                       String shapeError, String blockedError) {
+        boolean isStraight = Squares.rank(from) == Squares.rank(to) || Squares.file(from) == Squares.file(to);
+        boolean isDiagonal = Math.abs(Squares.rank(to) - Squares.rank(from)) == Math.abs(Squares.file(to) - Squares.file(from));
+        if (!(straight && isStraight) && !(diagonal && isDiagonal)) throw new IllegalStateException(shapeError);
 
-        int r = fr + stepR;
-        int c = fc + stepC;
-
-        while (r != tr || c != tc) {
-            if (board[r][c] != '.') throw new IllegalStateException("Caminho bloqueado para a torre");
-            r += stepR;
-            c += stepC;
-        }
+        if ((Attacks.between(from, to) & pos.occupied()) != 0) throw new IllegalStateException(blockedError);
     }
 }
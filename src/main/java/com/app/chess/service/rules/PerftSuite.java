@@ -0,0 +1,223 @@
+package com.app.chess.service.rules;
+
+import com.app.chess.service.board.Moves;
+import com.app.chess.service.board.Position;
+import com.app.chess.service.board.Squares;
+import com.app.chess.service.fen.FenCodec;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs a perft suite in EPD form, one position per line with its expected
+ * counts, as in the usual {@code perftsuite.epd}:
+ * <pre>
+ * r3k2r/8/8/8/8/8/8/R3K2R w KQkq - 0 1 ;D1 26 ;D2 568 ;D3 13744
+ * </pre>
+ * The clocks may be left out. Blank lines and lines starting with {@code #}
+ * are ignored, as are EPD operations other than {@code Dn}.
+ * <p>
+ * Besides the counts, every position is validated: its FEN must survive a
+ * write and re-parse through {@link FenCodec}, and {@link MoveRules} must
+ * accept every move {@link MoveGenerator} produces, as the same move.
+ * <p>
+ * Lines are read by the caller and handed to a fork-join pool in chunks, at
+ * most {@code 2 x parallelism} in flight, so a suite of millions of lines runs
+ * in constant memory. A deep perft is itself split by root moves, so a few
+ * heavy positions still spread over all the workers. One instance per run.
+ */
+public final class PerftSuite {
+
+    /**
+     * Perfts at this depth or deeper fork one task per move.
+     */
+    private static final int SPLIT_DEPTH = 5;
+    private static final int CHUNK_SIZE = 64;
+    private static final int MAX_FAILURES = 20;
+
+    /**
+     * @param checks   perft counts compared
+     * @param skipped  counts deeper than the depth limit, not run
+     * @param failures count mismatches plus invalid lines and positions
+     * @param messages the first failures, with their line numbers
+     */
+    public record Report(long positions, long checks, long skipped, long failures, long nodes, List<String> messages,
+                         long millis, long positionsPerSecond, long nodesPerSecond) {
+
+        public boolean passed() {
+            return failures == 0;
+        }
+    }
+
+    private record Line(long number, String text) {
+    }
+
+    private final ForkJoinPool pool;
+    private final int maxDepth;
+
+    private final AtomicLong positions = new AtomicLong();
+    private final AtomicLong checks = new AtomicLong();
+    private final AtomicLong skipped = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicLong nodes = new AtomicLong();
+    private final List<String> messages = Collections.synchronizedList(new ArrayList<>());
+
+    /**
+     * @param maxDepth deeper expected counts are skipped
+     */
+    public PerftSuite(ForkJoinPool pool, int maxDepth) {
+        this.pool = pool;
+        this.maxDepth = maxDepth;
+    }
+
+    public Report run(BufferedReader in) throws IOException {
+        long start = System.nanoTime();
+        int maxInFlight = pool.getParallelism() * 2;
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        try {
+            List<Line> chunk = new ArrayList<>(CHUNK_SIZE);
+            long number = 0;
+            for (String text = in.readLine(); ; text = in.readLine()) {
+                if (text != null) {
+                    number++;
+                    if (!text.isBlank() && !text.startsWith("#")) chunk.add(new Line(number, text));
+                }
+                if (chunk.size() == CHUNK_SIZE || (text == null && !chunk.isEmpty())) {
+                    List<Line> work = chunk;
+                    chunk = new ArrayList<>(CHUNK_SIZE);
+                    inFlight.acquire();
+                    pool.execute(() -> {
+                        try {
+                            work.forEach(this::check);
+                        } finally {
+                            inFlight.release();
+                        }
+                    });
+                }
+                if (text == null) break;
+            }
+            // Wait for the last chunks
+            inFlight.acquire(maxInFlight);
+            inFlight.release(maxInFlight);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Suíte de perft interrompida");
+        }
+
+        long nanos = Math.max(1, System.nanoTime() - start);
+        return new Report(positions.get(), checks.get(), skipped.get(), failures.get(), nodes.get(),
+                List.copyOf(messages), nanos / 1_000_000, positions.get() * 1_000_000_000L / nanos,
+                nodes.get() * 1_000_000_000L / nanos);
+    }
+
+    private void check(Line line) {
+        String[] fields = line.text().split(";");
+        Position pos;
+        try {
+            pos = FenCodec.parse(withClocks(fields[0].trim()));
+        } catch (IllegalArgumentException e) {
+            fail(line, e.getMessage());
+            return;
+        }
+        positions.incrementAndGet();
+        String invalid = validate(pos);
+        if (invalid != null) fail(line, invalid);
+
+        for (int i = 1; i < fields.length; i++) {
+            String[] op = fields[i].trim().split("\\s+");
+            if (op.length != 2 || op[0].length() < 2 || op[0].charAt(0) != 'D') continue;
+            int depth;
+            long expected;
+            try {
+                depth = Integer.parseInt(op[0].substring(1));
+                expected = Long.parseLong(op[1]);
+            } catch (NumberFormatException e) {
+                fail(line, "contagem inválida: " + fields[i].trim());
+                continue;
+            }
+            if (depth > maxDepth) {
+                skipped.incrementAndGet();
+                continue;
+            }
+            long actual = new Count(pos, depth).invoke();
+            checks.incrementAndGet();
+            nodes.addAndGet(actual);
+            if (actual != expected) fail(line, "D" + depth + " esperado " + expected + ", obtido " + actual);
+        }
+    }
+
+    /**
+     * FEN round trip, then {@link MoveRules} against the generator.
+     *
+     * @return why the position failed, or null
+     */
+    private static String validate(Position pos) {
+        String fen = FenCodec.toFen(pos);
+        Position again = FenCodec.parse(fen);
+        if (again.hash() != pos.hash() || !fen.equals(FenCodec.toFen(again))) {
+            return "FEN muda na ida e volta: " + fen;
+        }
+        int[] legal = new int[MoveGenerator.MAX_MOVES];
+        int n = MoveGenerator.generateLegal(pos, legal);
+        for (int i = 0; i < n; i++) {
+            int move = legal[i];
+            try {
+                int accepted = MoveRules.validateMove(pos, Squares.name(Moves.from(move)),
+                        Squares.name(Moves.to(move)), Moves.promotionName(move));
+                if (accepted != move) return "MoveRules devolve " + Moves.toUci(accepted) + " para " + Moves.toUci(move);
+            } catch (IllegalStateException e) {
+                return "MoveRules rejeita " + Moves.toUci(move) + ": " + e.getMessage();
+            }
+        }
+        return null;
+    }
+
+    private void fail(Line line, String message) {
+        failures.incrementAndGet();
+        if (messages.size() < MAX_FAILURES) messages.add("Linha " + line.number() + ": " + message);
+    }
+
+    /**
+     * EPD positions carry no clocks; FenCodec wants them.
+     */
+    private static String withClocks(String fen) {
+        return fen.split("\\s+").length == 4 ? fen + " 0 1" : fen;
+    }
+
+    /**
+     * Perft of one position, forked by root move when deep enough.
+     */
+    private static final class Count extends RecursiveTask<Long> {
+
+        private final Position pos;
+        private final int depth;
+
+        Count(Position pos, int depth) {
+            this.pos = pos;
+            this.depth = depth;
+        }
+
+        @Override
+        protected Long compute() {
+            if (depth < SPLIT_DEPTH) return Perft.perft(pos, depth);
+            int[] legal = new int[MoveGenerator.MAX_MOVES];
+            int n = MoveGenerator.generateLegal(pos, legal);
+            List<Count> children = new ArrayList<>(n);
+            for (int i = 0; i < n; i++) {
+                Position child = pos.copy();
+                child.makeMove(legal[i]);
+                children.add(new Count(child, depth - 1));
+            }
+            long total = 0;
+            for (Count c : invokeAll(children)) total += c.join();
+            return total;
+        }
+    }
+}
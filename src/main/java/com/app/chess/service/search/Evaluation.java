@@ -0,0 +1,151 @@
+package com.app.chess.service.search;
+
+import com.app.chess.service.board.Position;
+
+/**
+ * Static evaluation: material plus piece-square tables (the "simplified
+ * evaluation function" values), with the king table blended from middlegame
+ * to endgame as the non-pawn material comes off, and a small bishop-pair
+ * bonus. Scores are centipawns from the side to move's point of view.
+ */
+public final class Evaluation {
+
+    public static final int[] PIECE_VALUES = {100, 320, 330, 500, 900, 0};
+
+    private static final int BISHOP_PAIR = 30;
+    private static final int MAX_PHASE = 24;
+    private static final int[] PHASE = {0, 1, 1, 2, 4, 0};
+
+    // Tables are written as seen from White, rank 8 first.
+    private static final int[][] TABLES = {
+            {
+                    0, 0, 0, 0, 0, 0, 0, 0,
+                    50, 50, 50, 50, 50, 50, 50, 50,
+                    10, 10, 20, 30, 30, 20, 10, 10,
+                    5, 5, 10, 25, 25, 10, 5, 5,
+                    0, 0, 0, 20, 20, 0, 0, 0,
+                    5, -5, -10, 0, 0, -10, -5, 5,
+                    5, 10, 10, -20, -20, 10, 10, 5,
+                    0, 0, 0, 0, 0, 0, 0, 0
+            },
+            {
+                    -50, -40, -30, -30, -30, -30, -40, -50,
+                    -40, -20, 0, 0, 0, 0, -20, -40,
+                    -30, 0, 10, 15, 15, 10, 0, -30,
+                    -30, 5, 15, 20, 20, 15, 5, -30,
+                    -30, 0, 15, 20, 20, 15, 0, -30,
+                    -30, 5, 10, 15, 15, 10, 5, -30,
+                    -40, -20, 0, 5, 5, 0, -20, -40,
+                    -50, -40, -30, -30, -30, -30, -40, -50
+            },
+            {
+                    -20, -10, -10, -10, -10, -10, -10, -20,
+                    -10, 0, 0, 0, 0, 0, 0, -10,
+                    -10, 0, 5, 10, 10, 5, 0, -10,
+                    -10, 5, 5, 10, 10, 5, 5, -10,
+                    -10, 0, 10, 10, 10, 10, 0, -10,
+                    -10, 10, 10, 10, 10, 10, 10, -10,
+                    -10, 5, 0, 0, 0, 0, 5, -10,
+                    -20, -10, -10, -10, -10, -10, -10, -20
+            },
+            {
+                    0, 0, 0, 0, 0, 0, 0, 0,
+                    5, 10, 10, 10, 10, 10, 10, 5,
+                    -5, 0, 0, 0, 0, 0, 0, -5,
+                    -5, 0, 0, 0, 0, 0, 0, -5,
+                    -5, 0, 0, 0, 0, 0, 0, -5,
+                    -5, 0, 0, 0, 0, 0, 0, -5,
+                    -5, 0, 0, 0, 0, 0, 0, -5,
+                    0, 0, 0, 5, 5, 0, 0, 0
+            },
+            {
+                    -20, -10, -10, -5, -5, -10, -10, -20,
+                    -10, 0, 0, 0, 0, 0, 0, -10,
+                    -10, 0, 5, 5, 5, 5, 0, -10,
+                    -5, 0, 5, 5, 5, 5, 0, -5,
+                    0, 0, 5, 5, 5, 5, 0, -5,
+                    -10, 5, 5, 5, 5, 5, 0, -10,
+                    -10, 0, 5, 0, 0, 0, 0, -10,
+                    -20, -10, -10, -5, -5, -10, -10, -20
+            },
+            {
+                    -30, -40, -40, -50, -50, -40, -40, -30,
+                    -30, -40, -40, -50, -50, -40, -40, -30,
+                    -30, -40, -40, -50, -50, -40, -40, -30,
+                    -30, -40, -40, -50, -50, -40, -40, -30,
+                    -20, -30, -30, -40, -40, -30, -30, -20,
+                    -10, -20, -20, -20, -20, -20, -20, -10,
+                    20, 20, 0, 0, 0, 0, 20, 20,
+                    20, 30, 10, 0, 0, 10, 30, 20
+            }
+    };
+
+    private static final int[] KING_ENDGAME = {
+            -50, -40, -30, -20, -20, -30, -40, -50,
+            -30, -20, -10, 0, 0, -10, -20, -30,
+            -30, -10, 20, 30, 30, 20, -10, -30,
+            -30, -10, 30, 40, 40, 30, -10, -30,
+            -30, -10, 30, 40, 40, 30, -10, -30,
+            -30, -10, 20, 30, 30, 20, -10, -30,
+            -30, -30, 0, 0, 0, 0, -30, -30,
+            -50, -30, -30, -30, -30, -30, -30, -50
+    };
+
+    /**
+     * Material + table value per [color][type][square], a1 = 0.
+     */
+    private static final int[][][] VALUE = new int[2][6][64];
+    private static final int[][] KING_END = new int[2][64];
+
+    static {
+        for (int sq = 0; sq < 64; sq++) {
+            // The tables start at a8, so White reads them flipped; Black's mirror cancels that out.
+            int[] index = {sq ^ 56, sq};
+            for (int c = Position.WHITE; c <= Position.BLACK; c++) {
+                for (int t = Position.PAWN; t <= Position.KING; t++) {
+                    VALUE[c][t][sq] = PIECE_VALUES[t] + TABLES[t][index[c]];
+                }
+                KING_END[c][sq] = KING_ENDGAME[index[c]];
+            }
+        }
+    }
+
+    private Evaluation() {
+    }
+
+    public static int evaluate(Position pos) {
+        int score = 0;
+        int phase = 0;
+        for (int t = Position.PAWN; t < Position.KING; t++) {
+            for (long b = pos.bitboard(Position.WHITE, t); b != 0; b &= b - 1) {
+                score += VALUE[Position.WHITE][t][Long.numberOfTrailingZeros(b)];
+                phase += PHASE[t];
+            }
+            for (long b = pos.bitboard(Position.BLACK, t); b != 0; b &= b - 1) {
+                score -= VALUE[Position.BLACK][t][Long.numberOfTrailingZeros(b)];
+                phase += PHASE[t];
+            }
+        }
+        if (Long.bitCount(pos.bitboard(Position.WHITE, Position.BISHOP)) >= 2) score += BISHOP_PAIR;
+        if (Long.bitCount(pos.bitboard(Position.BLACK, Position.BISHOP)) >= 2) score -= BISHOP_PAIR;
+
+        phase = Math.min(phase, MAX_PHASE);
+        int wk = pos.kingSquare(Position.WHITE);
+        int bk = pos.kingSquare(Position.BLACK);
+        int kingMiddle = VALUE[Position.WHITE][Position.KING][wk] - VALUE[Position.BLACK][Position.KING][bk];
+        int kingEnd = KING_END[Position.WHITE][wk] - KING_END[Position.BLACK][bk];
+        score += (kingMiddle * phase + kingEnd * (MAX_PHASE - phase)) / MAX_PHASE;
+
+        return pos.sideToMove() == Position.WHITE ? score : -score;
+    }
+
+    /**
+     * Whether the side to move has a piece other than pawns and king, the
+     * guard against zugzwang for null-move pruning.
+     */
+    static boolean hasPieces(Position pos) {
+        int us = pos.sideToMove();
+        return (pos.bitboard(us, Position.KNIGHT) | pos.bitboard(us, Position.BISHOP)
+                | pos.bitboard(us, Position.ROOK) | pos.bitboard(us, Position.QUEEN)) != 0;
+    }
+}
@@ -0,0 +1,110 @@
+package com.app.chess.service.search;
+
+import com.app.chess.service.board.Moves;
+import com.app.chess.service.board.Position;
+import com.app.chess.service.rules.MoveGenerator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * One analysis of a position, searched with Lazy SMP: every thread runs the
+ * same iterative deepening on its own stack and they cooperate only through
+ * the shared {@link TranspositionTable}. The calling thread is the main
+ * thread; when it finishes (depth limit) or any limit is hit, all stop and
+ * the deepest completed result wins.
+ */
+public final class Search {
+
+    public static final int MAX_DEPTH = 64;
+
+    private final Position root;
+    private final TranspositionTable table;
+    private final int maxDepth;
+    private final long deadline;
+    private final long maxNodes;
+    private final AtomicLong nodes = new AtomicLong();
+    private volatile boolean stopped;
+
+    /**
+     * @param maxDepth depth limit, at most {@link #MAX_DEPTH}
+     * @param millis   time limit
+     * @param maxNodes node limit over all threads, or {@link Long#MAX_VALUE}
+     */
+    public Search(Position root, TranspositionTable table, int maxDepth, long millis, long maxNodes) {
+        this.root = root.copy();
+        this.table = table;
+        this.maxDepth = Math.min(maxDepth, MAX_DEPTH);
+        this.deadline = System.nanoTime() + millis * 1_000_000L;
+        this.maxNodes = maxNodes;
+    }
+
+    /**
+     * Searches with {@code threads} threads: the caller plus helpers run on
+     * {@code helpers}. A helper the executor refuses is simply left out.
+     */
+    public SearchResult run(int threads, Executor helpers) {
+        int[] legal = new int[MoveGenerator.MAX_MOVES];
+        if (MoveGenerator.generateLegal(root, legal) == 0) {
+            return new SearchResult(Moves.NONE, 0, 0, 0, new int[0]);
+        }
+        table.newSearch();
+
+        Searcher main = new Searcher(this, 0);
+        List<Searcher> searchers = new ArrayList<>();
+        searchers.add(main);
+        List<CompletableFuture<Void>> running = new ArrayList<>();
+        for (int i = 1; i < threads; i++) {
+            Searcher helper = new Searcher(this, i);
+            try {
+                running.add(CompletableFuture.runAsync(() -> helper.iterate(maxDepth), helpers));
+                searchers.add(helper);
+            } catch (RejectedExecutionException e) {
+                break;
+            }
+        }
+
+        try {
+            main.iterate(maxDepth);
+        } finally {
+            stopped = true;
+            running.forEach(CompletableFuture::join);
+        }
+
+        Searcher best = main;
+        long total = 0;
+        for (Searcher s : searchers) {
+            total += s.nodes();
+            if (s.completedDepth() > best.completedDepth()) best = s;
+        }
+        int[] pv = best.bestPv();
+        if (pv.length == 0) {
+            // Stopped before depth 1 completed: any legal move beats none
+            return new SearchResult(legal[0], Evaluation.evaluate(root), 0, total, new int[]{legal[0]});
+        }
+        return new SearchResult(pv[0], best.bestScore(), best.completedDepth(), total, pv);
+    }
+
+    Position root() {
+        return root;
+    }
+
+    TranspositionTable table() {
+        return table;
+    }
+
+    boolean stopped() {
+        return stopped;
+    }
+
+    /**
+     * Adds a thread's node count to the shared budget and checks the limits.
+     */
+    void report(long count) {
+        if (nodes.addAndGet(count) >= maxNodes || System.nanoTime() - deadline >= 0) stopped = true;
+    }
+}
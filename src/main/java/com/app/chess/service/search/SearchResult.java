@@ -0,0 +1,24 @@
+package com.app.chess.service.search;
+
+/**
+ * Outcome of a search: best move ({@link com.app.chess.service.board.Moves#NONE}
+ * when the side to move has none), its score for the side to move, the last
+ * completed depth, nodes visited by all threads and the principal variation.
+ */
+public record SearchResult(
+        int bestMove,
+        int score,
+        int depth,
+        long nodes,
+        int[] pv
+) {
+
+    /**
+     * Moves to mate (negative when the side to move is mated), or 0 for a normal score.
+     */
+    public int mateIn() {
+        if (Math.abs(score) < Searcher.MATE - Searcher.MAX_PLY) return 0;
+        int plies = Searcher.MATE - Math.abs(score);
+        return score > 0 ? (plies + 1) / 2 : -(plies / 2);
+    }
+}
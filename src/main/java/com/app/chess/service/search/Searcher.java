@@ -0,0 +1,350 @@
+package com.app.chess.service.search;
+
+import com.app.chess.service.board.Attacks;
+import com.app.chess.service.board.Moves;
+import com.app.chess.service.board.Position;
+import com.app.chess.service.board.Squares;
+import com.app.chess.service.rules.MoveGenerator;
+
+/**
+ * One search thread: iterative deepening over a principal variation search
+ * (alpha-beta with null windows after the first move), quiescence on
+ * captures, null-move pruning, late-move reductions and check extension.
+ * Moves are ordered by transposition-table move, MVV-LVA captures,
+ * promotions, killers and the history heuristic.
+ * <p>
+ * Like {@link com.app.chess.service.rules.Perft} it uses copy-make on a
+ * preallocated stack, so the search itself allocates nothing.
+ */
+final class Searcher {
+
+    static final int INFINITE = 32000;
+    static final int MATE = 31000;
+    static final int MAX_PLY = 128;
+
+    private static final int TT_MOVE = 1 << 30;
+    private static final int GOOD_CAPTURE = 1 << 28;
+    private static final int PROMOTION = 1 << 27;
+    private static final int KILLER = 1 << 26;
+    private static final int HISTORY_MAX = 1 << 20;
+    private static final int CHECK_EVERY = 1024;
+
+    private final Search search;
+    private final TranspositionTable tt;
+    private final int id;
+
+    private final Position[] stack = new Position[MAX_PLY + 1];
+    private final long[] keys = new long[MAX_PLY + 1];
+    private final int[][] moves = new int[MAX_PLY][MoveGenerator.MAX_MOVES];
+    private final int[][] order = new int[MAX_PLY][MoveGenerator.MAX_MOVES];
+    private final int[][] killers = new int[MAX_PLY][2];
+    private final int[] history = new int[64 * 64];
+    private final int[][] pv = new int[MAX_PLY + 1][MAX_PLY + 1];
+    private final int[] pvLength = new int[MAX_PLY + 1];
+
+    private long nodes;
+    private long unreported;
+
+    private int completedDepth;
+    private int bestScore;
+    private int[] bestPv = new int[0];
+
+    Searcher(Search search, int id) {
+        this.search = search;
+        this.tt = search.table();
+        this.id = id;
+        for (int i = 0; i <= MAX_PLY; i++) stack[i] = new Position();
+        stack[0].copyFrom(search.root());
+        keys[0] = stack[0].hash();
+    }
+
+    /**
+     * Deepens until the depth limit or until the search is stopped. Helper
+     * threads of a Lazy SMP search start one ply deeper on odd ids, so the
+     * threads spread over different depths and fill the shared table for each
+     * other.
+     */
+    void iterate(int maxDepth) {
+        for (int depth = 1 + (id & 1); depth <= maxDepth; depth++) {
+            int score = search(-INFINITE, INFINITE, depth, 0, true);
+            if (search.stopped()) break;
+            completedDepth = depth;
+            bestScore = score;
+            int[] line = new int[pvLength[0]];
+            System.arraycopy(pv[0], 0, line, 0, line.length);
+            bestPv = line;
+            if (Math.abs(score) >= MATE - depth) break;
+        }
+        flushNodes();
+    }
+
+    private int search(int alpha, int beta, int depth, int ply, boolean pvNode) {
+        pvLength[ply] = ply;
+        Position pos = stack[ply];
+        boolean inCheck = Attacks.inCheck(pos, pos.sideToMove());
+        if (inCheck && ply < MAX_PLY / 2) depth++;
+        if (depth <= 0) return quiesce(alpha, beta, ply);
+        if (countNode()) return 0;
+
+        if (ply > 0) {
+            if (isDraw(ply)) return 0;
+            // Mate distance pruning: a shorter mate was already found elsewhere
+            alpha = Math.max(alpha, -MATE + ply);
+            beta = Math.min(beta, MATE - ply - 1);
+            if (alpha >= beta) return alpha;
+        }
+        if (ply >= MAX_PLY - 1) return Evaluation.evaluate(pos);
+
+        long key = keys[ply];
+        long entry = tt.probe(key);
+        int ttMove = Moves.NONE;
+        if (entry != 0) {
+            ttMove = TranspositionTable.move(entry);
+            if (!pvNode && TranspositionTable.depth(entry) >= depth) {
+                int score = fromTable(TranspositionTable.score(entry), ply);
+                int bound = TranspositionTable.bound(entry);
+                if (bound == TranspositionTable.EXACT
+                        || (bound == TranspositionTable.LOWER && score >= beta)
+                        || (bound == TranspositionTable.UPPER && score <= alpha)) {
+                    return score;
+                }
+            }
+        }
+
+        Position child = stack[ply + 1];
+        if (!pvNode && !inCheck && depth >= 3 && Evaluation.hasPieces(pos) && Evaluation.evaluate(pos) >= beta) {
+            child.copyFrom(pos);
+            child.setSideToMove(pos.sideToMove() ^ 1);
+            child.setEpSquare(Squares.NONE);
+            child.setHalfmove(0);
+            keys[ply + 1] = child.hash();
+            int reduction = depth > 6 ? 3 : 2;
+            int score = -search(-beta, -beta + 1, depth - 1 - reduction, ply + 1, false);
+            if (search.stopped()) return 0;
+            if (score >= beta) return score >= MATE - MAX_PLY ? beta : score;
+        }
+
+        int[] list = moves[ply];
+        int n = MoveGenerator.generateLegal(pos, list);
+        if (n == 0) return inCheck ? -MATE + ply : 0;
+        scoreMoves(pos, list, order[ply], n, ttMove, ply);
+
+        int originalAlpha = alpha;
+        int best = -INFINITE;
+        int bestMove = Moves.NONE;
+        for (int i = 0; i < n; i++) {
+            int move = pick(list, order[ply], i, n);
+            child.copyFrom(pos);
+            child.makeMove(move);
+            keys[ply + 1] = child.hash();
+
+            int score;
+            if (i == 0) {
+                score = -search(-beta, -alpha, depth - 1, ply + 1, pvNode);
+            } else {
+                int reduction = depth >= 3 && i >= 4 && !inCheck && isQuiet(move) ? (i >= 12 ? 2 : 1) : 0;
+                score = -search(-alpha - 1, -alpha, depth - 1 - reduction, ply + 1, false);
+                if (score > alpha && reduction > 0) score = -search(-alpha - 1, -alpha, depth - 1, ply + 1, false);
+                if (score > alpha && score < beta) score = -search(-beta, -alpha, depth - 1, ply + 1, true);
+            }
+            if (search.stopped()) return 0;
+
+            if (score > best) {
+                best = score;
+                bestMove = move;
+                if (score > alpha) {
+                    alpha = score;
+                    updatePv(ply, move);
+                    if (score >= beta) {
+                        if (isQuiet(move)) rememberCutoff(move, ply, depth);
+                        break;
+                    }
+                }
+            }
+        }
+
+        int bound = best >= beta ? TranspositionTable.LOWER
+                : best > originalAlpha ? TranspositionTable.EXACT : TranspositionTable.UPPER;
+        tt.store(key, Moves.key(bestMove), toTable(best, ply), depth, bound);
+        return best;
+    }
+
+    /**
+     * Searches captures and promotions until the position is quiet, so the
+     * static evaluation is never taken in the middle of an exchange. In check
+     * every evasion is searched.
+     */
+    private int quiesce(int alpha, int beta, int ply) {
+        pvLength[ply] = ply;
+        if (countNode()) return 0;
+        Position pos = stack[ply];
+        if (ply >= MAX_PLY - 1) return Evaluation.evaluate(pos);
+
+        boolean inCheck = Attacks.inCheck(pos, pos.sideToMove());
+        int best = -MATE + ply;
+        if (!inCheck) {
+            best = Evaluation.evaluate(pos);
+            if (best >= beta) return best;
+            if (best > alpha) alpha = best;
+        }
+
+        int[] list = moves[ply];
+        int n = MoveGenerator.generateLegal(pos, list);
+        if (n == 0) return inCheck ? -MATE + ply : 0;
+        if (!inCheck) {
+            int tactical = 0;
+            for (int i = 0; i < n; i++) {
+                if (!isQuiet(list[i])) list[tactical++] = list[i];
+            }
+            n = tactical;
+        }
+        scoreMoves(pos, list, order[ply], n, Moves.NONE, ply);
+
+        Position child = stack[ply + 1];
+        for (int i = 0; i < n; i++) {
+            int move = pick(list, order[ply], i, n);
+            child.copyFrom(pos);
+            child.makeMove(move);
+            keys[ply + 1] = child.hash();
+            int score = -quiesce(-beta, -alpha, ply + 1);
+            if (search.stopped()) return 0;
+            if (score > best) {
+                best = score;
+                if (score > alpha) {
+                    alpha = score;
+                    updatePv(ply, move);
+                    if (score >= beta) break;
+                }
+            }
+        }
+        return best;
+    }
+
+    private void scoreMoves(Position pos, int[] list, int[] scores, int n, int ttMove, int ply) {
+        for (int i = 0; i < n; i++) {
+            int move = list[i];
+            int key = Moves.key(move);
+            if (key == ttMove) {
+                scores[i] = TT_MOVE;
+            } else if (Moves.isCapture(move)) {
+                int victim = pos.pieceAt(Moves.to(move));
+                int victimType = victim == Position.EMPTY ? Position.PAWN : Position.typeOf(victim);
+                int attacker = Position.typeOf(pos.pieceAt(Moves.from(move)));
+                scores[i] = GOOD_CAPTURE + victimType * 8 - attacker + Moves.promotion(move);
+            } else if (Moves.promotion(move) != 0) {
+                scores[i] = PROMOTION + Moves.promotion(move);
+            } else if (key == killers[ply][0]) {
+                scores[i] = KILLER + 1;
+            } else if (key == killers[ply][1]) {
+                scores[i] = KILLER;
+            } else {
+                scores[i] = history[Moves.from(move) * 64 + Moves.to(move)];
+            }
+        }
+    }
+
+    /**
+     * Selection sort step: swaps the best remaining move into slot {@code i}.
+     * Cheaper than a full sort since most nodes cut off after a few moves.
+     */
+    private static int pick(int[] list, int[] scores, int i, int n) {
+        int best = i;
+        for (int j = i + 1; j < n; j++) {
+            if (scores[j] > scores[best]) best = j;
+        }
+        int move = list[best];
+        list[best] = list[i];
+        list[i] = move;
+        int s = scores[best];
+        scores[best] = scores[i];
+        scores[i] = s;
+        return move;
+    }
+
+    private void rememberCutoff(int move, int ply, int depth) {
+        int key = Moves.key(move);
+        if (killers[ply][0] != key) {
+            killers[ply][1] = killers[ply][0];
+            killers[ply][0] = key;
+        }
+        int slot = Moves.from(move) * 64 + Moves.to(move);
+        history[slot] += depth * depth;
+        if (history[slot] > HISTORY_MAX) {
+            for (int i = 0; i < history.length; i++) history[i] >>= 1;
+        }
+    }
+
+    private void updatePv(int ply, int move) {
+        pv[ply][ply] = move;
+        int len = pvLength[ply + 1];
+        System.arraycopy(pv[ply + 1], ply + 1, pv[ply], ply + 1, len - ply - 1);
+        pvLength[ply] = Math.max(len, ply + 1);
+    }
+
+    /**
+     * Repetition of a position on the current line (since the last capture or
+     * pawn move), or the 50-move rule.
+     */
+    private boolean isDraw(int ply) {
+        Position pos = stack[ply];
+        if (pos.halfmove() >= 100) return true;
+        long key = keys[ply];
+        for (int i = ply - 2; i >= Math.max(0, ply - pos.halfmove()); i -= 2) {
+            if (keys[i] == key) return true;
+        }
+        return false;
+    }
+
+    private static boolean isQuiet(int move) {
+        return !Moves.isCapture(move) && Moves.promotion(move) == 0;
+    }
+
+    /**
+     * Mate scores are stored relative to the node, not the root, so they stay
+     * right when the entry is found again at another ply.
+     */
+    private static int toTable(int score, int ply) {
+        if (score >= MATE - MAX_PLY) return score + ply;
+        if (score <= -MATE + MAX_PLY) return score - ply;
+        return score;
+    }
+
+    private static int fromTable(int score, int ply) {
+        if (score >= MATE - MAX_PLY) return score - ply;
+        if (score <= -MATE + MAX_PLY) return score + ply;
+        return score;
+    }
+
+    /**
+     * Counts a node and, every {@link #CHECK_EVERY} nodes, reports to the
+     * shared budget.
+     *
+     * @return true when the search must stop
+     */
+    private boolean countNode() {
+        nodes++;
+        if (++unreported >= CHECK_EVERY) flushNodes();
+        return search.stopped();
+    }
+
+    private void flushNodes() {
+        search.report(unreported);
+        unreported = 0;
+    }
+
+    int completedDepth() {
+        return completedDepth;
+    }
+
+    int bestScore() {
+        return bestScore;
+    }
+
+    int[] bestPv() {
+        return bestPv;
+    }
+
+    long nodes() {
+        return nodes;
+    }
+}
@@ -0,0 +1,94 @@
+package com.app.chess.service.search;
+
+/**
+ * Fixed-size, always-allocated hash table of search results, shared by all
+ * search threads without locks. Each slot is two longs: the packed entry and
+ * the Zobrist key XOR-ed with it, so a slot torn by two concurrent writers
+ * fails the key check on probe instead of returning a mixed entry.
+ * <pre>
+ * bits  0-15  best move ({@link com.app.chess.service.board.Moves} encoding)
+ * bits 16-31  score (signed)
+ * bits 32-39  depth
+ * bits 40-41  bound
+ * bits 42-47  generation
+ * bit  48     occupied
+ * </pre>
+ */
+public final class TranspositionTable {
+
+    public static final int EXACT = 0;
+    public static final int LOWER = 1;
+    public static final int UPPER = 2;
+
+    private static final long OCCUPIED = 1L << 48;
+
+    private final long[] keys;
+    private final long[] entries;
+    private final int mask;
+    private volatile int generation;
+
+    /**
+     * @param megabytes memory for the table; rounded down to a power of two of 16-byte slots
+     */
+    public TranspositionTable(int megabytes) {
+        long slots = Math.max(1024, (long) megabytes * 1024 * 1024 / 16);
+        int size = Integer.highestOneBit((int) Math.min(slots, 1 << 30));
+        keys = new long[size];
+        entries = new long[size];
+        mask = size - 1;
+    }
+
+    /**
+     * Starts a new generation, so entries of older searches are replaced first.
+     */
+    public void newSearch() {
+        generation = (generation + 1) & 0x3F;
+    }
+
+    /**
+     * @return the entry for {@code key}, or 0 when absent
+     */
+    public long probe(long key) {
+        int i = (int) key & mask;
+        long entry = entries[i];
+        return (keys[i] ^ entry) == key && entry != 0 ? entry : 0L;
+    }
+
+    public void store(long key, int move, int score, int depth, int bound) {
+        int i = (int) key & mask;
+        long old = entries[i];
+        int gen = generation;
+        // Keep a deeper entry of the same search for a different position
+        if (old != 0 && (keys[i] ^ old) != key && generation(old) == gen && depth(old) > depth) return;
+        if (move == 0 && (keys[i] ^ old) == key) move = move(old);
+
+        long entry = (move & 0xFFFFL)
+                | ((score & 0xFFFFL) << 16)
+                | ((long) Math.min(depth, 255) << 32)
+                | ((long) bound << 40)
+                | ((long) gen << 42)
+                | OCCUPIED;
+        entries[i] = entry;
+        keys[i] = key ^ entry;
+    }
+
+    public static int move(long entry) {
+        return (int) (entry & 0xFFFF);
+    }
+
+    public static int score(long entry) {
+        return (short) (entry >>> 16);
+    }
+
+    public static int depth(long entry) {
+        return (int) (entry >>> 32) & 0xFF;
+    }
+
+    public static int bound(long entry) {
+        return (int) (entry >>> 40) & 0x3;
+    }
+
+    private static int generation(long entry) {
+        return (int) (entry >>> 42) & 0x3F;
+    }
+}
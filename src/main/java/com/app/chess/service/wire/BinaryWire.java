@@ -0,0 +1,82 @@
+package com.app.chess.service.wire;
+
+import com.app.chess.model.GameStatus;
+import com.app.chess.service.board.Position;
+import com.app.chess.service.board.Squares;
+import com.app.chess.service.clock.Clock;
+import com.app.chess.service.history.MoveLog;
+import org.springframework.http.MediaType;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Compact binary form of GET /{id}/board and GET /{id}, for clients that send
+ * {@code Accept: application/x-chess-binary}. Big-endian, as written by
+ * {@link ByteBuffer}:
+ * <pre>
+ * board     format version (1), status, turn, winner, flags   1 byte each
+ *           squares a8..h8, a7..h7 ... a1..h1                  64 bytes, FEN letter or '.'
+ *           FEN                                                1-byte length + ASCII
+ *           clock, when flags has {@link #FLAG_CLOCK}          5 x 8 bytes: initial, increment,
+ *                                                              white, black (ms), turn started (epoch ms)
+ * details   the board message, then
+ *           id, creation time (epoch ms)                       8 bytes each
+ *           move log length                                    4 bytes
+ *           move log                                           the {@link MoveLog} blob: per ply a 2-byte
+ *                                                              little-endian move and a zigzag varint of
+ *                                                              the millis since the previous ply
+ * </pre>
+ * {@code status} is the {@link GameStatus} ordinal, {@code turn} 0 for White
+ * and 1 for Black, {@code winner} 0 for none (ongoing or draw), 1 White, 2
+ * Black. A board is about 130 bytes against about 500 in JSON, and a move 3-4
+ * bytes against about 80.
+ */
+public final class BinaryWire {
+
+    public static final MediaType MEDIA_TYPE = MediaType.parseMediaType("application/x-chess-binary");
+
+    public static final int VERSION = 1;
+    public static final int FLAG_CLOCK = 1;
+
+    private static final int HEADER = 5 + 64 + 1;
+    private static final int CLOCK = 5 * 8;
+
+    private BinaryWire() {
+    }
+
+    public static byte[] board(Position pos, String fen, GameStatus status, String turn, String winner, Clock clock) {
+        ByteBuffer buf = ByteBuffer.allocate(HEADER + fen.length() + (clock.timed() ? CLOCK : 0));
+        putBoard(buf, pos, fen, status, turn, winner, clock);
+        return buf.array();
+    }
+
+    public static byte[] details(long id, long createdAtMillis, Position pos, String fen, GameStatus status,
+                                 String turn, String winner, Clock clock, MoveLog moves) {
+        ByteBuffer buf = ByteBuffer.allocate(HEADER + fen.length() + (clock.timed() ? CLOCK : 0)
+                + 8 + 8 + 4 + moves.length());
+        putBoard(buf, pos, fen, status, turn, winner, clock);
+        buf.putLong(id).putLong(createdAtMillis).putInt(moves.length()).put(moves.buffer(), 0, moves.length());
+        return buf.array();
+    }
+
+    private static void putBoard(ByteBuffer buf, Position pos, String fen, GameStatus status, String turn,
+                                 String winner, Clock clock) {
+        if (fen.length() > 255) throw new IllegalStateException("FEN longo demais para o formato binário");
+        buf.put((byte) VERSION)
+                .put((byte) status.ordinal())
+                .put((byte) ("BLACK".equals(turn) ? 1 : 0))
+                .put((byte) ("WHITE".equals(winner) ? 1 : "BLACK".equals(winner) ? 2 : 0))
+                .put((byte) (clock.timed() ? FLAG_CLOCK : 0));
+        for (int rank = 7; rank >= 0; rank--) {
+            for (int file = 0; file < 8; file++) {
+                buf.put((byte) Position.pieceChar(pos.pieceAt(Squares.of(file, rank))));
+            }
+        }
+        buf.put((byte) fen.length());
+        for (int i = 0; i < fen.length(); i++) buf.put((byte) fen.charAt(i));
+        if (clock.timed()) {
+            buf.putLong(clock.baseMs()).putLong(clock.incrementMs()).putLong(clock.whiteMs())
+                    .putLong(clock.blackMs()).putLong(clock.turnStartedAt());
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.app.chess.service.wire;
+
+import org.springframework.http.MediaType;
+
+import java.util.List;
+
+/**
+ * Representations of the polled game views, chosen by the request's
+ * {@code Accept} header.
+ */
+public enum WireFormat {
+
+    JSON(MediaType.APPLICATION_JSON),
+    BINARY(BinaryWire.MEDIA_TYPE);
+
+    private final MediaType mediaType;
+
+    WireFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    /**
+     * {@link #BINARY} when {@code accept} lists it with a quality at least as
+     * high as any type JSON would satisfy; otherwise {@link #JSON}, which is
+     * also the answer for a missing or malformed header.
+     */
+    public static WireFormat of(String accept) {
+        if (accept == null || accept.isBlank()) return JSON;
+        List<MediaType> types;
+        try {
+            types = MediaType.parseMediaTypes(accept);
+        } catch (IllegalArgumentException e) {
+            return JSON;
+        }
+        double binary = 0;
+        double json = 0;
+        for (MediaType type : types) {
+            if (type.equalsTypeAndSubtype(BinaryWire.MEDIA_TYPE)) {
+                binary = Math.max(binary, type.getQualityValue());
+            } else if (type.includes(MediaType.APPLICATION_JSON)) {
+                json = Math.max(json, type.getQualityValue());
+            }
+        }
+        return binary > 0 && binary >= json ? BINARY : JSON;
+    }
+}
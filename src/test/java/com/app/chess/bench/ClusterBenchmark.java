@@ -0,0 +1,140 @@
+package com.app.chess.bench;
+
+import com.app.chess.ChessApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Moves per second through clusters of 1, 2 and 3 nodes on localhost sharing
+ * one H2 file. Eight clients each play their own games over HTTP, sending
+ * every request to a random node, so most requests are forwarded to the
+ * owner; every game plays a fixed ten-ply opening and then a new game is
+ * created.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+public class ClusterBenchmark {
+
+    private static final String[][] OPENING = {
+            {"e2", "e4", "WHITE"}, {"e7", "e5", "BLACK"},
+            {"g1", "f3", "WHITE"}, {"b8", "c6", "BLACK"},
+            {"f1", "b5", "WHITE"}, {"a7", "a6", "BLACK"},
+            {"b5", "a4", "WHITE"}, {"g8", "f6", "BLACK"},
+            {"e1", "g1", "WHITE"}, {"f8", "e7", "BLACK"}
+    };
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    @State(Scope.Benchmark)
+    public static class Cluster {
+
+        @Param({"1", "2", "3"})
+        public int nodes;
+
+        private final HttpClient http = HttpClient.newHttpClient();
+        private final List<ConfigurableApplicationContext> contexts = new ArrayList<>();
+        private final List<String> urls = new ArrayList<>();
+        private Path dir;
+
+        @Setup(Level.Trial)
+        public void start() throws IOException {
+            dir = Files.createTempDirectory("chess-cluster");
+            for (int i = 0; i < nodes; i++) {
+                try (ServerSocket s = new ServerSocket(0)) {
+                    urls.add("http://localhost:" + s.getLocalPort());
+                }
+            }
+            for (String url : urls) {
+                contexts.add(new SpringApplicationBuilder(ChessApplication.class).run(
+                        "--spring.profiles.active=cluster",
+                        "--server.port=" + url.substring(url.lastIndexOf(':') + 1),
+                        "--spring.jpa.show-sql=false",
+                        "--spring.datasource.url=jdbc:h2:file:" + dir.resolve("db").toAbsolutePath() + ";AUTO_SERVER=TRUE",
+                        "--chess.cluster.nodes=" + String.join(",", urls),
+                        "--chess.cluster.self=" + url,
+                        "--chess.cluster.secret=benchmark",
+                        "--logging.level.root=WARN"));
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void stop() throws IOException {
+            contexts.forEach(ConfigurableApplicationContext::close);
+            try (Stream<Path> files = Files.walk(dir)) {
+                files.sorted(Comparator.reverseOrder()).forEach(f -> {
+                    try {
+                        Files.delete(f);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        }
+
+        String send(String method, String path, String body, int expectedStatus) throws Exception {
+            String node = urls.get(ThreadLocalRandom.current().nextInt(urls.size()));
+            HttpRequest request = HttpRequest.newBuilder(URI.create(node + path))
+                    .header("Content-Type", "application/json")
+                    .method(method, body == null ? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+            HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != expectedStatus) {
+                throw new IllegalStateException(method + " " + path + ": " + response.statusCode() + " " + response.body());
+            }
+            return response.body();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Client {
+        long gameId;
+        int ply = OPENING.length;
+    }
+
+    @Benchmark
+    public int makeMove(Cluster cluster, Client client) throws Exception {
+        if (client.ply == OPENING.length) {
+            client.gameId = JSON.readTree(cluster.send("POST", "/api/games", null, 201)).get("gameId").asLong();
+            client.ply = 0;
+        }
+        String[] m = OPENING[client.ply++];
+        cluster.send("POST", "/api/games/" + client.gameId + "/moves",
+                "{\"fromSquare\":\"" + m[0] + "\",\"toSquare\":\"" + m[1] + "\",\"playerColor\":\"" + m[2] + "\"}", 201);
+        return client.ply;
+    }
+}
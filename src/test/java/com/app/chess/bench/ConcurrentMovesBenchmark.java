@@ -0,0 +1,120 @@
+package com.app.chess.bench;
+
+import com.app.chess.ChessApplication;
+import com.app.chess.dto.LegalMovesResponse;
+import com.app.chess.service.GameService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Random legal moves racing on 64 shared games, as in
+ * {@code GameServiceConcurrencyTest}: each operation reads the legal moves
+ * of a random game and plays one, and a move that lost the race to another
+ * thread is rejected. A finished game is replaced by a new one.
+ * <p>
+ * One method per thread count, 1, 2, 4, 8 and one per core, so a single run
+ * shows how throughput scales with cores:
+ * <pre>
+ * mvn -Pjmh test-compile exec:exec -Djmh.include=ConcurrentMovesBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConcurrentMovesBenchmark {
+
+    private static final int GAMES = 64;
+
+    private ConfigurableApplicationContext context;
+    private GameService service;
+    private AtomicLongArray games;
+
+    @Setup(Level.Trial)
+    public void startApplication() {
+        context = new SpringApplicationBuilder(ChessApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.jpa.show-sql=false", "--logging.level.root=WARN");
+        service = context.getBean(GameService.class);
+        games = new AtomicLongArray(GAMES);
+        for (int i = 0; i < GAMES; i++) games.set(i, service.createGame().getId());
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean threads01() {
+        return makeMove();
+    }
+
+    @Benchmark
+    @Threads(2)
+    public boolean threads02() {
+        return makeMove();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean threads04() {
+        return makeMove();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public boolean threads08() {
+        return makeMove();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public boolean threadsPerCore() {
+        return makeMove();
+    }
+
+    /**
+     * @return whether the move was accepted
+     */
+    private boolean makeMove() {
+        ThreadLocalRandom rnd = ThreadLocalRandom.current();
+        int slot = rnd.nextInt(GAMES);
+        long id = games.get(slot);
+        LegalMovesResponse legal = service.getLegalMoves(id);
+        if (legal.moves().isEmpty()) {
+            games.compareAndSet(slot, id, service.createGame().getId());
+            return false;
+        }
+        String uci = legal.moves().get(rnd.nextInt(legal.moves().size()));
+        try {
+            service.makeMove(id, uci.substring(0, 2), uci.substring(2, 4), legal.turn(),
+                    uci.length() > 4 ? uci.substring(4) : null);
+            return true;
+        } catch (IllegalStateException raced) {
+            // Another thread moved first, or the game just ended
+            return false;
+        }
+    }
+}
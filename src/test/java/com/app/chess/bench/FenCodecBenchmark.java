@@ -0,0 +1,88 @@
+package com.app.chess.bench;
+
+import com.app.chess.service.board.Position;
+import com.app.chess.service.fen.FenCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cursor-based {@link FenCodec} against the split-based {@link LegacyFenCodec}.
+ * Run with {@code -prof gc} to compare allocation per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FenCodecBenchmark {
+
+    @Param({
+            "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1",
+            "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+            "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1"
+    })
+    public String fen;
+
+    private Position position;
+    private Position reused;
+    private StringBuilder builder;
+    private byte[] bytes;
+
+    @Setup
+    public void setUp() {
+        position = FenCodec.parse(fen);
+        reused = new Position();
+        builder = new StringBuilder(FenCodec.MAX_LENGTH);
+        bytes = new byte[FenCodec.MAX_LENGTH];
+    }
+
+    @Benchmark
+    public Position legacyParse() {
+        return LegacyFenCodec.parse(fen);
+    }
+
+    @Benchmark
+    public Position parse() {
+        return FenCodec.parse(fen);
+    }
+
+    @Benchmark
+    public Position parseIntoReused() {
+        FenCodec.parse(fen, reused);
+        return reused;
+    }
+
+    @Benchmark
+    public String legacyToFen() {
+        return LegacyFenCodec.toFen(position);
+    }
+
+    @Benchmark
+    public String toFen() {
+        return FenCodec.toFen(position);
+    }
+
+    @Benchmark
+    public StringBuilder writeIntoBuilder() {
+        builder.setLength(0);
+        FenCodec.write(position, builder);
+        return builder;
+    }
+
+    @Benchmark
+    public int writeIntoBytes() {
+        return FenCodec.write(position, bytes, 0);
+    }
+}
@@ -0,0 +1,101 @@
+package com.app.chess.bench;
+
+import com.app.chess.ChessApplication;
+import com.app.chess.service.GameService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Full {@link GameService#makeMove}, in moves per second, for each store
+ * (in-memory H2 through JPA, or the event log in a temporary directory) and
+ * each durability mode. Every game plays a fixed ten-ply opening and then a
+ * new game is created, so one game creation is amortized over ten moves.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GameServiceBenchmark {
+
+    private static final String[][] OPENING = {
+            {"e2", "e4", "WHITE"}, {"e7", "e5", "BLACK"},
+            {"g1", "f3", "WHITE"}, {"b8", "c6", "BLACK"},
+            {"f1", "b5", "WHITE"}, {"a7", "a6", "BLACK"},
+            {"b5", "a4", "WHITE"}, {"g8", "f6", "BLACK"},
+            {"e1", "g1", "WHITE"}, {"f8", "e7", "BLACK"}
+    };
+
+    @Param({"jpa", "event-log"})
+    public String store;
+
+    @Param({"SYNC", "WRITE_BEHIND"})
+    public String durability;
+
+    private Path eventDir;
+    private ConfigurableApplicationContext context;
+    private GameService service;
+    private Long gameId;
+    private int ply;
+
+    @Setup(Level.Trial)
+    public void startApplication() throws IOException {
+        eventDir = Files.createTempDirectory("chess-events");
+        context = new SpringApplicationBuilder(ChessApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN",
+                        "--chess.persistence.store=" + store,
+                        "--chess.store.event-log.dir=" + eventDir,
+                        "--chess.persistence.durability=" + durability);
+        service = context.getBean(GameService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() throws IOException {
+        context.close();
+        try (Stream<Path> files = Files.walk(eventDir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(f -> {
+                try {
+                    Files.delete(f);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+
+    @Benchmark
+    public int makeMove() {
+        if (gameId == null || ply == OPENING.length) {
+            gameId = service.createGame().getId();
+            ply = 0;
+        }
+        String[] m = OPENING[ply++];
+        service.makeMove(gameId, m[0], m[1], m[2], null);
+        return ply;
+    }
+}
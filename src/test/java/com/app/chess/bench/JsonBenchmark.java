@@ -0,0 +1,93 @@
+package com.app.chess.bench;
+
+import com.app.chess.dto.BoardResponse;
+import com.app.chess.dto.GameDetailsResponse;
+import com.app.chess.model.GameStatus;
+import com.app.chess.service.board.Moves;
+import com.app.chess.service.board.Position;
+import com.app.chess.service.clock.Clock;
+import com.app.chess.service.fen.FenCodec;
+import com.app.chess.service.history.MoveLog;
+import com.app.chess.service.wire.BinaryWire;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of the two polled responses, with the same
+ * ObjectMapper configuration Spring MVC uses, against {@link BinaryWire} for
+ * the same game. The game has 80 moves.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JsonBenchmark {
+
+    private ObjectMapper mapper;
+    private GameDetailsResponse details;
+    private BoardResponse board;
+    private Position pos;
+    private String fen;
+    private MoveLog log;
+    private Clock clock;
+
+    @Setup
+    public void setUp() {
+        mapper = Jackson2ObjectMapperBuilder.json().build();
+
+        pos = FenCodec.parse("r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1");
+        fen = FenCodec.toFen(pos);
+        clock = Clock.of(0, 0, 0);
+
+        List<GameDetailsResponse.MoveItem> moves = new ArrayList<>();
+        Instant at = Instant.parse("2026-01-01T10:00:00Z");
+        log = new MoveLog(at.toEpochMilli());
+        for (int i = 0; i < 80; i++) {
+            log.append(Moves.of(12, 28), at.plusSeconds(i * 7L).toEpochMilli());
+            moves.add(new GameDetailsResponse.MoveItem("e2", "e4", null, i % 2 == 0 ? "WHITE" : "BLACK",
+                    at.plusSeconds(i * 7L).toString()));
+        }
+        details = new GameDetailsResponse(1L, "EM_EXECUCAO", "WHITE", null, fen, null,
+                FenCodec.boardTo8x8(pos), moves);
+        board = new BoardResponse(List.of("a", "b", "c", "d", "e", "f", "g", "h"), List.of(8, 7, 6, 5, 4, 3, 2, 1),
+                FenCodec.boardToGrid(pos), fen, "WHITE", null, "EM_EXECUCAO", null);
+    }
+
+    @Benchmark
+    public byte[] gameDetails() throws JsonProcessingException {
+        return mapper.writeValueAsBytes(details);
+    }
+
+    @Benchmark
+    public byte[] board() throws JsonProcessingException {
+        return mapper.writeValueAsBytes(board);
+    }
+
+    @Benchmark
+    public byte[] gameDetailsBinary() {
+        return BinaryWire.details(1, log.baseMillis(), pos, fen, GameStatus.EM_EXECUCAO, "WHITE", null, clock, log);
+    }
+
+    @Benchmark
+    public byte[] boardBinary() {
+        return BinaryWire.board(pos, fen, GameStatus.EM_EXECUCAO, "WHITE", null, clock);
+    }
+}
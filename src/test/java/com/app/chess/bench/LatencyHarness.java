@@ -0,0 +1,215 @@
+package com.app.chess.bench;
+
+import com.app.chess.ChessApplication;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * HTTP load harness comparing platform and virtual request threads.
+ * <p>
+ * For each mode the application is started on a random port, and for each
+ * level N, N simulated players each play their own game in a closed loop:
+ * {@code GET /board}, {@code GET /legal-moves}, {@code POST /moves} with a
+ * random legal move, starting a new game when one ends. The p50/p99 latency
+ * of {@code /moves} and {@code /board} is printed per level, and the largest
+ * level whose p99 stays under the target with no errors is reported as the
+ * maximum number of concurrent games.
+ * <pre>
+ * -modes platform,virtual   -games 50,200,800   -seconds 10   -warmup 5   -slo-ms 250
+ * </pre>
+ * Each mode first runs the smallest level for {@code -warmup} seconds, unrecorded, to get past JIT compilation.
+ * Virtual mode needs a Java 21 runtime and is skipped otherwise.
+ */
+public final class LatencyHarness {
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    private LatencyHarness() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<String> modes = List.of("platform", "virtual");
+        int[] levels = {50, 200, 800};
+        int seconds = 10;
+        int warmup = 5;
+        long sloMs = 250;
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "-modes" -> modes = List.of(args[i + 1].split(","));
+                case "-games" -> levels = Arrays.stream(args[i + 1].split(",")).mapToInt(Integer::parseInt).toArray();
+                case "-seconds" -> seconds = Integer.parseInt(args[i + 1]);
+                case "-warmup" -> warmup = Integer.parseInt(args[i + 1]);
+                case "-slo-ms" -> sloMs = Long.parseLong(args[i + 1]);
+                default -> throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+
+        System.out.printf("%-8s %6s %9s %7s %10s %10s %10s %10s%n",
+                "mode", "games", "requests", "errors", "moves p50", "moves p99", "board p50", "board p99");
+        for (String mode : modes) {
+            if (mode.equals("virtual") && Runtime.version().feature() < 21) {
+                System.out.println("virtual: skipped, needs Java 21 (running " + Runtime.version() + ")");
+                continue;
+            }
+            // Command-line arguments, so they win over application.properties
+            ConfigurableApplicationContext context = new SpringApplicationBuilder(ChessApplication.class)
+                    .run("--server.port=0",
+                            "--spring.jpa.show-sql=false",
+                            "--logging.level.root=WARN",
+                            "--spring.threads.virtual.enabled=" + mode.equals("virtual"));
+            try {
+                String base = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+                if (warmup > 0) run(base, levels[0], warmup);
+                int maxGames = 0;
+                for (int games : levels) {
+                    Result r = run(base, games, seconds);
+                    System.out.printf("%-8s %6d %9d %7d %8.1fms %8.1fms %8.1fms %8.1fms%n", mode, games,
+                            r.requests, r.errors, r.moves.p(50), r.moves.p(99), r.board.p(50), r.board.p(99));
+                    if (r.errors == 0 && r.moves.p(99) <= sloMs && r.board.p(99) <= sloMs) maxGames = games;
+                }
+                System.out.printf("%-8s max concurrent games with p99 <= %dms: %d%n", mode, sloMs, maxGames);
+            } finally {
+                context.close();
+            }
+        }
+    }
+
+    private static Result run(String base, int games, int seconds) throws InterruptedException {
+        ExecutorService io = Executors.newFixedThreadPool(Math.max(4, games / 8));
+        HttpClient http = HttpClient.newBuilder()
+                .executor(io)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        ExecutorService players = Executors.newFixedThreadPool(games);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        List<Player> all = new ArrayList<>(games);
+        for (int i = 0; i < games; i++) {
+            Player p = new Player(http, base, deadline);
+            all.add(p);
+            players.submit(p);
+        }
+        players.shutdown();
+        players.awaitTermination(seconds + 60L, TimeUnit.SECONDS);
+        io.shutdown();
+
+        Result r = new Result();
+        for (Player p : all) {
+            r.moves.addAll(p.moves);
+            r.board.addAll(p.board);
+            r.errors += p.errors.get();
+        }
+        r.requests = r.moves.size + r.board.size;
+        return r;
+    }
+
+    private static final class Player implements Runnable {
+        private final HttpClient http;
+        private final String base;
+        private final long deadline;
+        private final Samples moves = new Samples();
+        private final Samples board = new Samples();
+        private final AtomicLong errors = new AtomicLong();
+
+        Player(HttpClient http, String base, long deadline) {
+            this.http = http;
+            this.base = base;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public void run() {
+            ThreadLocalRandom rnd = ThreadLocalRandom.current();
+            try {
+                long gameId = newGame();
+                while (System.nanoTime() < deadline) {
+                    long t0 = System.nanoTime();
+                    HttpResponse<String> b = send(HttpRequest.newBuilder(URI.create(base + "/api/games/" + gameId + "/board")).GET());
+                    board.add(System.nanoTime() - t0);
+                    if (b.statusCode() != 200) errors.incrementAndGet();
+
+                    JsonNode legal = JSON.readTree(send(HttpRequest.newBuilder(
+                            URI.create(base + "/api/games/" + gameId + "/legal-moves")).GET()).body());
+                    JsonNode list = legal.get("moves");
+                    if (list.isEmpty()) {
+                        gameId = newGame();
+                        continue;
+                    }
+                    String uci = list.get(rnd.nextInt(list.size())).asText();
+                    String body = "{\"fromSquare\":\"" + uci.substring(0, 2) + "\",\"toSquare\":\"" + uci.substring(2, 4)
+                            + "\",\"playerColor\":\"" + legal.get("turn").asText() + "\""
+                            + (uci.length() > 4 ? ",\"promotion\":\"" + uci.charAt(4) + "\"" : "") + "}";
+                    t0 = System.nanoTime();
+                    HttpResponse<String> m = send(HttpRequest.newBuilder(URI.create(base + "/api/games/" + gameId + "/moves"))
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString(body)));
+                    moves.add(System.nanoTime() - t0);
+                    if (m.statusCode() != 201) errors.incrementAndGet();
+                }
+            } catch (Exception e) {
+                errors.incrementAndGet();
+            }
+        }
+
+        private long newGame() throws Exception {
+            HttpResponse<String> r = send(HttpRequest.newBuilder(URI.create(base + "/api/games"))
+                    .POST(HttpRequest.BodyPublishers.noBody()));
+            return JSON.readTree(r.body()).get("gameId").asLong();
+        }
+
+        private HttpResponse<String> send(HttpRequest.Builder request) throws Exception {
+            return http.send(request.timeout(Duration.ofSeconds(30)).build(), HttpResponse.BodyHandlers.ofString());
+        }
+    }
+
+    private static final class Result {
+        final Samples moves = new Samples();
+        final Samples board = new Samples();
+        long requests;
+        long errors;
+    }
+
+    /**
+     * Latencies in nanoseconds; {@link #p} sorts on first use.
+     */
+    private static final class Samples {
+        private long[] values = new long[1024];
+        private int size;
+        private boolean sorted;
+
+        void add(long nanos) {
+            if (size == values.length) values = Arrays.copyOf(values, size * 2);
+            values[size++] = nanos;
+            sorted = false;
+        }
+
+        void addAll(Samples other) {
+            for (int i = 0; i < other.size; i++) add(other.values[i]);
+        }
+
+        double p(int percentile) {
+            if (size == 0) return 0;
+            if (!sorted) {
+                Arrays.sort(values, 0, size);
+                sorted = true;
+            }
+            int idx = (int) Math.ceil(percentile / 100.0 * size) - 1;
+            return values[Math.max(0, idx)] / 1e6;
+        }
+    }
+}
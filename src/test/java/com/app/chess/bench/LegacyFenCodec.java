@@ -0,0 +1,90 @@
+package com.app.chess.bench;
+
+import com.app.chess.service.board.Position;
+import com.app.chess.service.board.Squares;
+
+/**
+ * The split-based FEN codec that {@code FenCodec} replaced, kept only as the
+ * baseline of {@link FenCodecBenchmark}.
+ */
+final class LegacyFenCodec {
+
+    private LegacyFenCodec() {
+    }
+
+    static Position parse(String fen) {
+        String[] parts = fen.trim().split("\\s+");
+        if (parts.length < 6) throw new IllegalArgumentException("FEN inválida");
+
+        String placement = parts[0];
+        char turn = parts[1].charAt(0);
+        int halfmove = Integer.parseInt(parts[4]);
+        int fullmove = Integer.parseInt(parts[5]);
+
+        Position pos = new Position();
+
+        String[] ranks = placement.split("/");
+        if (ranks.length != 8) throw new IllegalArgumentException("FEN inválida: ranks != 8");
+
+        for (int r = 0; r < 8; r++) {
+            String rank = ranks[r];
+            int file = 0;
+            for (int i = 0; i < rank.length(); i++) {
+                char c = rank.charAt(i);
+                if (Character.isDigit(c)) {
+                    file += (c - '0');
+                } else {
+                    pos.put(Position.pieceOf(c), Squares.of(file, 7 - r));
+                    file++;
+                }
+            }
+        }
+
+        pos.setSideToMove(turn == 'w' ? Position.WHITE : Position.BLACK);
+        int rights = 0;
+        if (parts[2].indexOf('K') >= 0) rights |= Position.CASTLE_WK;
+        if (parts[2].indexOf('Q') >= 0) rights |= Position.CASTLE_WQ;
+        if (parts[2].indexOf('k') >= 0) rights |= Position.CASTLE_BK;
+        if (parts[2].indexOf('q') >= 0) rights |= Position.CASTLE_BQ;
+        pos.setCastling(rights);
+        pos.setEpSquare("-".equals(parts[3]) ? Squares.NONE : Squares.parse(parts[3]));
+        pos.setHalfmove(halfmove);
+        pos.setFullmove(fullmove);
+        return pos;
+    }
+
+    static String toFen(Position pos) {
+        StringBuilder sb = new StringBuilder();
+
+        for (int r = 7; r >= 0; r--) {
+            int empty = 0;
+            for (int f = 0; f < 8; f++) {
+                int p = pos.pieceAt(Squares.of(f, r));
+                if (p == Position.EMPTY) {
+                    empty++;
+                } else {
+                    if (empty > 0) {
+                        sb.append(empty);
+                        empty = 0;
+                    }
+                    sb.append(Position.pieceChar(p));
+                }
+            }
+            if (empty > 0) sb.append(empty);
+            if (r > 0) sb.append('/');
+        }
+
+        sb.append(' ').append(pos.sideToMove() == Position.WHITE ? 'w' : 'b');
+        sb.append(' ');
+        int castling = pos.castling();
+        if (castling == 0) sb.append('-');
+        if ((castling & Position.CASTLE_WK) != 0) sb.append('K');
+        if ((castling & Position.CASTLE_WQ) != 0) sb.append('Q');
+        if ((castling & Position.CASTLE_BK) != 0) sb.append('k');
+        if ((castling & Position.CASTLE_BQ) != 0) sb.append('q');
+        sb.append(' ').append(pos.epSquare() == Squares.NONE ? "-" : Squares.name(pos.epSquare()));
+        sb.append(' ').append(pos.halfmove()).append(' ').append(pos.fullmove());
+
+        return sb.toString();
+    }
+}
@@ -0,0 +1,66 @@
+package com.app.chess.bench;
+
+import com.app.chess.service.board.Position;
+import com.app.chess.service.fen.FenCodec;
+import com.app.chess.service.rules.MoveGenerator;
+import com.app.chess.service.rules.MoveRules;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rule validation of a single request and raw legal move generation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MoveRulesBenchmark {
+
+    private Position start;
+    private Position middlegame;
+    private int[] moves;
+
+    @Setup
+    public void setUp() {
+        start = FenCodec.parse(FenCodec.INITIAL_FEN);
+        middlegame = FenCodec.parse("r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1");
+        moves = new int[MoveGenerator.MAX_MOVES];
+    }
+
+    @Benchmark
+    public int validatePawnPush() {
+        return MoveRules.validateMove(start, "e2", "e4", null);
+    }
+
+    @Benchmark
+    public int validateCastling() {
+        return MoveRules.validateMove(middlegame, "e1", "g1", null);
+    }
+
+    @Benchmark
+    public String rejectBlockedRook() {
+        try {
+            MoveRules.validateMove(start, "a1", "a3", null);
+            return null;
+        } catch (IllegalStateException e) {
+            return e.getMessage();
+        }
+    }
+
+    @Benchmark
+    public int generateLegalMiddlegame() {
+        return MoveGenerator.generateLegal(middlegame, moves);
+    }
+}
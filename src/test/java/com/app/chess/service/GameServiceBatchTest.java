@@ -0,0 +1,82 @@
+package com.app.chess.service;
+
+import com.app.chess.dto.BatchMoveResponse;
+import com.app.chess.dto.GameMovesRequest;
+import com.app.chess.dto.MakeMoveRequest;
+import com.app.chess.model.Game;
+import com.app.chess.repository.GameRepository;
+import com.app.chess.service.fen.FenCodec;
+import com.app.chess.service.persistence.GamePersistence;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+class GameServiceBatchTest {
+
+    private static final List<MakeMoveRequest> BLOCKED_THIRD = List.of(
+            new MakeMoveRequest("e2", "e4", "WHITE", null),
+            new MakeMoveRequest("e7", "e5", "BLACK", null),
+            new MakeMoveRequest("a1", "a3", "WHITE", null));
+
+    @Autowired
+    private GameService service;
+    @Autowired
+    private GamePersistence persistence;
+    @Autowired
+    private GameRepository gameRepo;
+
+    @Test
+    void atomicBatchIsDiscardedOnFailure() {
+        Long id = service.createGame().getId();
+        BatchMoveResponse r = service.makeMoves(id, BLOCKED_THIRD, true);
+
+        assertEquals(0, r.applied());
+        assertEquals(2, r.failedIndex());
+        assertEquals(FenCodec.INITIAL_FEN, r.fen());
+        assertEquals(0, service.getGame(id).moves().size());
+
+        // The rolled-back copy must still accept moves and persist them
+        service.makeMove(id, "d2", "d4", "WHITE", null);
+        persistence.flush();
+        assertEquals(1, gameRepo.findById(id).map(Game::getVersion).orElseThrow());
+    }
+
+    @Test
+    void nonAtomicBatchKeepsMovesBeforeFailure() {
+        Long id = service.createGame().getId();
+        BatchMoveResponse r = service.makeMoves(id, BLOCKED_THIRD, false);
+
+        assertEquals(2, r.applied());
+        assertEquals(2, r.failedIndex());
+        persistence.flush();
+        Game stored = gameRepo.findById(id).orElseThrow();
+        assertEquals(r.fen(), stored.getBoardState());
+        assertEquals(2, stored.getVersion());
+
+        BatchMoveResponse rest = service.makeMoves(id, List.of(new MakeMoveRequest("g1", "f3", "WHITE", null)), true);
+        assertEquals(1, rest.applied());
+        assertNull(rest.failedIndex());
+    }
+
+    @Test
+    void unexpectedFailureIsReportedOnlyForItsGame() {
+        Long broken = service.createGame().getId();
+        Long fine = service.createGame().getId();
+        // Null moves fail with an NPE inside the game's batch, as any unexpected error would
+        List<BatchMoveResponse> r = service.makeMoves(List.of(
+                new GameMovesRequest(broken, null),
+                new GameMovesRequest(fine, List.of(new MakeMoveRequest("e2", "e4", "WHITE", null)))), true);
+
+        assertEquals(0, r.get(0).applied());
+        assertEquals(0, r.get(0).failedIndex());
+        assertEquals("Falha ao aplicar os lances, tente novamente", r.get(0).error());
+        assertEquals(1, r.get(1).applied());
+        assertNull(r.get(1).failedIndex());
+    }
+}
@@ -0,0 +1,159 @@
+package com.app.chess.service;
+
+import com.app.chess.dto.BoardResponse;
+import com.app.chess.dto.ClockResponse;
+import com.app.chess.dto.GameSummary;
+import com.app.chess.model.Game;
+import com.app.chess.model.GameStatus;
+import com.app.chess.repository.GameFilter;
+import com.app.chess.service.board.Position;
+import com.app.chess.service.clock.Clock;
+import com.app.chess.service.fen.FenCodec;
+import com.app.chess.service.persistence.GamePersistence;
+import com.app.chess.service.persistence.GameStore;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Clocks and timeouts through {@link GameService}, with the real sweeper. An
+ * own database keeps other test contexts from sweeping these games.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.datasource.url=jdbc:h2:mem:clocktest",
+        "chess.clock.abandon-after-ms=1500"
+})
+class GameServiceClockTest {
+
+    private static final long WAIT_MS = 10_000;
+
+    @Autowired
+    private GameService service;
+    @Autowired
+    private GamePersistence persistence;
+    @Autowired
+    private GameStore store;
+    @Autowired
+    private PgnImportService pgnImport;
+
+    @Test
+    void moveChargesTheMoverAndAddsTheIncrement() throws Exception {
+        long created = System.currentTimeMillis();
+        Long id = service.createGame(60_000, 2_000).getId();
+        Thread.sleep(150);
+        service.makeMove(id, "e2", "e4", "WHITE", null);
+        long elapsed = System.currentTimeMillis() - created;
+
+        ClockResponse clock = service.getBoard(id).clock();
+        assertTrue(clock.whiteMillis() <= 62_000 - 150, "tempo de reflexão não descontado");
+        assertTrue(clock.whiteMillis() >= 62_000 - elapsed, "descontou mais que o tempo decorrido");
+        assertEquals(60_000, clock.blackMillis());
+
+        service.makeMove(id, "e7", "e5", "BLACK", null);
+        assertTrue(service.getBoard(id).clock().blackMillis() > 60_000, "incremento não somado");
+    }
+
+    @Test
+    void flagFallLosesAndSilenceAbandons() throws Exception {
+        Long flagged = service.createGame(200, 0).getId();
+        // Clock of 60 s, but no move within the 1.5 s abandonment limit
+        Long abandoned = service.createGame(60_000, 0).getId();
+
+        BoardResponse lost = await(() -> service.getBoard(flagged), GameStatus.TEMPO_ESGOTADO);
+        assertEquals("BLACK", lost.winner());
+        assertEquals(0, lost.clock().whiteMillis());
+
+        BoardResponse left = await(() -> service.getBoard(abandoned), GameStatus.ABANDONADA);
+        assertEquals("BLACK", left.winner());
+        assertTrue(left.clock().whiteMillis() > 0);
+    }
+
+    @Test
+    void moveAfterTheFlagIsRejected() {
+        // Stored but never loaded, so no sweep can end it before the move is checked
+        Long id = storedGame(FenCodec.INITIAL_FEN, 100, System.currentTimeMillis() - 1_000);
+
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> service.makeMove(id, "e2", "e4", "WHITE", null));
+        assertEquals("Tempo esgotado", e.getMessage());
+        assertEquals(0, service.getGame(id).moves().size());
+        await(() -> service.getBoard(id), GameStatus.TEMPO_ESGOTADO);
+    }
+
+    @Test
+    void storedTimeoutsAreRescheduledAtStartupAndBareKingDraws() {
+        // White flags, Black has only its king: a draw, as if left over from a previous run
+        Long id = storedGame("4k3/8/8/8/8/8/4P3/4K3 w - - 0 1", 100, System.currentTimeMillis());
+        service.scheduleStoredTimeouts();
+
+        Game stored = await(() -> store.find(id).orElseThrow(), GameStatus.TEMPO_ESGOTADO);
+        assertNull(stored.getWinner());
+        assertEquals(0, stored.getWhiteTimeMs());
+    }
+
+    @Test
+    void gamesStoredWithoutDeadlineAreAbandoned() {
+        // As stored before clocks existed: in progress, no clock and no deadline
+        Game game = new Game(FenCodec.INITIAL_FEN, FenCodec.parse(FenCodec.INITIAL_FEN).hash());
+        game.setStatus(GameStatus.EM_EXECUCAO);
+        Long id = persistence.createGame(game).getId();
+        service.scheduleStoredTimeouts();
+
+        Game left = await(() -> store.find(id).orElseThrow(), GameStatus.ABANDONADA);
+        assertEquals("BLACK", left.getWinner());
+    }
+
+    @Test
+    void unfinishedImportedGamesAreAbandoned() {
+        String pgn = "[Event \"Aberta\"]\n\n1. d4 d5 2. c4 *\n";
+        Instant before = Instant.now().minusMillis(1);
+        assertEquals(1, pgnImport.importPgn(new ByteArrayInputStream(pgn.getBytes(StandardCharsets.UTF_8))).imported());
+
+        // Any status: under load the sweeper may abandon it before this lookup
+        List<GameSummary> page = store.findPage(new GameFilter(null, null, null), before, 0, 10);
+        assertEquals(1, page.size());
+        Long id = page.get(0).id();
+        // Black to move never did
+        Game left = await(() -> store.find(id).orElseThrow(), GameStatus.ABANDONADA);
+        assertEquals("WHITE", left.getWinner());
+    }
+
+    /**
+     * A timed game written straight to the store, White to move, with its
+     * turn started at {@code turnStartedAt}.
+     */
+    private Long storedGame(String fen, long baseMs, long turnStartedAt) {
+        Game game = new Game(fen, FenCodec.parse(fen).hash());
+        Clock clock = Clock.of(baseMs, 0, turnStartedAt);
+        clock.writeTo(game, clock.deadline(Position.WHITE, 1_500));
+        return persistence.createGame(game).getId();
+    }
+
+    private static <T> T await(Supplier<T> read, GameStatus status) {
+        long until = System.currentTimeMillis() + WAIT_MS;
+        while (true) {
+            T value = read.get();
+            String current = value instanceof Game g ? g.getStatus().name() : ((BoardResponse) value).status();
+            if (status.name().equals(current)) return value;
+            if (System.currentTimeMillis() > until) throw new AssertionError("status " + current + ", esperado " + status);
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AssertionError(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.app.chess.service;
+
+import com.app.chess.dto.GameDetailsResponse;
+import com.app.chess.dto.LegalMovesResponse;
+import com.app.chess.model.Game;
+import com.app.chess.repository.GameRepository;
+import com.app.chess.service.board.Moves;
+import com.app.chess.service.board.Position;
+import com.app.chess.service.fen.FenCodec;
+import com.app.chess.service.history.MoveLog;
+import com.app.chess.service.persistence.GamePersistence;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Fires thousands of racing moves at a set of games and checks that every
+ * accepted move is in the history exactly once and that the stored board is
+ * the replay of that history (no lost or interleaved updates), with 1, 2,
+ * 4 ... available cores. {@code ConcurrentMovesBenchmark} measures the
+ * throughput.
+ */
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+class GameServiceConcurrencyTest {
+
+    private static final int GAMES = 64;
+    private static final int ATTEMPTS = 4000;
+
+    @Autowired
+    private GameService service;
+    @Autowired
+    private GamePersistence persistence;
+    @Autowired
+    private GameRepository gameRepo;
+
+    @Test
+    void parallelMovesAreNeverLost() throws Exception {
+        int cores = Runtime.getRuntime().availableProcessors();
+        for (int threads = 1; threads < cores; threads *= 2) {
+            runRound(threads);
+        }
+        runRound(cores);
+        // Oversubscribed: guarantees racing writers even on a single-core machine
+        runRound(cores * 4);
+    }
+
+    private void runRound(int threads) throws Exception {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < GAMES; i++) ids.add(service.createGame().getId());
+        Map<Long, AtomicInteger> accepted = new ConcurrentHashMap<>();
+        ids.forEach(id -> accepted.put(id, new AtomicInteger()));
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        for (int i = 0; i < ATTEMPTS; i++) {
+            pool.submit(() -> {
+                ThreadLocalRandom rnd = ThreadLocalRandom.current();
+                Long id = ids.get(rnd.nextInt(ids.size()));
+                LegalMovesResponse legal = service.getLegalMoves(id);
+                if (legal.moves().isEmpty()) return;
+                String uci = legal.moves().get(rnd.nextInt(legal.moves().size()));
+                try {
+                    service.makeMove(id, uci.substring(0, 2), uci.substring(2, 4), legal.turn(),
+                            uci.length() > 4 ? uci.substring(4) : null);
+                    accepted.get(id).incrementAndGet();
+                } catch (IllegalStateException raced) {
+                    // Another thread moved first: the move no longer fits the position
+                }
+            });
+        }
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(2, TimeUnit.MINUTES));
+
+        persistence.flush();
+        for (Long id : ids) {
+            GameDetailsResponse details = service.getGame(id);
+            assertEquals(accepted.get(id).get(), details.moves().size(), "moves lost in game " + id);
+
+            Position replay = FenCodec.parse(FenCodec.INITIAL_FEN);
+            for (GameDetailsResponse.MoveItem m : details.moves()) {
+                replay.makeMove(Moves.parseUci(m.from() + m.to() + (m.promotion() == null ? "" : m.promotion())));
+            }
+            assertEquals(FenCodec.toFen(replay), details.fen(), "board diverged from history in game " + id);
+
+            Game stored = gameRepo.findById(id).orElseThrow();
+            assertEquals(details.fen(), stored.getBoardState());
+            assertEquals(details.moves().size(), stored.getVersion());
+            assertEquals(details.moves().size(), MoveLog.decode(stored.getMoveLog(), stored.getCreatedAt().toEpochMilli()).size());
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.app.chess.service;
+
+import com.app.chess.dto.GameSummary;
+import com.app.chess.dto.PgnImportResponse;
+import com.app.chess.model.Game;
+import com.app.chess.repository.GameFilter;
+import com.app.chess.repository.GameHistory;
+import com.app.chess.service.clock.GameTimers;
+import com.app.chess.service.cluster.ClusterRouter;
+import com.app.chess.service.persistence.GameStore;
+import com.app.chess.service.persistence.GameUpdate;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PgnImportServiceTest {
+
+    /**
+     * Every write fails with a plain {@link RuntimeException}, as a lost
+     * connection would.
+     */
+    private static final class BrokenStore implements GameStore {
+        @Override
+        public Game create(Game game) {
+            throw new RuntimeException("Conexão perdida");
+        }
+
+        @Override
+        public List<Long> createAll(List<Game> games) {
+            throw new RuntimeException("Conexão perdida");
+        }
+
+        @Override
+        public Optional<Game> find(Long id) {
+            return Optional.empty();
+        }
+
+        @Override
+        public void write(Collection<GameUpdate> updates) {
+            throw new RuntimeException("Conexão perdida");
+        }
+
+        @Override
+        public List<GameSummary> findPage(GameFilter filter, Instant afterCreatedAt, long afterId, int limit) {
+            return List.of();
+        }
+
+        @Override
+        public void forEachSummary(GameFilter filter, Consumer<GameSummary> action) {
+        }
+
+        @Override
+        public void forEachFinishedHistory(Consumer<GameHistory> action) {
+        }
+
+        @Override
+        public void forEachDeadline(DeadlineConsumer action) {
+        }
+    }
+
+    @Test
+    void failedWriteCountsAsFailedAndInvalidGamesAsSkipped() {
+        String pgn = """
+                [Event "1"]
+
+                1. e4 e5 1-0
+
+                [Event "2"]
+
+                1. e4 e4 0-1
+
+                [Event "3"]
+
+                1. d4 d5 *
+                """;
+        PgnImportService service = new PgnImportService(new BrokenStore(),
+                new GameTimers(new SimpleMeterRegistry(), 100, 1),
+                new ClusterRouter(new ObjectMapper(), "", "", "", 1_000, "jpa"), 60_000, 1);
+        try {
+            PgnImportResponse r = service.importPgn(new ByteArrayInputStream(pgn.getBytes(StandardCharsets.UTF_8)));
+
+            assertEquals(0, r.imported());
+            assertEquals(1, r.skipped());
+            assertEquals(2, r.failed());
+            assertEquals(List.of("Partida 2: Lance ilegal: e4", "Partidas 1-3: falha ao gravar"), r.errors());
+        } finally {
+            service.shutdown();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.app.chess.service.book;
+
+import com.app.chess.service.board.Moves;
+import com.app.chess.service.board.Position;
+import com.app.chess.service.fen.FenCodec;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OpeningBookTest {
+
+    private static int[] uci(String... moves) {
+        int[] out = new int[moves.length];
+        for (int i = 0; i < moves.length; i++) out[i] = Moves.parseUci(moves[i]);
+        return out;
+    }
+
+    @Test
+    void buildsSortedFileAndFindsPositions(@TempDir Path dir) throws Exception {
+        BookBuilder builder = new BookBuilder(3);
+        builder.add(uci("e2e4", "e7e5", "g1f3", "b8c6"), 4, BookBuilder.WHITE_WINS);
+        builder.add(uci("e2e4", "c7c5", "g1f3"), 3, BookBuilder.DRAW);
+        builder.add(uci("e2e4", "e7e5", "f1c4"), 3, BookBuilder.BLACK_WINS);
+        builder.add(uci("d2d4", "d7d5"), 2, BookBuilder.WHITE_WINS);
+        Path file = dir.resolve("book.bin");
+        assertEquals(8 * OpeningBook.RECORD_SIZE, builder.write(file));
+
+        OpeningBook book = OpeningBook.open(file);
+        assertEquals(8, book.size());
+
+        List<BookEntry> start = book.lookup(FenCodec.parse(FenCodec.INITIAL_FEN).hash());
+        assertEquals(2, start.size());
+        assertEquals(new BookEntry(Moves.parseUci("e2e4"), 1, 1, 1), start.get(0));
+        assertEquals(new BookEntry(Moves.parseUci("d2d4"), 1, 0, 0), start.get(1));
+
+        Position afterE5 = FenCodec.parse(FenCodec.INITIAL_FEN);
+        afterE5.makeMove(Moves.parseUci("e2e4"));
+        afterE5.makeMove(Moves.parseUci("e7e5"));
+        assertEquals(2, book.lookup(afterE5.hash()).size());
+
+        // Beyond maxPlies and unknown positions
+        afterE5.makeMove(Moves.parseUci("g1f3"));
+        assertTrue(book.lookup(afterE5.hash()).isEmpty());
+        assertTrue(OpeningBook.empty().lookup(0L).isEmpty());
+    }
+}
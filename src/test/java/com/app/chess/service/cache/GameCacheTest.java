@@ -0,0 +1,59 @@
+package com.app.chess.service.cache;
+
+import com.app.chess.model.Game;
+import com.app.chess.service.fen.FenCodec;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class GameCacheTest {
+
+    private static GameState state(long id) {
+        return new GameState(new Game(id, Instant.EPOCH, 0L, FenCodec.INITIAL_FEN,
+                FenCodec.parse(FenCodec.INITIAL_FEN).hash()));
+    }
+
+    @Test
+    void clockKeepsReferencedGamesAndEvictedSlotsAreReused() {
+        GameCache cache = new GameCache(2);
+        AtomicInteger loads = new AtomicInteger();
+        cache.put(state(1));
+        cache.put(state(2));
+        GameState one = cache.get(1L, id -> {
+            loads.incrementAndGet();
+            return state(id);
+        });
+
+        cache.put(state(3));                 // sweeps past 1, evicts 2
+        assertEquals(2, cache.size());
+        assertSame(one, cache.get(1L, id -> {
+            loads.incrementAndGet();
+            return state(id);
+        }));
+        assertEquals(0, loads.get());
+
+        cache.evict(3L);
+        cache.put(state(4));                 // takes 3's slot, nothing evicted
+        assertEquals(2, cache.size());
+        assertSame(one, cache.get(1L, GameCacheTest::state));
+        GameState two = cache.get(2L, GameCacheTest::state);
+        assertSame(two, cache.get(2L, GameCacheTest::state));
+    }
+
+    @Test
+    void racingLoadsShareTheFirstCachedState() {
+        GameCache cache = new GameCache(10);
+        GameState first = state(7);
+        // Another request caches the game while this one is loading it
+        GameState got = cache.get(7L, id -> {
+            cache.put(first);
+            return state(id);
+        });
+        assertSame(first, got);
+        assertSame(first, cache.get(7L, GameCacheTest::state));
+    }
+}
@@ -0,0 +1,66 @@
+package com.app.chess.service.cache;
+
+import com.app.chess.service.board.Moves;
+import com.app.chess.service.board.Position;
+import com.app.chess.service.fen.FenCodec;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PositionCacheTest {
+
+    private static Position after(String... moves) {
+        Position pos = FenCodec.parse(FenCodec.INITIAL_FEN);
+        for (String m : moves) pos.makeMove(Moves.parseUci(m));
+        return pos;
+    }
+
+    @Test
+    void sharesInfoAcrossTranspositions() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        PositionCache cache = new PositionCache(registry, 100);
+
+        PositionInfo first = cache.get(after("g1f3", "g8f6", "b1c3"));
+        PositionInfo second = cache.get(after("b1c3", "g8f6", "g1f3"));
+        assertSame(first, second);
+        assertEquals(1, cache.hits());
+        assertEquals(1, cache.misses());
+        assertEquals(22, first.legalMoves().length);
+        assertTrue(first.hasLegalMove());
+        assertFalse(first.inCheck());
+        assertEquals(1.0, registry.get("chess.position.cache.requests").tag("result", "hit")
+                .functionCounter().count());
+    }
+
+    @Test
+    void clockKeepsReferencedEntries() {
+        PositionCache cache = new PositionCache(new SimpleMeterRegistry(), 2);
+        Position a = after("e2e4");
+        Position b = after("d2d4");
+        cache.get(a);
+        cache.get(b);
+        cache.get(a);                  // a referenced, b not
+        cache.get(after("c2c4"));      // sweeps past a, evicts b
+        assertEquals(2, cache.size());
+
+        long misses = cache.misses();
+        cache.get(a);
+        assertEquals(misses, cache.misses());
+        cache.get(b);
+        assertEquals(misses + 1, cache.misses());
+    }
+
+    @Test
+    void zeroCapacityNeverCaches() {
+        PositionCache cache = new PositionCache(new SimpleMeterRegistry(), 0);
+        Position pos = after("e2e4");
+        assertEquals(cache.get(pos).legalMoves().length, cache.get(pos).legalMoves().length);
+        assertEquals(0, cache.hits());
+        assertEquals(2, cache.misses());
+        assertEquals(0, cache.size());
+    }
+}
@@ -0,0 +1,33 @@
+package com.app.chess.service.clock;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class GameTimersTest {
+
+    @Test
+    void pollsEveryShardInBatchesAndEachGameOnce() {
+        GameTimers timers = new GameTimers(new SimpleMeterRegistry(), 100, 8);
+        long now = System.currentTimeMillis();
+        for (long id = 1; id <= 1000; id++) timers.schedule(id, id % 2 == 0 ? now - 1 : now + 60_000);
+        timers.schedule(2, now + 60_000);
+        timers.cancel(4);
+        assertEquals(999, timers.size());
+
+        long[] all = new long[0];
+        long[] due;
+        while ((due = timers.pollDue(now + 200, 64)).length > 0) {
+            all = Arrays.copyOf(all, all.length + due.length);
+            System.arraycopy(due, 0, all, all.length - due.length, due.length);
+        }
+        Arrays.sort(all);
+        assertArrayEquals(LongStream.rangeClosed(6, 1000).filter(id -> id % 2 == 0).toArray(), all);
+        assertEquals(501, timers.size());
+    }
+}
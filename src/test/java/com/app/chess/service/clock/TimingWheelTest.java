@@ -0,0 +1,68 @@
+package com.app.chess.service.clock;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimingWheelTest {
+
+    private static long[] poll(TimingWheel wheel, long now) {
+        long[] out = new long[16];
+        long[] all = new long[0];
+        int n;
+        while ((n = wheel.poll(now, out)) > 0) {
+            all = Arrays.copyOf(all, all.length + n);
+            System.arraycopy(out, 0, all, all.length - n, n);
+        }
+        Arrays.sort(all);
+        return all;
+    }
+
+    @Test
+    void firesOnceAtDeadlineAfterRescheduleAndCancel() {
+        TimingWheel wheel = new TimingWheel(100, 0);
+        wheel.schedule(1, 250);
+        wheel.schedule(2, 250);
+        wheel.schedule(3, 5_000);
+        wheel.schedule(2, 10_000);
+        wheel.cancel(3);
+
+        assertArrayEquals(new long[0], poll(wheel, 299));
+        assertArrayEquals(new long[]{1}, poll(wheel, 300));
+        assertArrayEquals(new long[0], poll(wheel, 9_999));
+        assertArrayEquals(new long[]{2}, poll(wheel, 10_000));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void cascadesEveryLevelWithoutFiringEarly() {
+        TimingWheel wheel = new TimingWheel(10, 1_234);
+        Random random = new Random(7);
+        long horizon = 10L << (TimingWheel.BITS * TimingWheel.LEVELS + 1);
+        long[] deadlines = new long[20_000];
+        for (int i = 0; i < deadlines.length; i++) {
+            deadlines[i] = 1_234 + (i % 3 == 0 ? random.nextInt(5_000) : (long) (random.nextDouble() * horizon));
+            wheel.schedule(i, deadlines[i]);
+        }
+
+        long[] sorted = deadlines.clone();
+        Arrays.sort(sorted);
+        int fired = 0;
+        for (long now = 1_234; fired < deadlines.length; now += 1 + now / 50) {
+            for (long id : poll(wheel, now)) {
+                assertTrue(deadlines[(int) id] <= now, "disparou antes do prazo");
+                fired++;
+            }
+            // Everything due at least one tick ago has fired
+            if (fired < deadlines.length && sorted[fired] <= now - 10) {
+                throw new AssertionError("prazo " + sorted[fired] + " não disparou até " + now);
+            }
+        }
+        assertEquals(0, wheel.size());
+    }
+}
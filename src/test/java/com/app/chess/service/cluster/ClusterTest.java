@@ -0,0 +1,160 @@
+package com.app.chess.service.cluster;
+
+import com.app.chess.ChessApplication;
+import com.app.chess.service.cache.GameCache;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Ring balance, and clusters of 1, 2 and 3 nodes on localhost sharing one H2
+ * file: clients enter through random nodes, so most requests are forwarded,
+ * and every move must land exactly once with all nodes agreeing on the
+ * result. {@code ClusterBenchmark} measures the throughput per cluster size.
+ */
+class ClusterTest {
+
+    private static final String[][] OPENING = {
+            {"e2", "e4", "WHITE"}, {"e7", "e5", "BLACK"},
+            {"g1", "f3", "WHITE"}, {"b8", "c6", "BLACK"},
+            {"f1", "b5", "WHITE"}, {"a7", "a6", "BLACK"},
+            {"b5", "a4", "WHITE"}, {"g8", "f6", "BLACK"},
+            {"e1", "g1", "WHITE"}, {"f8", "e7", "BLACK"}
+    };
+    private static final String AFTER_OPENING = "r1bqk2r/1pppbppp/p1n2n2/4p3/B3P3/5N2/PPPP1PPP/RNBQ1RK1 w kq - 4 6";
+    private static final int CLIENTS = 8;
+    private static final int GAMES_PER_CLIENT = 8;
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+    private final HttpClient http = HttpClient.newHttpClient();
+
+    @Test
+    void ringSpreadsGamesAndMovesFewOnResize() {
+        HashRing three = new HashRing(List.of("http://a", "http://b", "http://c"));
+        HashRing four = new HashRing(List.of("http://a", "http://b", "http://c", "http://d"));
+        Map<String, Integer> counts = new HashMap<>();
+        int moved = 0;
+        for (long id = 1; id <= 30_000; id++) {
+            String owner = three.owner(id);
+            counts.merge(owner, 1, Integer::sum);
+            if (!owner.equals(four.owner(id))) moved++;
+        }
+        counts.values().forEach(n -> assertTrue(n > 8_000 && n < 12_000, counts.toString()));
+        // Only the games the new node takes over move: about a quarter
+        assertTrue(moved > 6_000 && moved < 9_000, "moved=" + moved);
+    }
+
+    @Test
+    void forwardedMovesLandOnceAndAllNodesAgree(@TempDir Path dir) throws Exception {
+        for (int nodes = 1; nodes <= 3; nodes++) {
+            List<ConfigurableApplicationContext> cluster = start(nodes, dir.resolve("db" + nodes));
+            try {
+                runRound(cluster);
+            } finally {
+                cluster.forEach(ConfigurableApplicationContext::close);
+            }
+        }
+    }
+
+    private void runRound(List<ConfigurableApplicationContext> cluster) throws Exception {
+        List<String> urls = cluster.stream().map(c -> c.getBean(ClusterRouter.class).self()).toList();
+        ExecutorService pool = Executors.newFixedThreadPool(CLIENTS);
+        List<Future<List<Long>>> clients = new ArrayList<>();
+        for (int c = 0; c < CLIENTS; c++) {
+            clients.add(pool.submit(() -> {
+                List<Long> ids = new ArrayList<>();
+                for (int g = 0; g < GAMES_PER_CLIENT; g++) {
+                    long id = JSON.readTree(send(any(urls), "POST", "/api/games", null, 201)).get("gameId").asLong();
+                    for (String[] m : OPENING) {
+                        send(any(urls), "POST", "/api/games/" + id + "/moves",
+                                "{\"fromSquare\":\"" + m[0] + "\",\"toSquare\":\"" + m[1]
+                                        + "\",\"playerColor\":\"" + m[2] + "\"}", 201);
+                    }
+                    ids.add(id);
+                }
+                return ids;
+            }));
+        }
+        List<Long> ids = new ArrayList<>();
+        for (Future<List<Long>> f : clients) ids.addAll(f.get());
+        pool.shutdown();
+
+        ClusterRouter router = cluster.get(0).getBean(ClusterRouter.class);
+        for (Long id : ids) {
+            for (String url : urls) {
+                // A forged forwarding mark is ignored: the read still goes to the owner
+                JsonNode game = JSON.readTree(send(url, "GET", "/api/games/" + id, null, 200,
+                        ClusterRouter.FORWARDED, "forjado"));
+                assertEquals(AFTER_OPENING, game.get("fen").asText());
+                assertEquals(OPENING.length, game.get("moves").size());
+            }
+        }
+        for (String url : urls) {
+            assertTrue(LongStream.rangeClosed(1, 1000).anyMatch(id -> router.owner(id).equals(url)));
+        }
+        // Games created through a node that does not own them are cached only by their owner
+        for (ConfigurableApplicationContext node : cluster) {
+            String self = node.getBean(ClusterRouter.class).self();
+            assertEquals(ids.stream().filter(id -> router.owner(id).equals(self)).count(),
+                    node.getBean(GameCache.class).size(), self);
+        }
+    }
+
+    private String send(String node, String method, String path, String body, int expectedStatus,
+                        String... headers) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(node + path))
+                .header("Content-Type", "application/json")
+                .method(method, body == null ? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofString(body));
+        if (headers.length > 0) request.headers(headers);
+        HttpResponse<String> response = http.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        assertEquals(expectedStatus, response.statusCode(), method + " " + path + ": " + response.body());
+        return response.body();
+    }
+
+    private static String any(List<String> urls) {
+        return urls.get(ThreadLocalRandom.current().nextInt(urls.size()));
+    }
+
+    private static List<ConfigurableApplicationContext> start(int nodes, Path db) throws Exception {
+        List<String> urls = new ArrayList<>();
+        for (int i = 0; i < nodes; i++) {
+            try (ServerSocket s = new ServerSocket(0)) {
+                urls.add("http://localhost:" + s.getLocalPort());
+            }
+        }
+        List<ConfigurableApplicationContext> cluster = new ArrayList<>();
+        for (String url : urls) {
+            cluster.add(new SpringApplicationBuilder(ChessApplication.class).run(
+                    "--spring.profiles.active=cluster",
+                    "--server.port=" + url.substring(url.lastIndexOf(':') + 1),
+                    "--spring.datasource.url=jdbc:h2:file:" + db.toAbsolutePath() + ";AUTO_SERVER=TRUE",
+                    "--chess.cluster.nodes=" + String.join(",", urls),
+                    "--chess.cluster.self=" + url,
+                    "--chess.cluster.secret=segredo-de-teste",
+                    "--logging.level.root=WARN"));
+        }
+        return cluster;
+    }
+}
@@ -0,0 +1,68 @@
+package com.app.chess.service.events;
+
+import com.app.chess.dto.GameEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+class GameEventsTest {
+
+    private static final int BUFFER = 4;
+
+    private static GameEvent event(long gameId, long version) {
+        return new GameEvent(gameId, version, (int) version, null, null, null, null, null, null, null);
+    }
+
+    @Test
+    void stalledSubscriberDelaysNoOneElseAndIsDroppedWhenItFallsBehind() throws Exception {
+        CountDownLatch stalled = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        BlockingQueue<String> fast = new LinkedBlockingQueue<>();
+        GameEvents events = new GameEvents(BUFFER, 60_000, false) {
+            @Override
+            SseEmitter newEmitter(long timeoutMs) {
+                // Game 1's client never reads: its first write blocks; game 2's writes arrive
+                boolean slow = subscriberCount(1L) == 0;
+                return new SseEmitter(timeoutMs) {
+                    @Override
+                    public void send(SseEventBuilder builder) {
+                        if (slow) {
+                            stalled.countDown();
+                            try {
+                                release.await();
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            }
+                        } else {
+                            fast.add("sent");
+                        }
+                    }
+                };
+            }
+        };
+        try {
+            events.subscribe(1L, event(1, 0));
+            assertEquals(true, stalled.await(5, TimeUnit.SECONDS));
+            events.subscribe(2L, event(2, 0));
+            events.publish(2L, event(2, 1));
+            assertNotNull(fast.poll(5, TimeUnit.SECONDS));
+            assertNotNull(fast.poll(5, TimeUnit.SECONDS));
+
+            for (int v = 1; v <= BUFFER; v++) events.publish(1L, event(1, v));
+            assertEquals(1, events.subscriberCount(1L));
+            events.publish(1L, event(1, BUFFER + 1));
+            assertEquals(0, events.subscriberCount(1L));
+            assertEquals(1, events.subscriberCount(2L));
+        } finally {
+            release.countDown();
+            events.shutdown();
+        }
+    }
+}
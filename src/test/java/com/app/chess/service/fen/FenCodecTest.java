@@ -0,0 +1,71 @@
+package com.app.chess.service.fen;
+
+import com.app.chess.service.board.Moves;
+import com.app.chess.service.board.Position;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Positions the move generator cannot handle must be rejected at parse time.
+ */
+class FenCodecTest {
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "P3k3/8/8/8/8/8/8/4K3 w - - 0 1           | FEN inválida: peão na primeira ou na última rank",
+            "4k3/8/8/8/8/8/8/p3K3 b - - 0 1           | FEN inválida: peão na primeira ou na última rank",
+            "8/8/8/8/8/8/8/4K3 w - - 0 1              | FEN inválida: cada lado precisa de exatamente um rei",
+            "4k3/8/8/8/8/8/8/8 w - - 0 1              | FEN inválida: cada lado precisa de exatamente um rei",
+            "4k3/8/8/8/8/8/8/3KK3 w - - 0 1           | FEN inválida: cada lado precisa de exatamente um rei",
+            "4k3/8/8/3PN3/8/8/8/4K3 w - e6 0 1        | FEN inválida: en passant",
+            "4k3/8/4n3/3Pp3/8/8/8/4K3 w - e6 0 1      | FEN inválida: en passant",
+            "4k3/8/8/3PP3/8/8/8/4K3 w - e6 0 1        | FEN inválida: en passant",
+            "4k3/8/8/8/4P3/8/8/4K3 w - e3 0 1         | FEN inválida: en passant",
+            "4k3/8/8/8/8/8/8/r3K3 b - - 0 1           | FEN inválida: o lado que não joga está em xeque",
+            "4k3/8/8/8/8/8/4r3/4K3 b - - 0 1          | FEN inválida: o lado que não joga está em xeque"
+    })
+    void rejectsPositionsTheGeneratorCannotPlay(String fen, String message) {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> FenCodec.parse(fen));
+        assertEquals(message, e.getMessage());
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "4k3/8/8/8/8/8/8/4K3 w - - 0 1234567890         | FEN inválida: relógio",
+            "4k3/8/8/8/8/8/8/4K3 w - - 9999999999 1         | FEN inválida: relógio",
+            "4k3/8/8/8/8/8/8/4K3 w - - 0 1x                 | FEN inválida: relógio",
+            "r3k2r/8/8/8/8/8/8/R3K2R w KK - 0 1             | FEN inválida: roque",
+            "r3k2r/8/8/8/8/8/8/R3K2R w kqKQ - 0 1           | FEN inválida: roque",
+            "r3k2r/8/8/8/8/8/8/R3K2R w KQx - 0 1            | FEN inválida: roque",
+            "r3k2r/8/8/8/8/8/8/R3K2R w -KQ - 0 1            | FEN inválida: roque",
+            "r3k2r/8/8/8/8/8/8/R3K2R w -- 0 1               | FEN inválida: roque",
+            "rnbqkbnr/pppppppp/8/8/4P3/8/PPPP1PPP/RNBQKBNR b KQkq e30 1 | FEN inválida: en passant",
+            "4k3/8/8/8/8/8/8/4K3 w- - 0 1                   | FEN inválida: turno deve ser w ou b"
+    })
+    void rejectsMalformedFields(String fen, String message) {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> FenCodec.parse(fen));
+        assertEquals(message, e.getMessage());
+    }
+
+    @Test
+    void acceptsTheLargestClocksAndAnySubsetOfCastlingRights() {
+        String fen = "r3k2r/8/8/8/8/8/8/R3K2R w Kq - 999999999 999999999";
+        Position pos = FenCodec.parse(fen);
+        assertEquals(Position.CASTLE_WK | Position.CASTLE_BQ, pos.castling());
+        assertEquals(fen, FenCodec.toFen(pos));
+    }
+
+    @Test
+    void acceptsTheEnPassantSquareOfADoublePush() {
+        Position pos = FenCodec.parse(FenCodec.INITIAL_FEN);
+        pos.makeMove(Moves.parseUci("e2e4"));
+        String fen = FenCodec.toFen(pos);
+        assertEquals("rnbqkbnr/pppppppp/8/8/4P3/8/PPPP1PPP/RNBQKBNR b KQkq e3 0 1", fen);
+        assertEquals(fen, FenCodec.toFen(FenCodec.parse(fen)));
+        assertEquals(fen.replace(" e3 ", " - "), FenCodec.toFen(FenCodec.parse(fen.replace(" e3 ", " - "))));
+    }
+}
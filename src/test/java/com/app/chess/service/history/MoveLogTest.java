@@ -0,0 +1,47 @@
+package com.app.chess.service.history;
+
+import com.app.chess.service.board.Moves;
+import com.app.chess.service.board.Position;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MoveLogTest {
+
+    @Test
+    void roundTripsMovesAndTimestamps() {
+        long base = 1_700_000_000_123L;
+        int[] moves = {
+                Moves.parseUci("e2e4"),
+                Moves.capture(Moves.parseUci("d5e4")),
+                Moves.parseUci("a7a8q"),
+                Moves.capture(Moves.of(63, 0, Position.KNIGHT))
+        };
+        // Same millisecond, a long think, and a clock that went backwards
+        long[] at = {base + 5, base + 5, base + 86_400_000L * 3, base + 86_400_000L * 3 - 250};
+
+        MoveLog log = new MoveLog(base);
+        for (int i = 0; i < moves.length; i++) log.append(moves[i], at[i]);
+
+        MoveLog decoded = MoveLog.decode(log.toByteArray(), base);
+        assertEquals(moves.length, decoded.size());
+        for (int i = 0; i < moves.length; i++) {
+            assertEquals(moves[i], decoded.move(i));
+            assertEquals(at[i], decoded.millis(i));
+        }
+
+        decoded.append(Moves.parseUci("g1f3"), at[3] + 1);
+        assertEquals(log.length() + 3, decoded.length());
+    }
+
+    @Test
+    void rejectsTruncatedLog() {
+        MoveLog log = new MoveLog(0);
+        log.append(Moves.parseUci("e2e4"), 1_000_000);
+        byte[] truncated = Arrays.copyOf(log.toByteArray(), log.length() - 1);
+        assertThrows(IllegalStateException.class, () -> MoveLog.decode(truncated, 0));
+    }
+}
@@ -0,0 +1,62 @@
+package com.app.chess.service.load;
+
+import com.app.chess.exception.GlobalExceptionHandler;
+import com.app.chess.service.GameService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Plays seeded self-play games in-process and over HTTP: both must finish
+ * without errors, with one move request per ply. A move out of turn must
+ * surface as the handler's 400 on both targets.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.jpa.show-sql=false")
+class LoadGeneratorTest {
+
+    @LocalServerPort
+    private int port;
+    @Autowired
+    private GameService service;
+    @Autowired
+    private GlobalExceptionHandler handler;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void inProcessAndHttpGamesFinishWithoutErrors() throws Exception {
+        LoadGenerator.Settings settings = new LoadGenerator.Settings(12, 4, LoadGenerator.Player.RANDOM, 0,
+                ThinkTime.parse("none"), 60, 42);
+        LoadGenerator.Report local = new LoadGenerator(settings).run(new InProcessTarget(service, handler));
+        LoadGenerator.Report remote = new LoadGenerator(settings)
+                .run(new HttpTarget("http://localhost:" + port, objectMapper));
+
+        for (LoadGenerator.Report report : new LoadGenerator.Report[]{local, remote}) {
+            assertEquals(Map.of(), report.errors(), report.target());
+            assertEquals(12, report.latency().get(LoadGenerator.Operation.CREATE).count());
+            assertEquals(report.plies(), report.latency().get(LoadGenerator.Operation.MOVE).count());
+            assertTrue(report.plies() > 0);
+            assertEquals(12, report.outcomes().values().stream().mapToLong(Long::longValue).sum());
+        }
+    }
+
+    @Test
+    void rejectedMovesAreReportedByHandlerResponse() {
+        for (LoadTarget target : new LoadTarget[]{new InProcessTarget(service, handler),
+                new HttpTarget("http://localhost:" + port, objectMapper)}) {
+            long id = target.createGame();
+            LoadTarget.RequestFailed e = assertThrows(
+                    LoadTarget.RequestFailed.class, () -> target.move(id, "e7", "e5", "BLACK", null));
+            assertEquals(400, e.status(), target.name());
+        }
+    }
+}
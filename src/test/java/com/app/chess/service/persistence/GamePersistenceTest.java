@@ -0,0 +1,125 @@
+package com.app.chess.service.persistence;
+
+import com.app.chess.dto.GameSummary;
+import com.app.chess.model.Game;
+import com.app.chess.repository.GameFilter;
+import com.app.chess.repository.GameHistory;
+import com.app.chess.service.cache.GameCache;
+import com.app.chess.service.cache.GameState;
+import com.app.chess.service.fen.FenCodec;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class GamePersistenceTest {
+
+    /**
+     * Keeps games in a map; a write touching a game in {@link #failing}
+     * throws a plain {@link RuntimeException}, as a lost connection would.
+     */
+    private static final class FailingStore implements GameStore {
+        final Map<Long, Long> versions = new HashMap<>();
+        final Set<Long> failing = new HashSet<>();
+        final List<Collection<GameUpdate>> writes = new ArrayList<>();
+
+        @Override
+        public Game create(Game game) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<Long> createAll(List<Game> games) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Optional<Game> find(Long id) {
+            return Optional.of(game(id, versions.getOrDefault(id, 0L)));
+        }
+
+        @Override
+        public void write(Collection<GameUpdate> updates) {
+            writes.add(updates);
+            for (GameUpdate u : updates) {
+                if (failing.contains(u.gameId())) throw new RuntimeException("Conexão perdida");
+            }
+            updates.forEach(u -> versions.put(u.gameId(), u.version()));
+        }
+
+        @Override
+        public List<GameSummary> findPage(GameFilter filter, Instant afterCreatedAt, long afterId, int limit) {
+            return List.of();
+        }
+
+        @Override
+        public void forEachSummary(GameFilter filter, Consumer<GameSummary> action) {
+        }
+
+        @Override
+        public void forEachFinishedHistory(Consumer<GameHistory> action) {
+        }
+
+        @Override
+        public void forEachDeadline(DeadlineConsumer action) {
+        }
+    }
+
+    private static Game game(long id, long version) {
+        return new Game(id, Instant.EPOCH, version, FenCodec.INITIAL_FEN, FenCodec.parse(FenCodec.INITIAL_FEN).hash());
+    }
+
+    private static GameState moved(long id) {
+        GameState state = new GameState(game(id, 0));
+        state.setVersion(1);
+        return state;
+    }
+
+    @Test
+    void failedFlushWritesTheOtherGamesAndForgetsTheFailedOne() {
+        FailingStore store = new FailingStore();
+        GameCache cache = new GameCache(10);
+        GamePersistence persistence = new GamePersistence(store, cache, DurabilityMode.WRITE_BEHIND, 500, 100);
+        GameState one = moved(1);
+        GameState two = moved(2);
+        cache.put(one);
+        cache.put(two);
+        persistence.recordMoves(one, 0);
+        persistence.recordMoves(two, 0);
+        store.failing.add(1L);
+
+        persistence.flush();
+
+        assertEquals(1L, store.versions.get(2L));
+        assertNull(store.versions.get(1L));
+        // The cached copy is ahead of the store, so it goes; the other game stays
+        assertEquals(1, cache.size());
+        int writes = store.writes.size();
+        assertEquals(0, persistence.load(1L).getVersion());
+        assertEquals(writes, store.writes.size(), "load flushed a game with nothing queued");
+    }
+
+    @Test
+    void recordAllReportsGamesWhoseWriteFailed() {
+        FailingStore store = new FailingStore();
+        GamePersistence persistence = new GamePersistence(store, new GameCache(10), DurabilityMode.WRITE_BEHIND, 500, 100);
+        store.failing.add(1L);
+
+        boolean[] committed = persistence.recordAll(List.of(moved(1), moved(2)), new long[]{0, 0});
+
+        assertArrayEquals(new boolean[]{false, true}, committed);
+        assertEquals(1L, store.versions.get(2L));
+    }
+}
@@ -0,0 +1,185 @@
+package com.app.chess.service.persistence.eventlog;
+
+import com.app.chess.model.Game;
+import com.app.chess.model.GameStatus;
+import com.app.chess.repository.GameFilter;
+import com.app.chess.service.clock.Clock;
+import com.app.chess.service.fen.FenCodec;
+import com.app.chess.service.persistence.GameUpdate;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EventLogGameStoreTest {
+
+    private static final String AFTER_E4 = "rnbqkbnr/pppppppp/8/8/4P3/8/PPPP1PPP/RNBQKBNR b KQkq - 0 1";
+    private static final GameFilter ANY = new GameFilter(null, null, null);
+
+    private static Game newGame() {
+        return new Game(FenCodec.INITIAL_FEN, FenCodec.parse(FenCodec.INITIAL_FEN).hash());
+    }
+
+    private static GameUpdate move(Long id, long from, byte[] log) {
+        return new GameUpdate(id, AFTER_E4, 42, "BLACK", GameStatus.EM_EXECUCAO, null, from, from + 1,
+                log, log.length, Clock.of(0, 0, 0), 0);
+    }
+
+    private static EventLogGameStore open(Path dir) {
+        return new EventLogGameStore(dir.toString(), 1, false);
+    }
+
+    @Test
+    void replaysMovesAfterRestart(@TempDir Path dir) throws Exception {
+        EventLogGameStore store = open(dir);
+        Long id = store.create(newGame()).getId();
+        store.write(List.of(move(id, 0, new byte[]{1, 2, 3})));
+        store.write(List.of(move(id, 1, new byte[]{1, 2, 3, 4, 5, 6})));
+        assertThrows(ObjectOptimisticLockingFailureException.class,
+                () -> store.write(List.of(move(id, 1, new byte[]{9}))));
+        // Simulates a crash: no shutdown snapshot, the segment is replayed
+        EventLogGameStore reopened = open(dir);
+
+        Game game = reopened.find(id).orElseThrow();
+        assertEquals(2, game.getVersion());
+        assertEquals(AFTER_E4, game.getBoardState());
+        assertEquals("BLACK", game.getTurn());
+        assertArrayEquals(new byte[]{1, 2, 3, 4, 5, 6}, game.getMoveLog());
+        assertEquals(id + 1, reopened.create(newGame()).getId());
+    }
+
+    @Test
+    void sharesTheGrowingMoveLogBuffer(@TempDir Path dir) throws Exception {
+        EventLogGameStore store = open(dir);
+        Long id = store.create(newGame()).getId();
+        // One buffer appended to between writes, as the game's MoveLog does
+        byte[] buffer = new byte[16];
+        for (int ply = 0; ply < 5; ply++) {
+            buffer[ply] = (byte) (ply + 1);
+            store.write(List.of(new GameUpdate(id, AFTER_E4, 42, "BLACK", GameStatus.EM_EXECUCAO, null,
+                    ply, ply + 1, buffer, ply + 1, Clock.of(0, 0, 0), 0)));
+        }
+        buffer[5] = 99;
+
+        assertArrayEquals(new byte[]{1, 2, 3, 4, 5}, store.find(id).orElseThrow().getMoveLog());
+        EventLogGameStore reopened = open(dir);
+        assertArrayEquals(new byte[]{1, 2, 3, 4, 5}, reopened.find(id).orElseThrow().getMoveLog());
+        assertEquals(5, reopened.find(id).orElseThrow().getVersion());
+    }
+
+    @Test
+    void snapshotCoversOldSegments(@TempDir Path dir) throws Exception {
+        EventLogGameStore store = open(dir);
+        store.createAll(List.of(newGame(), newGame(), newGame()));
+        Long id = store.create(newGame()).getId();
+        store.snapshot();
+        store.write(List.of(move(id, 0, new byte[]{7, 8, 9})));
+        store.close();
+
+        try (Stream<Path> files = Files.list(dir)) {
+            assertEquals(1, files.filter(f -> f.getFileName().toString().startsWith("events-")).count());
+        }
+        EventLogGameStore reopened = open(dir);
+        assertEquals(4, reopened.findPage(ANY, Instant.EPOCH, 0, 10).size());
+        assertArrayEquals(new byte[]{7, 8, 9}, reopened.find(id).orElseThrow().getMoveLog());
+    }
+
+    @Test
+    void dropsTornFrameAtTheEnd(@TempDir Path dir) throws Exception {
+        EventLogGameStore store = open(dir);
+        Long id = store.create(newGame()).getId();
+        store.write(List.of(move(id, 0, new byte[]{1, 2, 3})));
+
+        // Corrupts the last byte of the last frame, as a write cut short would
+        Path segment;
+        try (Stream<Path> files = Files.list(dir)) {
+            segment = files.filter(f -> f.getFileName().toString().startsWith("events-")).sorted()
+                    .reduce((a, b) -> b).orElseThrow();
+        }
+        try (RandomAccessFile f = new RandomAccessFile(segment.toFile(), "rw")) {
+            long end = 0;
+            while (true) {
+                f.seek(end);
+                int length = f.readInt();
+                if (length == 0) break;
+                end += EventLog.FRAME_HEADER + length;
+            }
+            f.seek(end - 1);
+            f.write(0x55);
+        }
+
+        EventLogGameStore reopened = open(dir);
+        Game game = reopened.find(id).orElseThrow();
+        assertEquals(0, game.getVersion());
+        assertTrue(game.getMoveLog().length == 0);
+    }
+
+    @Test
+    void refusesCorruptionBeforeTheLastSegment(@TempDir Path dir) throws Exception {
+        EventLogGameStore store = open(dir);
+        Long id = store.create(newGame()).getId();
+        // Larger than a segment, so it gets one of its own and the next write a third one
+        store.write(List.of(move(id, 0, new byte[2 << 20])));
+        store.write(List.of(move(id, 1, new byte[]{1})));
+
+        Path first;
+        try (Stream<Path> files = Files.list(dir)) {
+            first = files.filter(f -> f.getFileName().toString().startsWith("events-")).sorted()
+                    .findFirst().orElseThrow();
+        }
+        try (RandomAccessFile f = new RandomAccessFile(first.toFile(), "rw")) {
+            f.seek(EventLog.FRAME_HEADER);
+            f.write(f.read() ^ 0x55);
+        }
+
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> open(dir));
+        assertTrue(e.getMessage().startsWith("Log de eventos corrompido: "), e.getMessage());
+    }
+
+    @Test
+    void refusesSegmentsLargerThanOneMapping(@TempDir Path dir) {
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> new EventLogGameStore(dir.toString(), 2048, false));
+        assertEquals("chess.store.event-log.segment-mb deve estar entre 1 e 1024", e.getMessage());
+    }
+
+    @Test
+    void refusesRecordsOfAnotherFormat(@TempDir Path dir) throws Exception {
+        EventLogGameStore store = open(dir);
+        store.create(newGame());
+
+        // Rewrites the first record's format byte, with a valid CRC, as an older layout would have it
+        Path segment;
+        try (Stream<Path> files = Files.list(dir)) {
+            segment = files.filter(f -> f.getFileName().toString().startsWith("events-")).sorted()
+                    .reduce((a, b) -> b).orElseThrow();
+        }
+        try (RandomAccessFile f = new RandomAccessFile(segment.toFile(), "rw")) {
+            byte[] payload = new byte[f.readInt()];
+            f.seek(EventLog.FRAME_HEADER);
+            f.readFully(payload);
+            payload[4] = 0;
+            CRC32 crc = new CRC32();
+            crc.update(payload);
+            f.seek(4);
+            f.writeInt((int) crc.getValue());
+            f.write(payload);
+        }
+
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> open(dir));
+        assertEquals("Log de eventos em formato desconhecido: versão 0, esperada " + StoredGame.FORMAT,
+                e.getMessage());
+    }
+}
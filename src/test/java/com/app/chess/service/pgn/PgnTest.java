@@ -0,0 +1,85 @@
+package com.app.chess.service.pgn;
+
+import com.app.chess.service.board.Moves;
+import com.app.chess.service.board.Position;
+import com.app.chess.service.fen.FenCodec;
+import com.app.chess.service.history.MoveLog;
+import com.app.chess.service.rules.MoveGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PgnTest {
+
+    private static final String OPERA_GAME = """
+            [Event "Paris"]
+            [White "Paul Morphy"]
+            [Black "Duke Karl / Count Isouard"]
+            [Result "1-0"]
+
+            1.e4 e5 2.Nf3 d6 3.d4 Bg4 {This is a weak move already.} 4.dxe5 Bxf3 5.Qxf3 dxe5
+            6.Bc4 Nf6 7.Qb3 Qe7 8.Nc3 c6 9.Bg5 (9.Qxb7 Qb4+) b5 $6 10.Nxb5 cxb5 11.Bxb5+ Nbd7
+            12.O-O-O Rd8 13.Rxd7 Rxd7 14.Rd1 Qe6 15.Bxd7+ Nxd7 16.Qb8+ Nxb8 17.Rd8# 1-0
+            % escape line
+            [Event "?"]
+
+            1. d4 d5 ; rest of line ignored
+            2. c4 *
+            """;
+
+    @Test
+    void readsResolvesAndWritesBack() {
+        PgnReader reader = new PgnReader(new StringReader(OPERA_GAME));
+        PgnGame opera = reader.next();
+        PgnGame second = reader.next();
+        assertNull(reader.next());
+
+        assertEquals("Paul Morphy", opera.tags().get("White"));
+        assertEquals("1-0", opera.result());
+        assertEquals(33, opera.moves().size());
+        assertEquals(List.of("d4", "d5", "c4"), second.moves());
+        assertEquals("*", second.result());
+
+        Position pos = FenCodec.parse(FenCodec.INITIAL_FEN);
+        int[] legal = new int[MoveGenerator.MAX_MOVES];
+        MoveLog log = new MoveLog(0);
+        for (String san : opera.moves()) {
+            int move = San.parse(pos, san, legal);
+            pos.makeMove(move);
+            log.append(move, 0);
+        }
+
+        StringBuilder sb = new StringBuilder();
+        Map<String, String> tags = new LinkedHashMap<>();
+        tags.put("Result", "1-0");
+        PgnWriter.write(tags, log, "1-0", sb);
+
+        PgnGame back = new PgnReader(new StringReader(sb.toString())).next();
+        assertEquals(opera.moves(), back.moves());
+        assertEquals("1-0", back.result());
+    }
+
+    @Test
+    void handlesPromotionAndRejectsIllegalMoves() {
+        Position pos = FenCodec.parse("8/P7/8/8/8/8/8/k6K w - - 0 1");
+        int[] legal = new int[MoveGenerator.MAX_MOVES];
+
+        int knight = San.parse(pos, "a8=N", legal);
+        assertEquals(Position.KNIGHT, Moves.promotion(knight));
+        int queen = San.parse(pos, "a8Q", legal);
+
+        StringBuilder sb = new StringBuilder();
+        San.write(pos, queen, sb, legal, new Position());
+        assertEquals("a8=Q+", sb.toString());
+
+        assertThrows(IllegalStateException.class, () -> San.parse(pos, "Kb2", legal));
+        assertThrows(IllegalStateException.class, () -> San.parse(pos, "Nf3", legal));
+    }
+}
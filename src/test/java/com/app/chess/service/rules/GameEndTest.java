@@ -0,0 +1,66 @@
+package com.app.chess.service.rules;
+
+import com.app.chess.service.board.Position;
+import com.app.chess.service.fen.FenCodec;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GameEndTest {
+
+    @Test
+    void detectsMateAndStalemate() {
+        Position foolsMate = FenCodec.parse("rnb1kbnr/pppp1ppp/8/4p3/6Pq/5P2/PPPPP2P/RNBQKBNR w KQkq - 1 3");
+        assertEquals(GameEnd.Outcome.CHECKMATE, GameEnd.evaluate(foolsMate, 1, true));
+
+        Position stalemate = FenCodec.parse("7k/5Q2/6K1/8/8/8/8/8 b - - 0 1");
+        assertEquals(GameEnd.Outcome.STALEMATE, GameEnd.evaluate(stalemate, 1, true));
+    }
+
+    @Test
+    void detectsInsufficientMaterial() {
+        assertTrue(GameEnd.insufficientMaterial(FenCodec.parse("8/8/4k3/8/8/3BK3/8/8 w - - 0 1")));
+        assertTrue(GameEnd.insufficientMaterial(FenCodec.parse("8/8/4k3/8/2b5/3BK3/8/8 w - - 0 1")));
+        assertFalse(GameEnd.insufficientMaterial(FenCodec.parse("8/8/4k3/4b3/8/3BK3/8/8 w - - 0 1")));
+        assertFalse(GameEnd.insufficientMaterial(FenCodec.parse("8/8/4k3/8/8/2NNK3/8/8 w - - 0 1")));
+    }
+
+    @Test
+    void appliesMoveCountersAndClaims() {
+        Position fifty = FenCodec.parse("8/8/4k3/8/8/3RK3/8/8 w - - 100 80");
+        assertEquals(GameEnd.Outcome.FIFTY_MOVES, GameEnd.evaluate(fifty, 1, true));
+        assertEquals(GameEnd.Outcome.NONE, GameEnd.evaluate(fifty, 1, false));
+        assertEquals(GameEnd.Outcome.THREEFOLD_REPETITION, GameEnd.evaluate(fifty, 3, true));
+        assertEquals(GameEnd.Outcome.FIVEFOLD_REPETITION, GameEnd.evaluate(fifty, 5, false));
+
+        Position seventyFive = FenCodec.parse("8/8/4k3/8/8/3RK3/8/8 w - - 150 100");
+        assertEquals(GameEnd.Outcome.SEVENTY_FIVE_MOVES, GameEnd.evaluate(seventyFive, 1, false));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+            "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1",
+            "r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1"
+    })
+    void hasLegalMoveAgreesWithGenerator(String fen) {
+        walk(FenCodec.parse(fen), 3);
+    }
+
+    private static void walk(Position pos, int depth) {
+        int[] moves = new int[MoveGenerator.MAX_MOVES];
+        int n = MoveGenerator.generateLegal(pos, moves);
+        assertEquals(n > 0, MoveGenerator.hasLegalMove(pos), () -> FenCodec.toFen(pos));
+        if (depth == 0) return;
+        Position child = new Position();
+        for (int i = 0; i < n; i++) {
+            child.copyFrom(pos);
+            child.makeMove(moves[i]);
+            walk(child, depth - 1);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.app.chess.service.rules;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PerftSuiteTest {
+
+    private static final String SUITE = """
+            # standard positions
+            rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1 ;D1 20 ;D2 400 ;D5 4865609
+            r3k2r/8/8/8/8/8/8/R3K2R w KQkq - ;D1 26 ;D2 568 ;D3 13744
+
+            8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - ;D1 14 ;D2 191 ;D3 2812 ;D8 3009794393
+            """;
+
+    private static PerftSuite.Report run(String suite, int maxDepth) throws Exception {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            return new PerftSuite(pool, maxDepth).run(new BufferedReader(new StringReader(suite)));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void matchesExpectedCountsAndSkipsDeepOnes() throws Exception {
+        PerftSuite.Report report = run(SUITE, 5);
+        assertTrue(report.passed(), report.messages().toString());
+        assertEquals(3, report.positions());
+        assertEquals(9, report.checks());
+        assertEquals(1, report.skipped());
+    }
+
+    @Test
+    void reportsMismatchesAndBadLines() throws Exception {
+        PerftSuite.Report report = run("""
+                rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1 ;D1 20 ;D2 401
+                rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNX w KQkq - 0 1 ;D1 20
+                """, 3);
+        assertFalse(report.passed());
+        assertEquals(2, report.failures());
+        assertEquals("Linha 1: D2 esperado 401, obtido 400", report.messages().stream().sorted().toList().get(0));
+    }
+}
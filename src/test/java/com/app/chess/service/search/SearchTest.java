@@ -0,0 +1,46 @@
+package com.app.chess.service.search;
+
+import com.app.chess.service.board.Moves;
+import com.app.chess.service.fen.FenCodec;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SearchTest {
+
+    private static SearchResult search(String fen, int depth, int threads) {
+        ExecutorService helpers = Executors.newFixedThreadPool(Math.max(1, threads - 1));
+        try {
+            return new Search(FenCodec.parse(fen), new TranspositionTable(4), depth, 10_000, Long.MAX_VALUE)
+                    .run(threads, helpers);
+        } finally {
+            helpers.shutdownNow();
+        }
+    }
+
+    @Test
+    void findsMateInOneAndTwo() {
+        SearchResult backRank = search("6k1/5ppp/8/8/8/8/8/R5K1 w - - 0 1", 4, 1);
+        assertEquals("a1a8", Moves.toUci(backRank.bestMove()));
+        assertEquals(1, backRank.mateIn());
+
+        // 1.Nf6+ gxf6 2.Bxf7#
+        SearchResult mateInTwo = search("r2qkb1r/pp2nppp/3p4/2pNN1B1/2BnP3/3P4/PPP2PPP/R2bK2R w KQkq - 1 1", 6, 2);
+        assertEquals("d5f6", Moves.toUci(mateInTwo.bestMove()));
+        assertEquals(2, mateInTwo.mateIn());
+    }
+
+    @Test
+    void winsHangingMaterialAndHandlesTerminalPositions() {
+        SearchResult capture = search("4k3/8/8/3q4/8/8/3R4/4K3 w - - 0 1", 4, 2);
+        assertEquals("d2d5", Moves.toUci(capture.bestMove()));
+        assertTrue(capture.score() > 300);
+
+        SearchResult mated = search("rnb1kbnr/pppp1ppp/8/4p3/6Pq/5P2/PPPPP2P/RNBQKBNR w KQkq - 1 3", 3, 1);
+        assertEquals(Moves.NONE, mated.bestMove());
+    }
+}
@@ -0,0 +1,126 @@
+package com.app.chess.service.wire;
+
+import com.app.chess.dto.BoardResponse;
+import com.app.chess.dto.ClockResponse;
+import com.app.chess.dto.GameDetailsResponse;
+import com.app.chess.model.GameStatus;
+import com.app.chess.service.board.Moves;
+import com.app.chess.service.board.Position;
+import com.app.chess.service.board.Squares;
+import com.app.chess.service.clock.Clock;
+import com.app.chess.service.fen.FenCodec;
+import com.app.chess.service.history.MoveLog;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Decodes both messages as a client would, checks them against the position
+ * and history they were written from, and compares their size with the JSON
+ * of the same game.
+ */
+class BinaryWireTest {
+
+    private static final List<String> UCI = List.of("e2e4", "e7e5", "g1f3", "b8c6", "f1b5", "a7a6", "b5c6", "d7c6",
+            "e1g1", "f7f6");
+
+    @Test
+    void detailsDecodeToTheGameTheyWereWrittenFrom() throws Exception {
+        long created = Instant.parse("2026-01-01T10:00:00Z").toEpochMilli();
+        Position pos = FenCodec.parse(FenCodec.INITIAL_FEN);
+        MoveLog log = new MoveLog(created);
+        for (int i = 0; i < UCI.size(); i++) {
+            int move = Moves.parseUci(UCI.get(i));
+            pos.makeMove(move);
+            log.append(move, created + 7_000L * (i + 1));
+        }
+        String fen = FenCodec.toFen(pos);
+        Clock clock = new Clock(300_000, 2_000, 281_000, 290_500, created + 70_000);
+
+        byte[] bytes = BinaryWire.details(42, created, pos, fen, GameStatus.EM_EXECUCAO, "WHITE", null, clock, log);
+        ByteBuffer buf = ByteBuffer.wrap(bytes);
+        assertEquals(BinaryWire.VERSION, buf.get());
+        assertEquals(GameStatus.EM_EXECUCAO.ordinal(), buf.get());
+        assertEquals(0, buf.get());
+        assertEquals(0, buf.get());
+        assertEquals(BinaryWire.FLAG_CLOCK, buf.get());
+        byte[] squares = new byte[64];
+        buf.get(squares);
+        assertEquals(String.join("", FenCodec.boardTo8x8(pos)), new String(squares, StandardCharsets.US_ASCII));
+        byte[] fenBytes = new byte[buf.get() & 0xFF];
+        buf.get(fenBytes);
+        assertEquals(fen, new String(fenBytes, StandardCharsets.US_ASCII));
+        assertEquals(clock, new Clock(buf.getLong(), buf.getLong(), buf.getLong(), buf.getLong(), buf.getLong()));
+        assertEquals(42, buf.getLong());
+        assertEquals(created, buf.getLong());
+        byte[] moves = new byte[buf.getInt()];
+        buf.get(moves);
+        assertEquals(0, buf.remaining());
+
+        MoveLog decoded = MoveLog.decode(moves, created);
+        assertEquals(UCI.size(), decoded.size());
+        for (int i = 0; i < UCI.size(); i++) {
+            assertEquals(UCI.get(i), Moves.toUci(decoded.move(i)));
+            assertEquals(log.millis(i), decoded.millis(i));
+        }
+
+        ObjectMapper mapper = Jackson2ObjectMapperBuilder.json().build();
+        List<GameDetailsResponse.MoveItem> items = new ArrayList<>();
+        for (int i = 0; i < log.size(); i++) {
+            items.add(new GameDetailsResponse.MoveItem(Squares.name(Moves.from(log.move(i))),
+                    Squares.name(Moves.to(log.move(i))), null, i % 2 == 0 ? "WHITE" : "BLACK",
+                    Instant.ofEpochMilli(log.millis(i)).toString()));
+        }
+        byte[] json = mapper.writeValueAsBytes(new GameDetailsResponse(42L, "EM_EXECUCAO", "WHITE", null, fen,
+                ClockResponse.of(clock), FenCodec.boardTo8x8(pos), items));
+        System.out.printf("GET /{id}, %d lances: JSON %d bytes, binário %d bytes%n", UCI.size(), json.length,
+                bytes.length);
+        assertTrue(bytes.length * 3 < json.length);
+    }
+
+    @Test
+    void boardMatchesTheGridAndIsAFractionOfTheJson() throws Exception {
+        Position pos = FenCodec.parse("r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R b KQkq - 0 1");
+        String fen = FenCodec.toFen(pos);
+        Clock untimed = Clock.of(0, 0, 1_000);
+        byte[] bytes = BinaryWire.board(pos, fen, GameStatus.XEQUE_MATE, "BLACK", "WHITE", untimed);
+
+        assertEquals(5 + 64 + 1 + fen.length(), bytes.length);
+        assertArrayEquals(new byte[]{BinaryWire.VERSION, (byte) GameStatus.XEQUE_MATE.ordinal(), 1, 1, 0},
+                Arrays.copyOf(bytes, 5));
+        List<List<String>> grid = FenCodec.boardToGrid(pos);
+        for (int row = 0; row < 8; row++) {
+            for (int col = 0; col < 8; col++) {
+                assertEquals(grid.get(row).get(col), String.valueOf((char) bytes[5 + row * 8 + col]));
+            }
+        }
+
+        byte[] json = Jackson2ObjectMapperBuilder.json().build().writeValueAsBytes(new BoardResponse(
+                List.of("a", "b", "c", "d", "e", "f", "g", "h"), List.of(8, 7, 6, 5, 4, 3, 2, 1), grid, fen,
+                "BLACK", "WHITE", "XEQUE_MATE", null));
+        System.out.printf("GET /{id}/board: JSON %d bytes, binário %d bytes%n", json.length, bytes.length);
+        assertTrue(bytes.length * 3 < json.length);
+    }
+
+    @Test
+    void acceptPicksBinaryOnlyWhenPreferred() {
+        assertEquals(WireFormat.JSON, WireFormat.of(null));
+        assertEquals(WireFormat.JSON, WireFormat.of("*/*"));
+        assertEquals(WireFormat.JSON, WireFormat.of("application/json"));
+        assertEquals(WireFormat.JSON, WireFormat.of("não é um tipo"));
+        assertEquals(WireFormat.BINARY, WireFormat.of("application/x-chess-binary"));
+        assertEquals(WireFormat.BINARY, WireFormat.of("application/x-chess-binary, application/json;q=0.5"));
+        assertEquals(WireFormat.JSON, WireFormat.of("application/json, application/x-chess-binary;q=0.5"));
+    }
+}